@@ -0,0 +1,54 @@
+package com.coopcredit.creditapplication.application.usecases;
+
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Keyset paging shared by the listing use cases: bounds the requested page size and
+ * reads one row past the page, which tells whether another page exists without a count query.
+ */
+public final class KeysetPager {
+    
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    
+    public KeysetPager(int defaultPageSize, int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+    
+    /**
+     * @param requestedSize {@code null} for the default page size; otherwise capped at the maximum
+     * @param fetch         reads at most the given number of rows after the cursor, in keyset order
+     */
+    public <T> Slice<T> fetch(Integer requestedSize, IntFunction<List<T>> fetch) {
+        int limit = requestedSize == null ? defaultPageSize : Math.max(1, Math.min(requestedSize, maxPageSize));
+        List<T> rows = fetch.apply(limit + 1);
+        return rows.size() <= limit
+                ? new Slice<>(rows, false)
+                : new Slice<>(rows.subList(0, limit), true);
+    }
+    
+    public static void checkDateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("from", "from must not be after to");
+        }
+    }
+    
+    /**
+     * One page of rows; {@code hasNext} is {@code false} on the last page.
+     */
+    public record Slice<T>(List<T> items, boolean hasNext) {
+        
+        /**
+         * The cursor to the next page, built from the last row; {@code null} on the last page.
+         */
+        public <C> C next(Function<T, C> cursorOf) {
+            return hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        }
+    }
+}
\ No newline at end of file
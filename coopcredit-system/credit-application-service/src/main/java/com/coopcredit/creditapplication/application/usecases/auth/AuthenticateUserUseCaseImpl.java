@@ -1,28 +1,36 @@
 package com.coopcredit.creditapplication.application.usecases.auth;
 
 import com.coopcredit.creditapplication.domain.exception.UnauthorizedException;
+import com.coopcredit.creditapplication.domain.model.Member;
 import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.UserRole;
 import com.coopcredit.creditapplication.domain.ports.in.AuthenticateUserUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
 import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
 import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.coopcredit.creditapplication.infrastructure.security.PasswordHasher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Not transactional on purpose: the user lookup runs in its own short transaction and
+ * the connection is back in the pool before the password is checked on the hashing pool.
+ */
 @Service
-@Transactional(readOnly = true)
 public class AuthenticateUserUseCaseImpl implements AuthenticateUserUseCase {
     
     private final UserRepositoryPort userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final MemberRepositoryPort memberRepository;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     
     public AuthenticateUserUseCaseImpl(
             UserRepositoryPort userRepository,
-            PasswordEncoder passwordEncoder,
+            MemberRepositoryPort memberRepository,
+            PasswordHasher passwordHasher,
             JwtTokenProvider jwtTokenProvider) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.memberRepository = memberRepository;
+        this.passwordHasher = passwordHasher;
         this.jwtTokenProvider = jwtTokenProvider;
     }
     
@@ -35,13 +43,23 @@ public class AuthenticateUserUseCaseImpl implements AuthenticateUserUseCase {
             throw new UnauthorizedException("User account is disabled");
         }
         
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new UnauthorizedException("Invalid credentials");
         }
         
-        String token = jwtTokenProvider.generateToken(user);
+        // Hashes made before the cost was raised are replaced while the raw password is at hand
+        if (passwordHasher.needsUpgrade(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordHasher.encode(request.password()));
+        }
+        
+        // Resolved once here and carried in the token, so /me requests need no lookup
+        Long memberId = user.getRole() == UserRole.ROLE_MEMBER
+                ? memberRepository.findByUserId(user.getId()).map(Member::getId).orElse(null)
+                : null;
+        
+        String token = jwtTokenProvider.generateToken(user, memberId);
         long expiresIn = jwtTokenProvider.getExpirationTime();
         
-        return new AuthResponse(token, user.getUsername(), user.getRole().name(), expiresIn);
+        return new AuthResponse(token, user.getUsername(), user.getRole().name(), expiresIn, memberId);
     }
 }
\ No newline at end of file
@@ -4,20 +4,22 @@ import com.coopcredit.creditapplication.domain.exception.ConflictException;
 import com.coopcredit.creditapplication.domain.model.User;
 import com.coopcredit.creditapplication.domain.ports.in.RegisterUserUseCase;
 import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.coopcredit.creditapplication.infrastructure.security.PasswordHasher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Not transactional on purpose: no connection is held while the password is hashed.
+ * The unique username constraint still guards against a concurrent duplicate registration.
+ */
 @Service
-@Transactional
 public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
     
     private final UserRepositoryPort userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     
-    public RegisterUserUseCaseImpl(UserRepositoryPort userRepository, PasswordEncoder passwordEncoder) {
+    public RegisterUserUseCaseImpl(UserRepositoryPort userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
     
     @Override
@@ -29,7 +31,7 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
         
         User user = User.builder()
                 .username(command.username())
-                .password(passwordEncoder.encode(command.password()))
+                .password(passwordHasher.encode(command.password()))
                 .role(command.role())
                 .enabled(true)
                 .build();
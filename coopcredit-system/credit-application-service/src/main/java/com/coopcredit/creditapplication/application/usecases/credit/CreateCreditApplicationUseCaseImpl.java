@@ -7,6 +7,7 @@ import com.coopcredit.creditapplication.domain.model.Member;
 import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.ports.in.CreateCreditApplicationUseCase;
 import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationViewPort;
 import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,12 +20,15 @@ public class CreateCreditApplicationUseCaseImpl implements CreateCreditApplicati
     
     private final CreditApplicationRepositoryPort creditApplicationRepository;
     private final MemberRepositoryPort memberRepository;
+    private final CreditApplicationViewPort creditApplicationViews;
     
     public CreateCreditApplicationUseCaseImpl(
             CreditApplicationRepositoryPort creditApplicationRepository,
-            MemberRepositoryPort memberRepository) {
+            MemberRepositoryPort memberRepository,
+            CreditApplicationViewPort creditApplicationViews) {
         this.creditApplicationRepository = creditApplicationRepository;
         this.memberRepository = memberRepository;
+        this.creditApplicationViews = creditApplicationViews;
     }
     
     @Override
@@ -52,6 +56,8 @@ public class CreateCreditApplicationUseCaseImpl implements CreateCreditApplicati
                 .status(ApplicationStatus.PENDING)
                 .build();
         
-        return creditApplicationRepository.save(creditApplication);
+        CreditApplication saved = creditApplicationRepository.save(creditApplication);
+        creditApplicationViews.applicationCreated(saved, member);
+        return saved;
     }
 }
\ No newline at end of file
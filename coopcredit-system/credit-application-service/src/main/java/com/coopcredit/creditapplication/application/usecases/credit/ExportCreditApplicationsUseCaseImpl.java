@@ -0,0 +1,37 @@
+package com.coopcredit.creditapplication.application.usecases.credit;
+
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationExportRow;
+import com.coopcredit.creditapplication.domain.ports.in.ExportCreditApplicationsUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationExportPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@Transactional(readOnly = true)
+public class ExportCreditApplicationsUseCaseImpl implements ExportCreditApplicationsUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(ExportCreditApplicationsUseCaseImpl.class);
+    
+    private final CreditApplicationExportPort creditApplicationExport;
+    
+    public ExportCreditApplicationsUseCaseImpl(CreditApplicationExportPort creditApplicationExport) {
+        this.creditApplicationExport = creditApplicationExport;
+    }
+    
+    @Override
+    public long execute(ExportFilter filter, Consumer<CreditApplicationExportRow> consumer) {
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new ValidationException("from", "from must not be after to");
+        }
+        
+        long exported = creditApplicationExport.forEach(filter.status(), filter.from(), filter.to(), consumer);
+        log.info("Exported {} credit applications (status={}, from={}, to={})",
+                exported, filter.status(), filter.from(), filter.to());
+        return exported;
+    }
+}
\ No newline at end of file
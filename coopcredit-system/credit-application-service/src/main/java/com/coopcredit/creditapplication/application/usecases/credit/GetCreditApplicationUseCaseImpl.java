@@ -1,9 +1,9 @@
 package com.coopcredit.creditapplication.application.usecases.credit;
 
 import com.coopcredit.creditapplication.domain.exception.NotFoundException;
-import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
 import com.coopcredit.creditapplication.domain.ports.in.GetCreditApplicationUseCase;
-import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,15 +11,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class GetCreditApplicationUseCaseImpl implements GetCreditApplicationUseCase {
     
-    private final CreditApplicationRepositoryPort creditApplicationRepository;
+    private final CreditApplicationQueryPort creditApplicationQuery;
     
-    public GetCreditApplicationUseCaseImpl(CreditApplicationRepositoryPort creditApplicationRepository) {
-        this.creditApplicationRepository = creditApplicationRepository;
+    public GetCreditApplicationUseCaseImpl(CreditApplicationQueryPort creditApplicationQuery) {
+        this.creditApplicationQuery = creditApplicationQuery;
     }
     
     @Override
-    public CreditApplication execute(Long id) {
-        return creditApplicationRepository.findById(id)
+    public CreditApplicationSummary execute(Long id) {
+        return creditApplicationQuery.findSummaryById(id)
                 .orElseThrow(() -> new NotFoundException("CreditApplication", "id", id));
     }
 }
\ No newline at end of file
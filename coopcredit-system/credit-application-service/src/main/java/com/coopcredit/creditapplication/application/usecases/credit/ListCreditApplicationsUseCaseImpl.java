@@ -1,36 +1,40 @@
 package com.coopcredit.creditapplication.application.usecases.credit;
 
-import com.coopcredit.creditapplication.domain.model.CreditApplication;
-import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.application.usecases.KeysetPager;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
 import com.coopcredit.creditapplication.domain.ports.in.ListCreditApplicationsUseCase;
-import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort.SummaryFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Transactional(readOnly = true)
 public class ListCreditApplicationsUseCaseImpl implements ListCreditApplicationsUseCase {
     
-    private final CreditApplicationRepositoryPort creditApplicationRepository;
-    
-    public ListCreditApplicationsUseCaseImpl(CreditApplicationRepositoryPort creditApplicationRepository) {
-        this.creditApplicationRepository = creditApplicationRepository;
-    }
+    private final CreditApplicationQueryPort creditApplicationQuery;
+    private final KeysetPager pager;
     
-    @Override
-    public List<CreditApplication> execute() {
-        return creditApplicationRepository.findAll();
-    }
-    
-    @Override
-    public List<CreditApplication> executeByMemberId(Long memberId) {
-        return creditApplicationRepository.findByMemberId(memberId);
+    public ListCreditApplicationsUseCaseImpl(
+            CreditApplicationQueryPort creditApplicationQuery,
+            @Value("${credit-applications.list.default-page-size:50}") int defaultPageSize,
+            @Value("${credit-applications.list.max-page-size:500}") int maxPageSize) {
+        this.creditApplicationQuery = creditApplicationQuery;
+        this.pager = new KeysetPager(defaultPageSize, maxPageSize);
     }
     
     @Override
-    public List<CreditApplication> executeByStatus(ApplicationStatus status) {
-        return creditApplicationRepository.findByStatus(status);
+    public CreditApplicationPage execute(ListCreditApplicationsQuery query) {
+        KeysetPager.checkDateRange(query.from(), query.to());
+        
+        KeysetPager.Slice<CreditApplicationSummary> page = pager.fetch(query.limit(),
+                rows -> creditApplicationQuery.findSummaryPage(
+                        new SummaryFilter(query.memberId(), query.status(), query.from(), query.to()),
+                        query.after() != null ? query.after().applicationDate() : null,
+                        query.after() != null ? query.after().id() : null,
+                        rows));
+        return new CreditApplicationPage(page.items(),
+                page.next(last -> new PageCursor(last.applicationDate(), last.id())));
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.coopcredit.creditapplication.application.usecases.credit;
+
+import com.coopcredit.creditapplication.application.usecases.KeysetPager;
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationView;
+import com.coopcredit.creditapplication.domain.ports.in.ListCreditApplicationsUseCase.ListCreditApplicationsQuery;
+import com.coopcredit.creditapplication.domain.ports.in.ListCreditApplicationsUseCase.PageCursor;
+import com.coopcredit.creditapplication.domain.ports.in.ManageCreditApplicationViewsUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort.SummaryFilter;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationViewPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class ManageCreditApplicationViewsUseCaseImpl implements ManageCreditApplicationViewsUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(ManageCreditApplicationViewsUseCaseImpl.class);
+    
+    private final CreditApplicationViewPort creditApplicationViews;
+    private final KeysetPager pager;
+    
+    public ManageCreditApplicationViewsUseCaseImpl(
+            CreditApplicationViewPort creditApplicationViews,
+            @Value("${credit-applications.list.default-page-size:50}") int defaultPageSize,
+            @Value("${credit-applications.list.max-page-size:500}") int maxPageSize) {
+        this.creditApplicationViews = creditApplicationViews;
+        this.pager = new KeysetPager(defaultPageSize, maxPageSize);
+    }
+    
+    @Override
+    public CreditApplicationView getById(Long id) {
+        return creditApplicationViews.findById(id)
+                .orElseThrow(() -> new NotFoundException("CreditApplication", "id", id));
+    }
+    
+    @Override
+    public CreditApplicationViewPage list(ListCreditApplicationsQuery query) {
+        KeysetPager.checkDateRange(query.from(), query.to());
+        
+        KeysetPager.Slice<CreditApplicationView> page = pager.fetch(query.limit(),
+                rows -> creditApplicationViews.findPage(
+                        new SummaryFilter(query.memberId(), query.status(), query.from(), query.to()),
+                        query.after() != null ? query.after().applicationDate() : null,
+                        query.after() != null ? query.after().id() : null,
+                        rows));
+        return new CreditApplicationViewPage(page.items(),
+                page.next(last -> new PageCursor(last.applicationDate(), last.id())));
+    }
+    
+    @Override
+    @Transactional
+    public long rebuild() {
+        long rows = creditApplicationViews.rebuild();
+        log.info("Rebuilt application view with {} applications", rows);
+        return rows;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,228 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.ports.in.BatchEvaluateCreditApplicationsUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates many applications at once: bulk reads, risk central calls fanned out on the
+ * bounded {@link EvaluationExecutorPort}, and a single write transaction that moves each
+ * application out of PENDING with a conditional UPDATE and lets Hibernate flush the
+ * evaluations in JDBC batches.
+ * No transaction is held while the risk central calls are in flight.
+ */
+@Service
+public class BatchEvaluateCreditApplicationsUseCaseImpl implements BatchEvaluateCreditApplicationsUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(BatchEvaluateCreditApplicationsUseCaseImpl.class);
+    
+    private final CreditApplicationRepositoryPort creditApplicationRepository;
+    private final MemberRepositoryPort memberRepository;
+    private final RiskEvaluationRepositoryPort riskEvaluationRepository;
+    private final CreditApplicationViewPort creditApplicationViews;
+    private final RiskCentralPort riskCentralPort;
+    private final CreditDecisionPolicy decisionPolicy;
+    private final EvaluationExecutorPort evaluationExecutor;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final int maxBatchSize;
+    
+    public BatchEvaluateCreditApplicationsUseCaseImpl(
+            CreditApplicationRepositoryPort creditApplicationRepository,
+            MemberRepositoryPort memberRepository,
+            RiskEvaluationRepositoryPort riskEvaluationRepository,
+            CreditApplicationViewPort creditApplicationViews,
+            RiskCentralPort riskCentralPort,
+            CreditDecisionPolicy decisionPolicy,
+            EvaluationExecutorPort evaluationExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${credit-evaluation.batch.max-size:500}") int maxBatchSize) {
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.memberRepository = memberRepository;
+        this.riskEvaluationRepository = riskEvaluationRepository;
+        this.creditApplicationViews = creditApplicationViews;
+        this.riskCentralPort = riskCentralPort;
+        this.decisionPolicy = decisionPolicy;
+        this.evaluationExecutor = evaluationExecutor;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    @Override
+    public List<BatchEvaluationItem> execute(BatchEvaluationCommand command) {
+        List<Long> requestedIds = command.creditApplicationIds() == null
+                ? List.of()
+                : command.creditApplicationIds().stream().filter(Objects::nonNull).distinct().toList();
+        
+        if (requestedIds.isEmpty() && command.pendingLimit() == null) {
+            throw new ValidationException("Either creditApplicationIds or pendingLimit must be provided");
+        }
+        if (requestedIds.size() > maxBatchSize) {
+            throw new ValidationException("creditApplicationIds",
+                    "At most " + maxBatchSize + " applications can be evaluated per batch");
+        }
+        
+        // Phase 1: bulk reads
+        LoadedBatch batch = readTransaction.execute(status -> load(requestedIds, command.pendingLimit()));
+        
+        Map<Long, BatchEvaluationItem> results = new LinkedHashMap<>();
+        List<Candidate> candidates = new ArrayList<>();
+        for (Long id : batch.orderedIds()) {
+            CreditApplication application = batch.applications().get(id);
+            if (application == null) {
+                results.put(id, BatchEvaluationItem.failed(id, "NOT_FOUND",
+                        "CreditApplication not found with id: '" + id + "'"));
+            } else if (batch.evaluatedIds().contains(id)) {
+                results.put(id, BatchEvaluationItem.failed(id, "ALREADY_EVALUATED",
+                        "Credit application has already been evaluated"));
+            } else if (!application.isPending()) {
+                results.put(id, BatchEvaluationItem.failed(id, "NOT_PENDING",
+                        "Credit application is not in PENDING status"));
+            } else if (!batch.members().containsKey(application.getMemberId())) {
+                results.put(id, BatchEvaluationItem.failed(id, "NOT_FOUND",
+                        "Member not found with id: '" + application.getMemberId() + "'"));
+            } else {
+                results.put(id, null);
+                candidates.add(new Candidate(application, batch.members().get(application.getMemberId())));
+            }
+        }
+        
+        // Phase 2: risk central calls with bounded concurrency, outside any transaction;
+        // applications already rejected by local rules are decided without one. The calls
+        // are admitted together, or the whole batch is refused as overloaded.
+        CompiledCreditRules rules = decisionPolicy.activeRules();
+        List<Boolean> needsRiskCentral = candidates.stream()
+                .map(candidate -> rules.checkLocalRules(candidate.application(), candidate.member()).passed())
+                .toList();
+        List<Supplier<RiskEvaluation>> remoteCalls = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            if (needsRiskCentral.get(i)) {
+                remoteCalls.add(() -> decide(rules, candidate));
+            }
+        }
+        Iterator<CompletableFuture<RiskEvaluation>> remoteResults =
+                evaluationExecutor.supplyAllAsync(remoteCalls).iterator();
+        List<CompletableFuture<RiskEvaluation>> futures = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            futures.add(needsRiskCentral.get(i)
+                    ? remoteResults.next()
+                    : CompletableFuture.completedFuture(
+                            decisionPolicy.decide(rules, candidate.application(), candidate.member(), null)));
+        }
+        
+        List<RiskEvaluation> decided = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Long id = candidates.get(i).application().getId();
+            try {
+                decided.add(futures.get(i).join());
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("Batch evaluation failed for credit application {}: {}", id, cause.getMessage());
+                results.put(id, BatchEvaluationItem.failed(id, "EVALUATION_FAILED", cause.getMessage()));
+            }
+        }
+        
+        // Phase 3: one short write transaction for the whole batch
+        if (!decided.isEmpty()) {
+            try {
+                writeTransaction.executeWithoutResult(status -> persist(decided, results));
+            } catch (RuntimeException e) {
+                log.error("Batch evaluation write failed, rolling back {} evaluations", decided.size(), e);
+                decided.forEach(evaluation -> results.put(evaluation.getCreditApplicationId(),
+                        BatchEvaluationItem.failed(evaluation.getCreditApplicationId(), "PERSISTENCE_FAILED",
+                                "Evaluation could not be stored")));
+            }
+        }
+        
+        long evaluated = results.values().stream().filter(BatchEvaluationItem::isEvaluated).count();
+        log.info("Batch evaluation finished: {} requested, {} evaluated", results.size(), evaluated);
+        return new ArrayList<>(results.values());
+    }
+    
+    private LoadedBatch load(List<Long> requestedIds, Integer pendingLimit) {
+        List<CreditApplication> applications;
+        List<Long> orderedIds;
+        if (!requestedIds.isEmpty()) {
+            applications = creditApplicationRepository.findAllById(requestedIds);
+            orderedIds = requestedIds;
+        } else {
+            int limit = Math.max(1, Math.min(pendingLimit, maxBatchSize));
+            applications = creditApplicationRepository.findByStatus(ApplicationStatus.PENDING, limit);
+            orderedIds = applications.stream().map(CreditApplication::getId).toList();
+        }
+        
+        Map<Long, CreditApplication> applicationsById = applications.stream()
+                .collect(Collectors.toMap(CreditApplication::getId, Function.identity()));
+        Set<Long> memberIds = applications.stream().map(CreditApplication::getMemberId).collect(Collectors.toSet());
+        Map<Long, Member> membersById = memberRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        Set<Long> evaluatedIds = riskEvaluationRepository.findEvaluatedCreditApplicationIds(applicationsById.keySet());
+        
+        return new LoadedBatch(orderedIds, applicationsById, membersById, evaluatedIds);
+    }
+    
+    private RiskEvaluation decide(CompiledCreditRules rules, Candidate candidate) {
+        CreditApplication application = candidate.application();
+        Member member = candidate.member();
+        RiskCentralPort.RiskCentralResponse riskResponse = riskCentralPort.evaluateRisk(
+                new RiskCentralPort.RiskCentralRequest(member.getDocument(), application.getRequestedAmount()));
+        return decisionPolicy.decide(rules, application, member, riskResponse);
+    }
+    
+    private void persist(List<RiskEvaluation> decided, Map<Long, BatchEvaluationItem> results) {
+        // Each application leaves PENDING with a conditional UPDATE, as in the single
+        // evaluation; one that a concurrent evaluation already moved is left alone.
+        // Ascending id order keeps two overlapping batches from deadlocking on row locks.
+        List<RiskEvaluation> toSave = new ArrayList<>();
+        Map<Long, ApplicationStatus> transitioned = new HashMap<>();
+        for (RiskEvaluation evaluation : decided.stream()
+                .sorted(Comparator.comparing(RiskEvaluation::getCreditApplicationId)).toList()) {
+            Long id = evaluation.getCreditApplicationId();
+            ApplicationStatus resultingStatus = decisionPolicy.resultingStatus(evaluation);
+            if (!creditApplicationRepository.transitionStatus(id, ApplicationStatus.PENDING, resultingStatus)) {
+                results.put(id, BatchEvaluationItem.failed(id, "ALREADY_EVALUATED",
+                        "Credit application has already been evaluated"));
+                continue;
+            }
+            transitioned.put(id, resultingStatus);
+            toSave.add(evaluation);
+        }
+        
+        List<CreditApplicationViewPort.EvaluatedApplication> evaluated = new ArrayList<>(toSave.size());
+        for (RiskEvaluation saved : riskEvaluationRepository.saveAll(toSave)) {
+            results.put(saved.getCreditApplicationId(), BatchEvaluationItem.evaluated(saved));
+            evaluated.add(new CreditApplicationViewPort.EvaluatedApplication(
+                    transitioned.get(saved.getCreditApplicationId()), saved));
+        }
+        creditApplicationViews.applicationsEvaluated(evaluated);
+    }
+    
+    private record Candidate(CreditApplication application, Member member) {}
+    
+    private record LoadedBatch(
+            List<Long> orderedIds,
+            Map<Long, CreditApplication> applications,
+            Map<Long, Member> members,
+            Set<Long> evaluatedIds
+    ) {}
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditRuleDefinition;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.CreditRuleType;
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable rule set compiled from {@link CreditRuleDefinition}s. Thresholds are parsed
+ * and rejection messages built once here, so evaluating an application only walks a short
+ * chain of comparisons against precomputed values. Disabled rules are left out of the chain.
+ */
+public final class CompiledCreditRules {
+    
+    private final long version;
+    private final LocalDateTime compiledAt;
+    private final String fingerprint;
+    private final List<CreditRuleDefinition> definitions;
+    private final LocalRule[] localRules;
+    private final Map<RiskLevel, String> riskRejections;
+    
+    private CompiledCreditRules(long version, String fingerprint, List<CreditRuleDefinition> definitions,
+                                LocalRule[] localRules, Map<RiskLevel, String> riskRejections) {
+        this.version = version;
+        this.compiledAt = LocalDateTime.now();
+        this.fingerprint = fingerprint;
+        this.definitions = definitions;
+        this.localRules = localRules;
+        this.riskRejections = riskRejections;
+    }
+    
+    /**
+     * Outcome of the rules that need no remote call.
+     */
+    public record LocalRuleCheck(
+            BigDecimal paymentToIncomeRatio,
+            boolean meetsSeniority,
+            boolean meetsMaxAmount,
+            List<String> rejectionReasons
+    ) {
+        public boolean passed() {
+            return rejectionReasons.isEmpty();
+        }
+    }
+    
+    /**
+     * @throws IllegalArgumentException if a definition is duplicated or its threshold cannot be parsed
+     */
+    public static CompiledCreditRules compile(List<CreditRuleDefinition> definitions, long version) {
+        Map<CreditRuleType, CreditRuleDefinition> byType = new EnumMap<>(CreditRuleType.class);
+        for (CreditRuleDefinition definition : definitions) {
+            if (definition.getRuleType() == null) {
+                throw new IllegalArgumentException("Credit rule without a type");
+            }
+            if (byType.put(definition.getRuleType(), definition) != null) {
+                throw new IllegalArgumentException("Duplicate credit rule: " + definition.getRuleType());
+            }
+        }
+        
+        // EnumMap iterates in declaration order, which is the evaluation order
+        List<LocalRule> localRules = new ArrayList<>();
+        Map<RiskLevel, String> riskRejections = new EnumMap<>(RiskLevel.class);
+        for (CreditRuleDefinition definition : byType.values()) {
+            if (!definition.isEnabled()) {
+                continue;
+            }
+            switch (definition.getRuleType()) {
+                case MIN_SENIORITY_MONTHS -> {
+                    long months = parseMonths(definition);
+                    localRules.add(new MinSeniority(months, messageOr(definition,
+                            "Insufficient seniority (minimum " + months + " months required)")));
+                }
+                case MAX_AMOUNT_SALARY_MULTIPLE -> {
+                    BigDecimal multiple = parseDecimal(definition);
+                    localRules.add(new MaxAmountSalaryMultiple(multiple, messageOr(definition,
+                            "Requested amount exceeds maximum allowed (" + plain(multiple) + "x salary)")));
+                }
+                case MAX_PAYMENT_TO_INCOME_RATIO -> {
+                    BigDecimal ratio = parseDecimal(definition);
+                    localRules.add(new MaxPaymentToIncomeRatio(ratio, messageOr(definition,
+                            "Payment to income ratio exceeds " + plain(ratio.movePointRight(2)) + "%")));
+                }
+                case REJECTED_RISK_LEVELS -> {
+                    for (String level : threshold(definition).split(",")) {
+                        RiskLevel riskLevel = parseRiskLevel(definition, level.trim());
+                        riskRejections.put(riskLevel, messageOr(definition, riskLevelMessage(riskLevel)));
+                    }
+                }
+            }
+        }
+        
+        List<CreditRuleDefinition> ordered = List.copyOf(byType.values());
+        return new CompiledCreditRules(version, fingerprint(ordered), ordered,
+                localRules.toArray(LocalRule[]::new), riskRejections);
+    }
+    
+    public LocalRuleCheck checkLocalRules(CreditApplication application, Member member) {
+        // Calculate payment to income ratio
+        BigDecimal monthlyPayment = application.calculateMonthlyPayment();
+        BigDecimal paymentToIncomeRatio = monthlyPayment.divide(member.getSalary(), 4, RoundingMode.HALF_UP);
+        
+        boolean meetsSeniority = true;
+        boolean meetsMaxAmount = true;
+        List<String> rejectionReasons = null;
+        for (LocalRule rule : localRules) {
+            if (rule.passes(application, member, paymentToIncomeRatio)) {
+                continue;
+            }
+            if (rejectionReasons == null) {
+                rejectionReasons = new ArrayList<>(localRules.length);
+            }
+            rejectionReasons.add(rule.rejectionMessage());
+            if (rule instanceof MinSeniority) {
+                meetsSeniority = false;
+            } else if (rule instanceof MaxAmountSalaryMultiple) {
+                meetsMaxAmount = false;
+            }
+        }
+        
+        return new LocalRuleCheck(paymentToIncomeRatio, meetsSeniority, meetsMaxAmount,
+                rejectionReasons == null ? List.of() : Collections.unmodifiableList(rejectionReasons));
+    }
+    
+    /**
+     * @return the rejection reason for the risk level, or {@code null} if it is accepted
+     */
+    public String riskLevelRejection(RiskLevel riskLevel) {
+        return riskLevel == null ? null : riskRejections.get(riskLevel);
+    }
+    
+    public long getVersion() { return version; }
+    
+    public LocalDateTime getCompiledAt() { return compiledAt; }
+    
+    public List<CreditRuleDefinition> getDefinitions() { return definitions; }
+    
+    /**
+     * Same fingerprint means same definitions: used to skip no-op reloads.
+     */
+    public boolean hasSameDefinitions(CompiledCreditRules other) {
+        return fingerprint.equals(other.fingerprint);
+    }
+    
+    private static BigDecimal parseDecimal(CreditRuleDefinition definition) {
+        try {
+            BigDecimal value = new BigDecimal(threshold(definition).trim());
+            if (value.signum() <= 0) {
+                throw new IllegalArgumentException("Threshold of credit rule " + definition.getRuleType()
+                        + " must be positive");
+            }
+            return value;
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid threshold '" + definition.getThreshold()
+                    + "' for credit rule " + definition.getRuleType());
+        }
+    }
+    
+    private static long parseMonths(CreditRuleDefinition definition) {
+        try {
+            return parseDecimal(definition).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Threshold of credit rule " + definition.getRuleType()
+                    + " must be a whole number of months");
+        }
+    }
+    
+    private static RiskLevel parseRiskLevel(CreditRuleDefinition definition, String level) {
+        try {
+            return RiskLevel.valueOf(level);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid risk level '" + level
+                    + "' for credit rule " + definition.getRuleType());
+        }
+    }
+    
+    private static String threshold(CreditRuleDefinition definition) {
+        if (definition.getThreshold() == null || definition.getThreshold().isBlank()) {
+            throw new IllegalArgumentException("Credit rule " + definition.getRuleType() + " has no threshold");
+        }
+        return definition.getThreshold();
+    }
+    
+    private static String messageOr(CreditRuleDefinition definition, String defaultMessage) {
+        String message = definition.getRejectionMessage();
+        return message == null || message.isBlank() ? defaultMessage : message;
+    }
+    
+    private static String riskLevelMessage(RiskLevel riskLevel) {
+        String name = riskLevel.name();
+        return name.charAt(0) + name.substring(1).toLowerCase() + " risk score from central risk service";
+    }
+    
+    private static String plain(BigDecimal value) {
+        return value.stripTrailingZeros().toPlainString();
+    }
+    
+    private static String fingerprint(List<CreditRuleDefinition> definitions) {
+        return definitions.stream()
+                .map(d -> d.getRuleType() + "|" + d.getThreshold() + "|" + d.isEnabled() + "|" + d.getRejectionMessage())
+                .collect(Collectors.joining("\n"));
+    }
+    
+    // Compiled rules: thresholds are final fields, messages are prebuilt
+    private sealed interface LocalRule permits MinSeniority, MaxAmountSalaryMultiple, MaxPaymentToIncomeRatio {
+        
+        boolean passes(CreditApplication application, Member member, BigDecimal paymentToIncomeRatio);
+        
+        String rejectionMessage();
+    }
+    
+    private record MinSeniority(long minMonths, String rejectionMessage) implements LocalRule {
+        
+        @Override
+        public boolean passes(CreditApplication application, Member member, BigDecimal paymentToIncomeRatio) {
+            return member.getSeniorityInMonths() >= minMonths;
+        }
+    }
+    
+    private record MaxAmountSalaryMultiple(BigDecimal multiple, String rejectionMessage) implements LocalRule {
+        
+        @Override
+        public boolean passes(CreditApplication application, Member member, BigDecimal paymentToIncomeRatio) {
+            return application.getRequestedAmount().compareTo(member.getSalary().multiply(multiple)) <= 0;
+        }
+    }
+    
+    private record MaxPaymentToIncomeRatio(BigDecimal maxRatio, String rejectionMessage) implements LocalRule {
+        
+        @Override
+        public boolean passes(CreditApplication application, Member member, BigDecimal paymentToIncomeRatio) {
+            return paymentToIncomeRatio.compareTo(maxRatio) <= 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.enums.FinalDecision;
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns an application, its member and the risk central score into a final decision,
+ * using the rules compiled by {@link CreditRuleEngine}. Shared by the single and batch
+ * evaluation use cases, which take one {@link #activeRules()} snapshot per evaluation.
+ * The local rules are cheap and run first; when they already reject the application
+ * the risk central is not consulted and the evaluation is marked as such.
+ */
+@Component
+public class CreditDecisionPolicy {
+    
+    private static final String ALL_CRITERIA_MET = "All criteria met";
+    private static final String RISK_CENTRAL_SKIPPED_DETAIL = "Risk central not consulted: application rejected by local rules";
+    
+    private final CreditRuleEngine ruleEngine;
+    private final Counter riskCentralSkipped;
+    
+    public CreditDecisionPolicy(CreditRuleEngine ruleEngine, MeterRegistry meterRegistry) {
+        this.ruleEngine = ruleEngine;
+        this.riskCentralSkipped = Counter.builder("credit.evaluation.risk.central.skipped")
+                .description("Risk central calls saved because local rules already rejected the application")
+                .register(meterRegistry);
+    }
+    
+    public CompiledCreditRules activeRules() {
+        return ruleEngine.activeRules();
+    }
+    
+    /**
+     * @param riskResponse the risk central answer, or {@code null} when it was skipped
+     *                     because the local rules already rejected the application
+     */
+    public RiskEvaluation decide(CompiledCreditRules rules, CreditApplication application, Member member,
+                                 RiskCentralPort.RiskCentralResponse riskResponse) {
+        CompiledCreditRules.LocalRuleCheck localRules = rules.checkLocalRules(application, member);
+        
+        boolean skipped = riskResponse == null;
+        if (skipped) {
+            if (localRules.passed()) {
+                throw new IllegalStateException("Risk central can only be skipped for applications rejected by local rules");
+            }
+            riskCentralSkipped.increment();
+        }
+        
+        // Determine final decision
+        String riskRejection = skipped ? null : rules.riskLevelRejection(riskResponse.riskLevel());
+        String reason;
+        if (riskRejection == null) {
+            reason = localRules.passed() ? ALL_CRITERIA_MET : String.join("; ", localRules.rejectionReasons());
+        } else {
+            reason = localRules.passed() ? riskRejection
+                    : String.join("; ", localRules.rejectionReasons()) + "; " + riskRejection;
+        }
+        FinalDecision decision = localRules.passed() && riskRejection == null
+                ? FinalDecision.APPROVED : FinalDecision.REJECTED;
+        
+        return RiskEvaluation.builder()
+                .creditApplicationId(application.getId())
+                .score(skipped ? null : riskResponse.score())
+                .riskLevel(skipped ? null : riskResponse.riskLevel())
+                .paymentToIncomeRatio(localRules.paymentToIncomeRatio())
+                .meetsSeniority(localRules.meetsSeniority())
+                .meetsMaxAmount(localRules.meetsMaxAmount())
+                .finalDecision(decision)
+                .reason(reason)
+                .riskCentralDetail(skipped ? RISK_CENTRAL_SKIPPED_DETAIL : riskResponse.detail())
+                .riskCentralSkipped(skipped)
+                .build();
+    }
+    
+    /**
+     * The status an application moves to once the evaluation is stored.
+     */
+    public ApplicationStatus resultingStatus(RiskEvaluation evaluation) {
+        return evaluation.isApproved() ? ApplicationStatus.APPROVED : ApplicationStatus.REJECTED;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+import com.coopcredit.creditapplication.domain.ports.in.ManageCreditRulesUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.CreditRuleRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Holds the active {@link CompiledCreditRules} and swaps in a newly compiled set on reload.
+ * Readers only do a volatile read: an evaluation takes one snapshot and keeps using it even
+ * if a reload lands meanwhile, so reloads never block or mix rule versions mid-evaluation.
+ * A definition set that fails to compile is rejected and the active rules stay in place.
+ * The first set is loaded once the bean is constructed, not from the constructor.
+ */
+@Service
+public class CreditRuleEngine implements ManageCreditRulesUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditRuleEngine.class);
+    
+    private final CreditRuleRepositoryPort creditRuleRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter reloadsApplied;
+    private final Counter reloadsRejected;
+    private volatile CompiledCreditRules active;
+    
+    public CreditRuleEngine(CreditRuleRepositoryPort creditRuleRepository, MeterRegistry meterRegistry) {
+        this.creditRuleRepository = creditRuleRepository;
+        this.meterRegistry = meterRegistry;
+        this.reloadsApplied = Counter.builder("credit.rules.reloads")
+                .description("Credit rule reloads by outcome")
+                .tag("outcome", "applied")
+                .register(meterRegistry);
+        this.reloadsRejected = Counter.builder("credit.rules.reloads")
+                .description("Credit rule reloads by outcome")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void load() {
+        active = CompiledCreditRules.compile(creditRuleRepository.findAll(), 1);
+        Gauge.builder("credit.rules.version", this, engine -> engine.active.getVersion())
+                .description("Version of the active credit rule set")
+                .register(meterRegistry);
+        log.info("Credit rules compiled: {}", describe(active));
+    }
+    
+    /**
+     * The snapshot to use for one evaluation.
+     */
+    public CompiledCreditRules activeRules() {
+        return active;
+    }
+    
+    @Override
+    public CreditRuleSet getActive() {
+        return toRuleSet(active);
+    }
+    
+    @Override
+    public synchronized CreditRuleSet reload() {
+        CompiledCreditRules current = active;
+        CompiledCreditRules candidate;
+        try {
+            candidate = CompiledCreditRules.compile(creditRuleRepository.findAll(), current.getVersion() + 1);
+        } catch (IllegalArgumentException e) {
+            reloadsRejected.increment();
+            log.warn("Credit rules not reloaded, keeping version {}: {}", current.getVersion(), e.getMessage());
+            throw new ValidationException("rules", e.getMessage());
+        }
+        
+        if (candidate.hasSameDefinitions(current)) {
+            return toRuleSet(current);
+        }
+        active = candidate;
+        reloadsApplied.increment();
+        log.info("Credit rules reloaded: {}", describe(candidate));
+        return toRuleSet(candidate);
+    }
+    
+    private CreditRuleSet toRuleSet(CompiledCreditRules rules) {
+        return new CreditRuleSet(rules.getVersion(), rules.getCompiledAt(), rules.getDefinitions());
+    }
+    
+    private String describe(CompiledCreditRules rules) {
+        StringBuilder description = new StringBuilder("version ").append(rules.getVersion());
+        rules.getDefinitions().forEach(definition -> description.append(", ")
+                .append(definition.getRuleType()).append('=')
+                .append(definition.isEnabled() ? definition.getThreshold() : "disabled"));
+        return description.toString();
+    }
+}
\ No newline at end of file
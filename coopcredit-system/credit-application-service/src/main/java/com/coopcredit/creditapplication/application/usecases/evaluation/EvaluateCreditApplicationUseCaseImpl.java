@@ -5,43 +5,91 @@ import com.coopcredit.creditapplication.domain.exception.NotFoundException;
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
 import com.coopcredit.creditapplication.domain.model.Member;
 import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
-import com.coopcredit.creditapplication.domain.model.enums.FinalDecision;
-import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.ports.in.EvaluateCreditApplicationUseCase;
 import com.coopcredit.creditapplication.domain.ports.out.*;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Evaluates one application in three phases: a short read-only transaction to load
+ * and validate, the risk central call outside any transaction, and a short write
+ * transaction that moves the application out of PENDING with a conditional UPDATE,
+ * inserts the evaluation and updates the application view.
+ * Of two concurrent evaluations only one UPDATE matches; the other finds the
+ * application no longer PENDING and is rejected.
+ * No JDBC connection is held while the risk central (and its retries) is awaited.
+ */
 @Service
-@Transactional
 public class EvaluateCreditApplicationUseCaseImpl implements EvaluateCreditApplicationUseCase {
     
-    private static final int MIN_SENIORITY_MONTHS = 6;
-    private static final BigDecimal MAX_PAYMENT_TO_INCOME_RATIO = new BigDecimal("0.40");
-    
     private final CreditApplicationRepositoryPort creditApplicationRepository;
     private final MemberRepositoryPort memberRepository;
     private final RiskEvaluationRepositoryPort riskEvaluationRepository;
+    private final CreditApplicationViewPort creditApplicationViews;
     private final RiskCentralPort riskCentralPort;
+    private final CreditDecisionPolicy decisionPolicy;
+    private final EvaluationExecutorPort evaluationExecutor;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
     
     public EvaluateCreditApplicationUseCaseImpl(
             CreditApplicationRepositoryPort creditApplicationRepository,
             MemberRepositoryPort memberRepository,
             RiskEvaluationRepositoryPort riskEvaluationRepository,
-            RiskCentralPort riskCentralPort) {
+            CreditApplicationViewPort creditApplicationViews,
+            RiskCentralPort riskCentralPort,
+            CreditDecisionPolicy decisionPolicy,
+            EvaluationExecutorPort evaluationExecutor,
+            PlatformTransactionManager transactionManager) {
         this.creditApplicationRepository = creditApplicationRepository;
         this.memberRepository = memberRepository;
         this.riskEvaluationRepository = riskEvaluationRepository;
+        this.creditApplicationViews = creditApplicationViews;
         this.riskCentralPort = riskCentralPort;
+        this.decisionPolicy = decisionPolicy;
+        this.evaluationExecutor = evaluationExecutor;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
     }
     
     @Override
     public RiskEvaluation execute(Long creditApplicationId) {
+        EvaluationContext context = readTransaction.execute(status -> loadContext(creditApplicationId));
+        
+        // Local rules already reject: no need to ask the risk central
+        if (!context.passesLocalRules()) {
+            return write(context, null);
+        }
+        
+        // Call external risk central service, outside any transaction
+        RiskCentralPort.RiskCentralResponse riskResponse = riskCentralPort.evaluateRisk(context.riskCentralRequest());
+        
+        return write(context, riskResponse);
+    }
+    
+    @Override
+    public CompletableFuture<RiskEvaluation> executeAsync(Long creditApplicationId) {
+        EvaluationContext context = readTransaction.execute(status -> loadContext(creditApplicationId));
+        
+        if (!context.passesLocalRules()) {
+            return evaluationExecutor.callThenWrite(() -> CompletableFuture.completedFuture(null),
+                    skipped -> write(context, null));
+        }
+        
+        // The remote call completes on the HTTP client's event loop; the blocking JPA
+        // write is handed to the write pool instead of running there.
+        return evaluationExecutor.callThenWrite(() -> riskCentralPort.evaluateRiskAsync(context.riskCentralRequest()),
+                riskResponse -> write(context, riskResponse));
+    }
+    
+    private EvaluationContext loadContext(Long creditApplicationId) {
         // Check if already evaluated
         if (riskEvaluationRepository.existsByCreditApplicationId(creditApplicationId)) {
             throw new BusinessRuleException("ALREADY_EVALUATED", 
@@ -61,61 +109,65 @@ public class EvaluateCreditApplicationUseCaseImpl implements EvaluateCreditAppli
         Member member = memberRepository.findById(application.getMemberId())
                 .orElseThrow(() -> new NotFoundException("Member", "id", application.getMemberId()));
         
-        // Call external risk central service
-        RiskCentralPort.RiskCentralResponse riskResponse = riskCentralPort.evaluateRisk(
-                new RiskCentralPort.RiskCentralRequest(member.getDocument(), application.getRequestedAmount()));
-        
-        // Calculate payment to income ratio
-        BigDecimal monthlyPayment = application.calculateMonthlyPayment();
-        BigDecimal paymentToIncomeRatio = monthlyPayment.divide(member.getSalary(), 4, RoundingMode.HALF_UP);
-        
-        // Check business rules
-        boolean meetsSeniority = member.getSeniorityInMonths() >= MIN_SENIORITY_MONTHS;
-        boolean meetsMaxAmount = application.getRequestedAmount().compareTo(member.getMaxCreditAmount()) <= 0;
-        boolean meetsPaymentRatio = paymentToIncomeRatio.compareTo(MAX_PAYMENT_TO_INCOME_RATIO) <= 0;
-        
-        // Determine final decision
-        List<String> rejectionReasons = new ArrayList<>();
-        
-        if (!meetsSeniority) {
-            rejectionReasons.add("Insufficient seniority (minimum 6 months required)");
+        return new EvaluationContext(application, member, decisionPolicy.activeRules());
+    }
+    
+    /**
+     * @param riskResponse {@code null} when the risk central was skipped
+     */
+    private RiskEvaluation write(EvaluationContext context, RiskCentralPort.RiskCentralResponse riskResponse) {
+        try {
+            return writeTransaction.execute(status -> persist(context, riskResponse));
+        } catch (DataIntegrityViolationException e) {
+            // Unique credit_application_id: another evaluation committed first
+            throw new BusinessRuleException("ALREADY_EVALUATED", 
+                    "Credit application has already been evaluated");
         }
-        if (!meetsMaxAmount) {
-            rejectionReasons.add("Requested amount exceeds maximum allowed (4x salary)");
+    }
+    
+    private RiskEvaluation persist(EvaluationContext context, RiskCentralPort.RiskCentralResponse riskResponse) {
+        // Apply business rules and create evaluation
+        CreditApplication application = context.application();
+        RiskEvaluation evaluation = decisionPolicy.decide(context.rules(), application, context.member(), riskResponse);
+        
+        // The state may have changed while the risk central was called: the UPDATE only
+        // applies if the application is still PENDING, and locks the row until commit
+        ApplicationStatus resultingStatus = decisionPolicy.resultingStatus(evaluation);
+        if (!creditApplicationRepository.transitionStatus(application.getId(), ApplicationStatus.PENDING,
+                resultingStatus)) {
+            throw notTransitioned(application.getId());
         }
-        if (!meetsPaymentRatio) {
-            rejectionReasons.add("Payment to income ratio exceeds 40%");
+        
+        RiskEvaluation saved = riskEvaluationRepository.save(evaluation);
+        creditApplicationViews.applicationsEvaluated(List.of(
+                new CreditApplicationViewPort.EvaluatedApplication(resultingStatus, saved)));
+        return saved;
+    }
+    
+    // Only on the losing side of a race: find out why the transition did not apply
+    private RuntimeException notTransitioned(Long creditApplicationId) {
+        if (riskEvaluationRepository.existsByCreditApplicationId(creditApplicationId)) {
+            return new BusinessRuleException("ALREADY_EVALUATED", 
+                    "Credit application has already been evaluated");
         }
-        if (RiskLevel.HIGH.equals(riskResponse.riskLevel())) {
-            rejectionReasons.add("High risk score from central risk service");
+        if (creditApplicationRepository.findById(creditApplicationId).isEmpty()) {
+            return new NotFoundException("CreditApplication", "id", creditApplicationId);
         }
+        return new BusinessRuleException("NOT_PENDING", 
+                "Credit application is not in PENDING status");
+    }
+    
+    /**
+     * @param rules the rule snapshot used for the whole evaluation, even if rules are reloaded meanwhile
+     */
+    private record EvaluationContext(CreditApplication application, Member member, CompiledCreditRules rules) {
         
-        FinalDecision decision = rejectionReasons.isEmpty() ? FinalDecision.APPROVED : FinalDecision.REJECTED;
-        String reason = rejectionReasons.isEmpty() ? "All criteria met" : String.join("; ", rejectionReasons);
-        
-        // Create and save evaluation
-        RiskEvaluation evaluation = RiskEvaluation.builder()
-                .creditApplicationId(creditApplicationId)
-                .score(riskResponse.score())
-                .riskLevel(riskResponse.riskLevel())
-                .paymentToIncomeRatio(paymentToIncomeRatio)
-                .meetsSeniority(meetsSeniority)
-                .meetsMaxAmount(meetsMaxAmount)
-                .finalDecision(decision)
-                .reason(reason)
-                .riskCentralDetail(riskResponse.detail())
-                .build();
-        
-        RiskEvaluation savedEvaluation = riskEvaluationRepository.save(evaluation);
-        
-        // Update credit application status
-        if (decision == FinalDecision.APPROVED) {
-            application.approve();
-        } else {
-            application.reject();
+        RiskCentralPort.RiskCentralRequest riskCentralRequest() {
+            return new RiskCentralPort.RiskCentralRequest(member.getDocument(), application.getRequestedAmount());
         }
-        creditApplicationRepository.save(application);
         
-        return savedEvaluation;
+        boolean passesLocalRules() {
+            return rules.checkLocalRules(application, member).passed();
+        }
     }
 }
\ No newline at end of file
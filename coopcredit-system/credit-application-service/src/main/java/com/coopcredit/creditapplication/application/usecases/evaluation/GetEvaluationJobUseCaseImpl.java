@@ -0,0 +1,39 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.domain.ports.in.GetEvaluationJobUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.EvaluationJobRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.RiskEvaluationRepositoryPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads a job for its pollers. Read-write, so it runs on the primary even when a read
+ * replica is configured: a poller must not see a job older than the one it submitted.
+ */
+@Service
+@Transactional
+public class GetEvaluationJobUseCaseImpl implements GetEvaluationJobUseCase {
+    
+    private final EvaluationJobRepositoryPort evaluationJobRepository;
+    private final RiskEvaluationRepositoryPort riskEvaluationRepository;
+    
+    public GetEvaluationJobUseCaseImpl(EvaluationJobRepositoryPort evaluationJobRepository,
+                                       RiskEvaluationRepositoryPort riskEvaluationRepository) {
+        this.evaluationJobRepository = evaluationJobRepository;
+        this.riskEvaluationRepository = riskEvaluationRepository;
+    }
+    
+    @Override
+    public EvaluationJobResult execute(Long jobId) {
+        EvaluationJob job = evaluationJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("EvaluationJob", "id", jobId));
+        
+        RiskEvaluation evaluation = job.isCompleted() && job.getRiskEvaluationId() != null
+                ? riskEvaluationRepository.findById(job.getRiskEvaluationId()).orElse(null)
+                : null;
+        return new EvaluationJobResult(job, evaluation);
+    }
+}
\ No newline at end of file
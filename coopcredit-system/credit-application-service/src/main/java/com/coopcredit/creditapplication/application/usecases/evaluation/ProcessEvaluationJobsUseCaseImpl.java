@@ -0,0 +1,104 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.exception.BusinessRuleException;
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import com.coopcredit.creditapplication.domain.ports.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.domain.ports.in.ProcessEvaluationJobsUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.EvaluationJobRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.RiskEvaluationRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs queued evaluation jobs through the regular evaluation use case. Claiming is a
+ * conditional QUEUED to RUNNING update, so several nodes can share one jobs table.
+ * A job found stale after {@code max-attempts} claims is failed rather than re-queued,
+ * so one that keeps taking its worker down does not circulate forever.
+ * The evaluation and the job's completion are written in separate transactions, so a job
+ * re-run after its evaluation was stored is completed with that evaluation.
+ */
+@Service
+public class ProcessEvaluationJobsUseCaseImpl implements ProcessEvaluationJobsUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(ProcessEvaluationJobsUseCaseImpl.class);
+    
+    private final EvaluationJobRepositoryPort evaluationJobRepository;
+    private final EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase;
+    private final RiskEvaluationRepositoryPort riskEvaluationRepository;
+    private final int maxAttempts;
+    
+    public ProcessEvaluationJobsUseCaseImpl(EvaluationJobRepositoryPort evaluationJobRepository,
+                                            EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase,
+                                            RiskEvaluationRepositoryPort riskEvaluationRepository,
+                                            @Value("${credit-evaluation.jobs.max-attempts:3}") int maxAttempts) {
+        this.evaluationJobRepository = evaluationJobRepository;
+        this.evaluateCreditApplicationUseCase = evaluateCreditApplicationUseCase;
+        this.riskEvaluationRepository = riskEvaluationRepository;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+    
+    @Override
+    public List<Long> claimQueued(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return evaluationJobRepository.findQueuedIds(limit).stream()
+                .filter(evaluationJobRepository::markRunning)
+                .toList();
+    }
+    
+    @Override
+    public void process(Long jobId) {
+        Optional<EvaluationJob> job = evaluationJobRepository.findById(jobId)
+                .filter(found -> EvaluationJobStatus.RUNNING.equals(found.getStatus()));
+        if (job.isEmpty()) {
+            return;
+        }
+        
+        Long creditApplicationId = job.get().getCreditApplicationId();
+        try {
+            RiskEvaluation evaluation = evaluateCreditApplicationUseCase.execute(creditApplicationId);
+            evaluationJobRepository.markCompleted(jobId, evaluation.getId());
+        } catch (BusinessRuleException e) {
+            // A previous run (or another evaluation) stored it: hand that one to the pollers
+            Optional<RiskEvaluation> existing = "ALREADY_EVALUATED".equals(e.getCode())
+                    ? riskEvaluationRepository.findByCreditApplicationId(creditApplicationId)
+                    : Optional.empty();
+            if (existing.isPresent()) {
+                evaluationJobRepository.markCompleted(jobId, existing.get().getId());
+            } else {
+                evaluationJobRepository.markFailed(jobId, e.getCode(), e.getMessage());
+            }
+        } catch (NotFoundException e) {
+            evaluationJobRepository.markFailed(jobId, "NOT_FOUND", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Evaluation job {} failed for credit application {}", jobId, creditApplicationId, e);
+            evaluationJobRepository.markFailed(jobId, "EVALUATION_FAILED", e.getMessage());
+        }
+    }
+    
+    @Override
+    public int requeueStale(Duration staleAfter) {
+        LocalDateTime startedBefore = LocalDateTime.now().minus(staleAfter);
+        int failed = evaluationJobRepository.failRunningStartedBefore(startedBefore, maxAttempts,
+                "ATTEMPTS_EXHAUSTED", "Evaluation job did not finish after " + maxAttempts + " attempts");
+        if (failed > 0) {
+            log.error("Failed {} evaluation jobs still running after {} attempts", failed, maxAttempts);
+        }
+        int requeued = evaluationJobRepository.requeueRunningStartedBefore(startedBefore, maxAttempts);
+        if (requeued > 0) {
+            log.warn("Re-queued {} evaluation jobs left running for more than {}", requeued, staleAfter);
+        }
+        return requeued;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.exception.BusinessRuleException;
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.domain.exception.ServiceOverloadedException;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import com.coopcredit.creditapplication.domain.ports.in.SubmitEvaluationJobUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.EvaluationJobRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.RiskEvaluationRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Queues an evaluation job, or returns the one already active for the application. Two
+ * concurrent submissions can both pass the lookup; the unique index on the job's active
+ * application id then lets only one insert commit, and the other returns that job.
+ * Each step runs in its own short transaction so the lookup after a refused insert is
+ * not made in a transaction already marked for rollback.
+ */
+@Service
+public class SubmitEvaluationJobUseCaseImpl implements SubmitEvaluationJobUseCase {
+    
+    private final CreditApplicationRepositoryPort creditApplicationRepository;
+    private final RiskEvaluationRepositoryPort riskEvaluationRepository;
+    private final EvaluationJobRepositoryPort evaluationJobRepository;
+    private final int maxQueued;
+    
+    public SubmitEvaluationJobUseCaseImpl(
+            CreditApplicationRepositoryPort creditApplicationRepository,
+            RiskEvaluationRepositoryPort riskEvaluationRepository,
+            EvaluationJobRepositoryPort evaluationJobRepository,
+            @Value("${credit-evaluation.jobs.max-queued:10000}") int maxQueued) {
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.riskEvaluationRepository = riskEvaluationRepository;
+        this.evaluationJobRepository = evaluationJobRepository;
+        this.maxQueued = maxQueued;
+    }
+    
+    @Override
+    public EvaluationJob execute(Long creditApplicationId) {
+        // Submitting twice returns the job that is already queued or running
+        Optional<EvaluationJob> active = evaluationJobRepository.findActiveByCreditApplicationId(creditApplicationId);
+        if (active.isPresent()) {
+            return active.get();
+        }
+        
+        // Reject up front what the worker would reject anyway
+        CreditApplication application = creditApplicationRepository.findById(creditApplicationId)
+                .orElseThrow(() -> new NotFoundException("CreditApplication", "id", creditApplicationId));
+        if (riskEvaluationRepository.existsByCreditApplicationId(creditApplicationId)) {
+            throw new BusinessRuleException("ALREADY_EVALUATED", 
+                    "Credit application has already been evaluated");
+        }
+        if (!application.isPending()) {
+            throw new BusinessRuleException("NOT_PENDING", 
+                    "Credit application is not in PENDING status");
+        }
+        
+        if (evaluationJobRepository.countByStatus(EvaluationJobStatus.QUEUED) >= maxQueued) {
+            throw new ServiceOverloadedException("Evaluation queue is full, retry later");
+        }
+        
+        try {
+            return evaluationJobRepository.save(EvaluationJob.builder()
+                    .creditApplicationId(creditApplicationId)
+                    .status(EvaluationJobStatus.QUEUED)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // Another submission for the same application committed first
+            return evaluationJobRepository.findActiveByCreditApplicationId(creditApplicationId)
+                    .orElseThrow(() -> e);
+        }
+    }
+}
\ No newline at end of file
@@ -1,9 +1,9 @@
 package com.coopcredit.creditapplication.application.usecases.member;
 
 import com.coopcredit.creditapplication.domain.exception.NotFoundException;
-import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
 import com.coopcredit.creditapplication.domain.ports.in.GetMemberUseCase;
-import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.MemberQueryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,21 +11,21 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class GetMemberUseCaseImpl implements GetMemberUseCase {
     
-    private final MemberRepositoryPort memberRepository;
+    private final MemberQueryPort memberQuery;
     
-    public GetMemberUseCaseImpl(MemberRepositoryPort memberRepository) {
-        this.memberRepository = memberRepository;
+    public GetMemberUseCaseImpl(MemberQueryPort memberQuery) {
+        this.memberQuery = memberQuery;
     }
     
     @Override
-    public Member execute(Long id) {
-        return memberRepository.findById(id)
+    public MemberSummary execute(Long id) {
+        return memberQuery.findSummaryById(id)
                 .orElseThrow(() -> new NotFoundException("Member", "id", id));
     }
     
     @Override
-    public Member executeByDocument(String document) {
-        return memberRepository.findByDocument(document)
+    public MemberSummary executeByDocument(String document) {
+        return memberQuery.findSummaryByDocument(document)
                 .orElseThrow(() -> new NotFoundException("Member", "document", document));
     }
 }
\ No newline at end of file
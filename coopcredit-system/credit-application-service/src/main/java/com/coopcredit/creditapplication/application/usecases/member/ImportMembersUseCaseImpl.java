@@ -0,0 +1,226 @@
+package com.coopcredit.creditapplication.application.usecases.member;
+
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.in.ImportMembersUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates rows as they are read and writes the valid ones in chunks: one query per chunk
+ * finds the documents that already exist, and the rest are inserted in one transaction
+ * (batched, see the pooled id generation). Only the current chunk is held in memory.
+ * Each chunk commits on its own, so a failed row never undoes the rows before it.
+ */
+@Service
+public class ImportMembersUseCaseImpl implements ImportMembersUseCase {
+    
+    private static final Logger log = LoggerFactory.getLogger(ImportMembersUseCaseImpl.class);
+    
+    private static final int MAX_DOCUMENT_LENGTH = 20;
+    private static final int MAX_NAME_LENGTH = 100;
+    
+    private final MemberRepositoryPort memberRepository;
+    private final TransactionTemplate writeTransaction;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    
+    public ImportMembersUseCaseImpl(
+            MemberRepositoryPort memberRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${members.import.chunk-size:500}") int chunkSize,
+            @Value("${members.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.memberRepository = memberRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+    
+    @Override
+    public ImportReport execute(Iterator<MemberImportRow> rows) {
+        ReportBuilder report = new ReportBuilder(maxReportedErrors);
+        List<PendingMember> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            MemberImportRow row = rows.next();
+            report.processed++;
+            PendingMember pending = validate(row, report);
+            if (pending == null) {
+                continue;
+            }
+            chunk.add(pending);
+            if (chunk.size() == chunkSize) {
+                write(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, report);
+        }
+        
+        log.info("Member import finished: {} rows, {} created, {} failed", report.processed, report.created, report.failed);
+        return report.build();
+    }
+    
+    /**
+     * @return the member to insert, or {@code null} if the row was rejected and reported
+     */
+    private PendingMember validate(MemberImportRow row, ReportBuilder report) {
+        if (row.malformed() != null) {
+            report.error(row.line(), null, "MALFORMED_ROW", row.malformed());
+            return null;
+        }
+        String document = trim(row.document());
+        String name = trim(row.name());
+        String salaryText = trim(row.salary());
+        String affiliationDateText = trim(row.affiliationDate());
+        
+        String invalid = null;
+        BigDecimal salary = null;
+        LocalDate affiliationDate = LocalDate.now();
+        if (document == null) {
+            invalid = "document is required";
+        } else if (document.length() > MAX_DOCUMENT_LENGTH) {
+            invalid = "document must be at most " + MAX_DOCUMENT_LENGTH + " characters";
+        } else if (name == null) {
+            invalid = "name is required";
+        } else if (name.length() > MAX_NAME_LENGTH) {
+            invalid = "name must be at most " + MAX_NAME_LENGTH + " characters";
+        } else if (salaryText == null) {
+            invalid = "salary is required";
+        } else {
+            try {
+                salary = new BigDecimal(salaryText);
+                if (salary.signum() <= 0) {
+                    invalid = "salary must be positive";
+                }
+            } catch (NumberFormatException e) {
+                invalid = "salary must be a number";
+            }
+            if (invalid == null && affiliationDateText != null) {
+                try {
+                    affiliationDate = LocalDate.parse(affiliationDateText);
+                } catch (DateTimeParseException e) {
+                    invalid = "affiliationDate must be an ISO date (yyyy-MM-dd)";
+                }
+            }
+        }
+        if (invalid != null) {
+            report.error(row.line(), document, "INVALID_ROW", invalid);
+            return null;
+        }
+        
+        Member member = Member.builder()
+                .document(document)
+                .name(name)
+                .salary(salary)
+                .affiliationDate(affiliationDate)
+                .status(MemberStatus.ACTIVE)
+                .build();
+        return new PendingMember(row.line(), member);
+    }
+    
+    private void write(List<PendingMember> chunk, ReportBuilder report) {
+        // Repeated documents inside the chunk: the first row wins
+        Map<String, PendingMember> byDocument = new LinkedHashMap<>();
+        for (PendingMember pending : chunk) {
+            if (byDocument.putIfAbsent(pending.document(), pending) != null) {
+                report.error(pending.line(), pending.document(), "DUPLICATE_DOCUMENT",
+                        "Document appears more than once in the file");
+            }
+        }
+        
+        // One lookup on the unique document index for the whole chunk; earlier chunks
+        // are already committed, so repeats across chunks are caught here too
+        Set<String> existing = memberRepository.findExistingDocuments(byDocument.keySet());
+        List<PendingMember> toInsert = new ArrayList<>(byDocument.size());
+        for (PendingMember pending : byDocument.values()) {
+            if (existing.contains(pending.document())) {
+                report.error(pending.line(), pending.document(), "DUPLICATE_DOCUMENT",
+                        "Member with this document already exists");
+            } else {
+                toInsert.add(pending);
+            }
+        }
+        if (toInsert.isEmpty()) {
+            return;
+        }
+        
+        try {
+            writeTransaction.executeWithoutResult(status ->
+                    memberRepository.saveAll(toInsert.stream().map(PendingMember::member).toList()));
+            report.created += toInsert.size();
+        } catch (DataIntegrityViolationException e) {
+            // A member was created with one of these documents meanwhile: retry row by row
+            log.debug("Member import chunk hit the document index, retrying {} rows one by one", toInsert.size());
+            for (PendingMember pending : toInsert) {
+                try {
+                    writeTransaction.executeWithoutResult(status -> memberRepository.save(pending.member()));
+                    report.created++;
+                } catch (DataIntegrityViolationException duplicate) {
+                    report.error(pending.line(), pending.document(), "DUPLICATE_DOCUMENT",
+                            "Member with this document already exists");
+                }
+            }
+        }
+    }
+    
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+    
+    private record PendingMember(long line, Member member) {
+        
+        String document() {
+            return member.getDocument();
+        }
+    }
+    
+    private static final class ReportBuilder {
+        
+        private final int maxReportedErrors;
+        private final List<RowError> errors = new ArrayList<>();
+        private long processed;
+        private long created;
+        private long failed;
+        
+        ReportBuilder(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+        
+        void error(long line, String document, String errorCode, String errorMessage) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(line, document, errorCode, errorMessage));
+            }
+        }
+        
+        ImportReport build() {
+            // Chunked writes report duplicates after the invalid rows read meanwhile
+            List<RowError> sorted = errors.stream()
+                    .sorted(Comparator.comparingLong(RowError::line))
+                    .toList();
+            return new ImportReport(processed, created, failed, sorted, failed > errors.size());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.coopcredit.creditapplication.application.usecases.member;
+
+import com.coopcredit.creditapplication.application.usecases.KeysetPager;
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
+import com.coopcredit.creditapplication.domain.ports.in.ListMembersUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.MemberQueryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class ListMembersUseCaseImpl implements ListMembersUseCase {
+    
+    private final MemberQueryPort memberQuery;
+    private final KeysetPager pager;
+    
+    public ListMembersUseCaseImpl(
+            MemberQueryPort memberQuery,
+            @Value("${members.list.default-page-size:50}") int defaultPageSize,
+            @Value("${members.list.max-page-size:500}") int maxPageSize) {
+        this.memberQuery = memberQuery;
+        this.pager = new KeysetPager(defaultPageSize, maxPageSize);
+    }
+    
+    @Override
+    public MemberPage execute(ListMembersQuery query) {
+        KeysetPager.Slice<MemberSummary> page = pager.fetch(query.limit(),
+                rows -> memberQuery.findSummaryPage(query.status(), query.afterId(), rows));
+        return new MemberPage(page.items(), page.next(MemberSummary::id));
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.coopcredit.creditapplication.application.usecases.member;
 import com.coopcredit.creditapplication.domain.exception.NotFoundException;
 import com.coopcredit.creditapplication.domain.model.Member;
 import com.coopcredit.creditapplication.domain.ports.in.UpdateMemberUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationViewPort;
 import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,9 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateMemberUseCaseImpl implements UpdateMemberUseCase {
     
     private final MemberRepositoryPort memberRepository;
+    private final CreditApplicationViewPort creditApplicationViews;
     
-    public UpdateMemberUseCaseImpl(MemberRepositoryPort memberRepository) {
+    public UpdateMemberUseCaseImpl(MemberRepositoryPort memberRepository,
+                                   CreditApplicationViewPort creditApplicationViews) {
         this.memberRepository = memberRepository;
+        this.creditApplicationViews = creditApplicationViews;
     }
     
     @Override
@@ -32,6 +36,10 @@ public class UpdateMemberUseCaseImpl implements UpdateMemberUseCase {
             member.setStatus(command.status());
         }
         
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        if (command.name() != null) {
+            creditApplicationViews.memberUpdated(saved);
+        }
+        return saved;
     }
 }
\ No newline at end of file
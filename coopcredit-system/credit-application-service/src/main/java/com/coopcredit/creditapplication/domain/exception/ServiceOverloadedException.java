@@ -0,0 +1,11 @@
+package com.coopcredit.creditapplication.domain.exception;
+
+/**
+ * Exception thrown when work is refused because a bounded queue or pool is full.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
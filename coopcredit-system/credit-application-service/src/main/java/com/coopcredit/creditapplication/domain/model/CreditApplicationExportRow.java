@@ -0,0 +1,29 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.enums.FinalDecision;
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flat, read-only view of a credit application joined with its evaluation, used for exports.
+ * The evaluation columns are {@code null} while the application has not been evaluated.
+ */
+public record CreditApplicationExportRow(
+        Long id,
+        Long memberId,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        BigDecimal proposedRate,
+        LocalDate applicationDate,
+        ApplicationStatus status,
+        Integer score,
+        RiskLevel riskLevel,
+        BigDecimal paymentToIncomeRatio,
+        FinalDecision finalDecision,
+        String reason,
+        Boolean riskCentralSkipped,
+        LocalDateTime evaluatedAt
+) {}
\ No newline at end of file
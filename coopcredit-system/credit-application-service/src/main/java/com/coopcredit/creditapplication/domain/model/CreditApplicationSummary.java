@@ -0,0 +1,19 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a credit application, loaded straight from a query projection
+ * for the read endpoints (no managed entity, no domain object).
+ */
+public record CreditApplicationSummary(
+        Long id,
+        Long memberId,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        BigDecimal proposedRate,
+        LocalDate applicationDate,
+        ApplicationStatus status
+) {}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.enums.FinalDecision;
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized read model of a credit application with its member and, once evaluated,
+ * its decision. Evaluation fields are {@code null} while the application is pending.
+ */
+public record CreditApplicationView(
+        Long id,
+        Long memberId,
+        String memberDocument,
+        String memberName,
+        BigDecimal requestedAmount,
+        Integer termMonths,
+        BigDecimal proposedRate,
+        LocalDate applicationDate,
+        ApplicationStatus status,
+        Integer score,
+        RiskLevel riskLevel,
+        FinalDecision finalDecision,
+        String decisionReason,
+        LocalDateTime evaluatedAt
+) {}
\ No newline at end of file
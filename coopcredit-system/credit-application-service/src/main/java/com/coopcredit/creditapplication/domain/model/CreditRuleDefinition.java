@@ -0,0 +1,72 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import com.coopcredit.creditapplication.domain.model.enums.CreditRuleType;
+import java.time.LocalDateTime;
+
+/**
+ * Domain model representing a configurable credit decision rule.
+ * The threshold is kept as text and parsed according to the rule type
+ * (months, salary multiple, ratio or a comma-separated list of risk levels).
+ */
+public class CreditRuleDefinition {
+    
+    private Long id;
+    private CreditRuleType ruleType;
+    private String threshold;
+    private boolean enabled;
+    private String rejectionMessage;
+    private LocalDateTime updatedAt;
+    
+    public CreditRuleDefinition() {}
+    
+    public CreditRuleDefinition(Long id, CreditRuleType ruleType, String threshold, boolean enabled,
+                                String rejectionMessage) {
+        this.id = id;
+        this.ruleType = ruleType;
+        this.threshold = threshold;
+        this.enabled = enabled;
+        this.rejectionMessage = rejectionMessage;
+    }
+    
+    // Builder pattern
+    public static CreditRuleDefinitionBuilder builder() {
+        return new CreditRuleDefinitionBuilder();
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public CreditRuleType getRuleType() { return ruleType; }
+    public void setRuleType(CreditRuleType ruleType) { this.ruleType = ruleType; }
+    
+    public String getThreshold() { return threshold; }
+    public void setThreshold(String threshold) { this.threshold = threshold; }
+    
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    
+    public String getRejectionMessage() { return rejectionMessage; }
+    public void setRejectionMessage(String rejectionMessage) { this.rejectionMessage = rejectionMessage; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public static class CreditRuleDefinitionBuilder {
+        private Long id;
+        private CreditRuleType ruleType;
+        private String threshold;
+        private boolean enabled = true;
+        private String rejectionMessage;
+        
+        public CreditRuleDefinitionBuilder id(Long id) { this.id = id; return this; }
+        public CreditRuleDefinitionBuilder ruleType(CreditRuleType ruleType) { this.ruleType = ruleType; return this; }
+        public CreditRuleDefinitionBuilder threshold(String threshold) { this.threshold = threshold; return this; }
+        public CreditRuleDefinitionBuilder enabled(boolean enabled) { this.enabled = enabled; return this; }
+        public CreditRuleDefinitionBuilder rejectionMessage(String rejectionMessage) { this.rejectionMessage = rejectionMessage; return this; }
+        
+        public CreditRuleDefinition build() {
+            return new CreditRuleDefinition(id, ruleType, threshold, enabled, rejectionMessage);
+        }
+    }
+}
\ No newline at end of file
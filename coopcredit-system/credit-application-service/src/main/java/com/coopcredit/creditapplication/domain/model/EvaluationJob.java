@@ -0,0 +1,101 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Domain model representing a queued request to evaluate a credit application.
+ */
+public class EvaluationJob {
+    
+    private Long id;
+    private Long creditApplicationId;
+    private EvaluationJobStatus status;
+    private int attempts;
+    private Long riskEvaluationId;
+    private String errorCode;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    
+    public EvaluationJob() {}
+    
+    public EvaluationJob(Long id, Long creditApplicationId, EvaluationJobStatus status, int attempts,
+                         Long riskEvaluationId, String errorCode, String errorMessage) {
+        this.id = id;
+        this.creditApplicationId = creditApplicationId;
+        this.status = status;
+        this.attempts = attempts;
+        this.riskEvaluationId = riskEvaluationId;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+    
+    // Business methods
+    public boolean isFinished() {
+        return EvaluationJobStatus.COMPLETED.equals(status) || EvaluationJobStatus.FAILED.equals(status);
+    }
+    
+    public boolean isCompleted() {
+        return EvaluationJobStatus.COMPLETED.equals(status);
+    }
+    
+    // Builder pattern
+    public static EvaluationJobBuilder builder() {
+        return new EvaluationJobBuilder();
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getCreditApplicationId() { return creditApplicationId; }
+    public void setCreditApplicationId(Long creditApplicationId) { this.creditApplicationId = creditApplicationId; }
+    
+    public EvaluationJobStatus getStatus() { return status; }
+    public void setStatus(EvaluationJobStatus status) { this.status = status; }
+    
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    
+    public Long getRiskEvaluationId() { return riskEvaluationId; }
+    public void setRiskEvaluationId(Long riskEvaluationId) { this.riskEvaluationId = riskEvaluationId; }
+    
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+    
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    
+    public static class EvaluationJobBuilder {
+        private Long id;
+        private Long creditApplicationId;
+        private EvaluationJobStatus status = EvaluationJobStatus.QUEUED;
+        private int attempts;
+        private Long riskEvaluationId;
+        private String errorCode;
+        private String errorMessage;
+        
+        public EvaluationJobBuilder id(Long id) { this.id = id; return this; }
+        public EvaluationJobBuilder creditApplicationId(Long creditApplicationId) { this.creditApplicationId = creditApplicationId; return this; }
+        public EvaluationJobBuilder status(EvaluationJobStatus status) { this.status = status; return this; }
+        public EvaluationJobBuilder attempts(int attempts) { this.attempts = attempts; return this; }
+        public EvaluationJobBuilder riskEvaluationId(Long riskEvaluationId) { this.riskEvaluationId = riskEvaluationId; return this; }
+        public EvaluationJobBuilder errorCode(String errorCode) { this.errorCode = errorCode; return this; }
+        public EvaluationJobBuilder errorMessage(String errorMessage) { this.errorMessage = errorMessage; return this; }
+        
+        public EvaluationJob build() {
+            return new EvaluationJob(id, creditApplicationId, status, attempts, riskEvaluationId, errorCode, errorMessage);
+        }
+    }
+}
\ No newline at end of file
@@ -36,8 +36,7 @@ public class Member {
     
     // Business methods
     public long getSeniorityInMonths() {
-        if (affiliationDate == null) return 0;
-        return ChronoUnit.MONTHS.between(affiliationDate, LocalDate.now());
+        return seniorityInMonths(affiliationDate);
     }
     
     public boolean isActive() {
@@ -45,6 +44,16 @@ public class Member {
     }
     
     public BigDecimal getMaxCreditAmount() {
+        return maxCreditAmount(salary);
+    }
+    
+    // Shared with read models that carry the same columns
+    public static long seniorityInMonths(LocalDate affiliationDate) {
+        if (affiliationDate == null) return 0;
+        return ChronoUnit.MONTHS.between(affiliationDate, LocalDate.now());
+    }
+    
+    public static BigDecimal maxCreditAmount(BigDecimal salary) {
         // Business rule: max credit = 4x salary
         return salary.multiply(BigDecimal.valueOf(4));
     }
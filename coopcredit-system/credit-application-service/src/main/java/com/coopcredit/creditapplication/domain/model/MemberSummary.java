@@ -0,0 +1,26 @@
+package com.coopcredit.creditapplication.domain.model;
+
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a member, loaded straight from a query projection for the read endpoints.
+ */
+public record MemberSummary(
+        Long id,
+        String document,
+        String name,
+        BigDecimal salary,
+        LocalDate affiliationDate,
+        MemberStatus status
+) {
+    
+    public long seniorityInMonths() {
+        return Member.seniorityInMonths(affiliationDate);
+    }
+    
+    public BigDecimal maxCreditAmount() {
+        return Member.maxCreditAmount(salary);
+    }
+}
\ No newline at end of file
@@ -20,6 +20,7 @@ public class RiskEvaluation {
     private FinalDecision finalDecision;
     private String reason;
     private String riskCentralDetail;
+    private boolean riskCentralSkipped;
     private LocalDateTime createdAt;
     
     public RiskEvaluation() {}
@@ -85,6 +86,9 @@ public class RiskEvaluation {
     public String getRiskCentralDetail() { return riskCentralDetail; }
     public void setRiskCentralDetail(String riskCentralDetail) { this.riskCentralDetail = riskCentralDetail; }
     
+    public boolean isRiskCentralSkipped() { return riskCentralSkipped; }
+    public void setRiskCentralSkipped(boolean riskCentralSkipped) { this.riskCentralSkipped = riskCentralSkipped; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -99,6 +103,7 @@ public class RiskEvaluation {
         private FinalDecision finalDecision;
         private String reason;
         private String riskCentralDetail;
+        private boolean riskCentralSkipped;
         
         public RiskEvaluationBuilder id(Long id) { this.id = id; return this; }
         public RiskEvaluationBuilder creditApplicationId(Long creditApplicationId) { this.creditApplicationId = creditApplicationId; return this; }
@@ -110,10 +115,13 @@ public class RiskEvaluation {
         public RiskEvaluationBuilder finalDecision(FinalDecision finalDecision) { this.finalDecision = finalDecision; return this; }
         public RiskEvaluationBuilder reason(String reason) { this.reason = reason; return this; }
         public RiskEvaluationBuilder riskCentralDetail(String riskCentralDetail) { this.riskCentralDetail = riskCentralDetail; return this; }
+        public RiskEvaluationBuilder riskCentralSkipped(boolean riskCentralSkipped) { this.riskCentralSkipped = riskCentralSkipped; return this; }
         
         public RiskEvaluation build() {
-            return new RiskEvaluation(id, creditApplicationId, score, riskLevel, paymentToIncomeRatio, 
-                                      meetsSeniority, meetsMaxAmount, finalDecision, reason, riskCentralDetail);
+            RiskEvaluation evaluation = new RiskEvaluation(id, creditApplicationId, score, riskLevel, 
+                    paymentToIncomeRatio, meetsSeniority, meetsMaxAmount, finalDecision, reason, riskCentralDetail);
+            evaluation.setRiskCentralSkipped(riskCentralSkipped);
+            return evaluation;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.coopcredit.creditapplication.domain.model.enums;
+
+/**
+ * Kinds of credit decision rules. The order is the order in which rules are evaluated.
+ */
+public enum CreditRuleType {
+    MIN_SENIORITY_MONTHS,
+    MAX_AMOUNT_SALARY_MULTIPLE,
+    MAX_PAYMENT_TO_INCOME_RATIO,
+    REJECTED_RISK_LEVELS
+}
\ No newline at end of file
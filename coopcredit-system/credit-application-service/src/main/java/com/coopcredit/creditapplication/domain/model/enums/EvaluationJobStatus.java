@@ -0,0 +1,11 @@
+package com.coopcredit.creditapplication.domain.model.enums;
+
+/**
+ * Lifecycle of an asynchronous evaluation job.
+ */
+public enum EvaluationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
\ No newline at end of file
@@ -7,7 +7,7 @@ public interface AuthenticateUserUseCase {
     
     record AuthRequest(String username, String password) {}
     
-    record AuthResponse(String token, String username, String role, Long expiresIn) {}
+    record AuthResponse(String token, String username, String role, Long expiresIn, Long memberId) {}
     
     AuthResponse authenticate(AuthRequest request);
 }
\ No newline at end of file
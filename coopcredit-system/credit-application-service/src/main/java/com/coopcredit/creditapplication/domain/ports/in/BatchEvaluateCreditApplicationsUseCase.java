@@ -0,0 +1,40 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import java.util.List;
+
+/**
+ * Port for evaluating many credit applications in a single call.
+ */
+public interface BatchEvaluateCreditApplicationsUseCase {
+    
+    /**
+     * Either an explicit list of application ids or, when empty, the oldest
+     * PENDING applications up to {@code pendingLimit}.
+     */
+    record BatchEvaluationCommand(
+        List<Long> creditApplicationIds,
+        Integer pendingLimit
+    ) {}
+    
+    record BatchEvaluationItem(
+        Long creditApplicationId,
+        RiskEvaluation evaluation,
+        String errorCode,
+        String errorMessage
+    ) {
+        public static BatchEvaluationItem evaluated(RiskEvaluation evaluation) {
+            return new BatchEvaluationItem(evaluation.getCreditApplicationId(), evaluation, null, null);
+        }
+        
+        public static BatchEvaluationItem failed(Long creditApplicationId, String errorCode, String errorMessage) {
+            return new BatchEvaluationItem(creditApplicationId, null, errorCode, errorMessage);
+        }
+        
+        public boolean isEvaluated() {
+            return evaluation != null;
+        }
+    }
+    
+    List<BatchEvaluationItem> execute(BatchEvaluationCommand command);
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.coopcredit.creditapplication.domain.ports.in;
 
 import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Port for evaluating a credit application use case.
@@ -8,4 +9,10 @@ import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
 public interface EvaluateCreditApplicationUseCase {
     
     RiskEvaluation execute(Long creditApplicationId);
+    
+    /**
+     * Same rules as {@link #execute(Long)}, but the risk central call does not block
+     * the calling thread. Validation errors are thrown before the future is returned.
+     */
+    CompletableFuture<RiskEvaluation> executeAsync(Long creditApplicationId);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplicationExportRow;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Port for exporting credit applications and their evaluations.
+ */
+public interface ExportCreditApplicationsUseCase {
+    
+    /**
+     * @param from inclusive application date, optional
+     * @param to   inclusive application date, optional
+     */
+    record ExportFilter(ApplicationStatus status, LocalDate from, LocalDate to) {}
+    
+    /**
+     * Streams matching rows to the consumer without collecting them.
+     *
+     * @return the number of rows exported
+     */
+    long execute(ExportFilter filter, Consumer<CreditApplicationExportRow> consumer);
+}
\ No newline at end of file
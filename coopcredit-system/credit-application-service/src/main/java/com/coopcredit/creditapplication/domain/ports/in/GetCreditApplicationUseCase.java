@@ -1,11 +1,11 @@
 package com.coopcredit.creditapplication.domain.ports.in;
 
-import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
 
 /**
  * Port for retrieving a single credit application use case.
  */
 public interface GetCreditApplicationUseCase {
     
-    CreditApplication execute(Long id);
+    CreditApplicationSummary execute(Long id);
 }
\ No newline at end of file
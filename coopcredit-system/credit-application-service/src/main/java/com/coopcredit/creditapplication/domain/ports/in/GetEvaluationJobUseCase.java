@@ -0,0 +1,17 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+
+/**
+ * Port for polling an asynchronous evaluation job.
+ */
+public interface GetEvaluationJobUseCase {
+    
+    /**
+     * {@code evaluation} is set once the job has completed.
+     */
+    record EvaluationJobResult(EvaluationJob job, RiskEvaluation evaluation) {}
+    
+    EvaluationJobResult execute(Long jobId);
+}
\ No newline at end of file
@@ -1,13 +1,13 @@
 package com.coopcredit.creditapplication.domain.ports.in;
 
-import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
 
 /**
  * Port for retrieving a single member use case.
  */
 public interface GetMemberUseCase {
     
-    Member execute(Long id);
+    MemberSummary execute(Long id);
     
-    Member executeByDocument(String document);
+    MemberSummary executeByDocument(String document);
 }
\ No newline at end of file
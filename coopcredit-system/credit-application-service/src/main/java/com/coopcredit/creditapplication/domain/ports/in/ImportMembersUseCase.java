@@ -0,0 +1,49 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Port for creating many members from an uploaded file.
+ * Rows are consumed one at a time and written in chunks, so memory use does not depend on the file size.
+ */
+public interface ImportMembersUseCase {
+    
+    /**
+     * One row of the upload as text; {@code line} is its line number in the file.
+     * {@code malformed} is set, and the fields are empty, when the line could not be read.
+     */
+    record MemberImportRow(
+        long line,
+        String document,
+        String name,
+        String salary,
+        String affiliationDate,
+        String malformed
+    ) {
+        public static MemberImportRow malformed(long line, String message) {
+            return new MemberImportRow(line, null, null, null, null, message);
+        }
+    }
+    
+    record RowError(
+        long line,
+        String document,
+        String errorCode,
+        String errorMessage
+    ) {}
+    
+    /**
+     * {@code errors} holds at most the configured number of errors; {@code errorsTruncated}
+     * tells whether more rows failed than are listed ({@code failed} always has the total).
+     */
+    record ImportReport(
+        long processed,
+        long created,
+        long failed,
+        List<RowError> errors,
+        boolean errorsTruncated
+    ) {}
+    
+    ImportReport execute(Iterator<MemberImportRow> rows);
+}
\ No newline at end of file
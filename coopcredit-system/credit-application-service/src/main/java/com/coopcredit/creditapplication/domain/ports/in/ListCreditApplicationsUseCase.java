@@ -1,17 +1,42 @@
 package com.coopcredit.creditapplication.domain.ports.in;
 
-import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
 import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * Port for listing credit applications use case.
+ * Results are paged by keyset on (applicationDate, id), oldest first.
  */
 public interface ListCreditApplicationsUseCase {
     
-    List<CreditApplication> execute();
+    /**
+     * Position of the last application already returned; the next page starts after it.
+     */
+    record PageCursor(LocalDate applicationDate, Long id) {}
     
-    List<CreditApplication> executeByMemberId(Long memberId);
+    /**
+     * @param memberId optional filter
+     * @param status   optional filter
+     * @param from     optional filter, first application date included
+     * @param to       optional filter, last application date included
+     * @param after    {@code null} for the first page
+     * @param limit    page size; {@code null} for the default, capped at the maximum
+     */
+    record ListCreditApplicationsQuery(
+            Long memberId,
+            ApplicationStatus status,
+            LocalDate from,
+            LocalDate to,
+            PageCursor after,
+            Integer limit
+    ) {}
     
-    List<CreditApplication> executeByStatus(ApplicationStatus status);
-}
\ No newline at end of file
+    /**
+     * {@code next} is {@code null} on the last page.
+     */
+    record CreditApplicationPage(List<CreditApplicationSummary> items, PageCursor next) {}
+    
+    CreditApplicationPage execute(ListCreditApplicationsQuery query);
+}
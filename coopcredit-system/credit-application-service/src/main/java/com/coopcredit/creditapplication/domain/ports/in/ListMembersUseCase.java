@@ -0,0 +1,26 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import java.util.List;
+
+/**
+ * Port for listing members use case.
+ * Results are paged by keyset on id, in ascending order.
+ */
+public interface ListMembersUseCase {
+    
+    /**
+     * @param status  optional filter
+     * @param afterId id of the last member already returned; {@code null} for the first page
+     * @param limit   page size; {@code null} for the default, capped at the maximum
+     */
+    record ListMembersQuery(MemberStatus status, Long afterId, Integer limit) {}
+    
+    /**
+     * {@code nextAfterId} is {@code null} on the last page.
+     */
+    record MemberPage(List<MemberSummary> items, Long nextAfterId) {}
+    
+    MemberPage execute(ListMembersQuery query);
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplicationView;
+import com.coopcredit.creditapplication.domain.ports.in.ListCreditApplicationsUseCase.ListCreditApplicationsQuery;
+import com.coopcredit.creditapplication.domain.ports.in.ListCreditApplicationsUseCase.PageCursor;
+import java.util.List;
+
+/**
+ * Port for reading credit applications together with their member and decision from
+ * the denormalized read model, and for rebuilding it. Listings take the same filters and
+ * keyset cursor as {@link ListCreditApplicationsUseCase}.
+ */
+public interface ManageCreditApplicationViewsUseCase {
+    
+    /**
+     * {@code next} is {@code null} on the last page.
+     */
+    record CreditApplicationViewPage(List<CreditApplicationView> items, PageCursor next) {}
+    
+    CreditApplicationView getById(Long id);
+    
+    CreditApplicationViewPage list(ListCreditApplicationsQuery query);
+    
+    /**
+     * @return the number of applications in the rebuilt view
+     */
+    long rebuild();
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.CreditRuleDefinition;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Port for inspecting and reloading the credit decision rules.
+ */
+public interface ManageCreditRulesUseCase {
+    
+    record CreditRuleSet(long version, LocalDateTime compiledAt, List<CreditRuleDefinition> rules) {}
+    
+    CreditRuleSet getActive();
+    
+    /**
+     * Reloads the rule definitions; the version only changes when the definitions did.
+     */
+    CreditRuleSet reload();
+}
\ No newline at end of file
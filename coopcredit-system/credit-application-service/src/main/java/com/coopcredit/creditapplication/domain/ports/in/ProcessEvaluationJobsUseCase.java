@@ -0,0 +1,26 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Port used by the job worker to claim and run queued evaluation jobs.
+ */
+public interface ProcessEvaluationJobsUseCase {
+    
+    /**
+     * Claims up to {@code limit} queued jobs for this worker and returns their ids.
+     */
+    List<Long> claimQueued(int limit);
+    
+    /**
+     * Runs the evaluation for a claimed job and records its outcome.
+     */
+    void process(Long jobId);
+    
+    /**
+     * Re-queues jobs left RUNNING for longer than {@code staleAfter}, e.g. by a node that crashed.
+     * Jobs that have used up their attempts are failed instead.
+     */
+    int requeueStale(Duration staleAfter);
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.coopcredit.creditapplication.domain.ports.in;
+
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+
+/**
+ * Port for queueing an asynchronous credit application evaluation.
+ */
+public interface SubmitEvaluationJobUseCase {
+    
+    /**
+     * Returns the queued job, or the job already active for the application.
+     */
+    EvaluationJob execute(Long creditApplicationId);
+}
\ No newline at end of file
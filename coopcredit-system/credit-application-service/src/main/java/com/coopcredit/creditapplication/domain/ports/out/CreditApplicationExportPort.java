@@ -0,0 +1,20 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplicationExportRow;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Port for reading credit applications with their evaluations as a forward-only stream.
+ */
+public interface CreditApplicationExportPort {
+    
+    /**
+     * Hands each row to the consumer as it is read, ordered by (applicationDate, id).
+     * Must run inside a transaction. All filters are optional.
+     *
+     * @return the number of rows read
+     */
+    long forEach(ApplicationStatus status, LocalDate from, LocalDate to, Consumer<CreditApplicationExportRow> consumer);
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only queries over credit applications that return projections instead of domain objects.
+ */
+public interface CreditApplicationQueryPort {
+    
+    /**
+     * Optional filters, combined with AND; {@code from} and {@code to} are inclusive
+     * bounds on the application date.
+     */
+    record SummaryFilter(Long memberId, ApplicationStatus status, LocalDate from, LocalDate to) {}
+    
+    Optional<CreditApplicationSummary> findSummaryById(Long id);
+    
+    /**
+     * Keyset page ordered by (applicationDate, id): rows strictly after
+     * ({@code afterDate}, {@code afterId}), or from the start when {@code afterDate} is null.
+     */
+    List<CreditApplicationSummary> findSummaryPage(SummaryFilter filter, LocalDate afterDate, Long afterId,
+                                                   int limit);
+}
\ No newline at end of file
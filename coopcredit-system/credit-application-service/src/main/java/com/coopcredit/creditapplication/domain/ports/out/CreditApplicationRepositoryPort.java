@@ -2,6 +2,7 @@ package com.coopcredit.creditapplication.domain.ports.out;
 
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
 import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,13 +13,22 @@ public interface CreditApplicationRepositoryPort {
     
     CreditApplication save(CreditApplication creditApplication);
     
+    List<CreditApplication> saveAll(List<CreditApplication> creditApplications);
+    
     Optional<CreditApplication> findById(Long id);
     
-    List<CreditApplication> findAll();
+    List<CreditApplication> findAllById(Collection<Long> ids);
     
-    List<CreditApplication> findByMemberId(Long memberId);
+    /**
+     * Oldest applications in the given status first, capped at {@code limit} rows.
+     */
+    List<CreditApplication> findByStatus(ApplicationStatus status, int limit);
     
-    List<CreditApplication> findByStatus(ApplicationStatus status);
+    /**
+     * Moves an application from {@code expected} to {@code target} status in one conditional
+     * UPDATE; returns false if it was no longer in {@code expected} status (or does not exist).
+     */
+    boolean transitionStatus(Long id, ApplicationStatus expected, ApplicationStatus target);
     
     void deleteById(Long id);
 }
\ No newline at end of file
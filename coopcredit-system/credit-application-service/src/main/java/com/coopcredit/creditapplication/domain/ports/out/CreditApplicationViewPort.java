@@ -0,0 +1,42 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationView;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort.SummaryFilter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for the denormalized credit application read model. The update methods are called
+ * by the write use cases inside their own transaction, so the view commits or rolls back
+ * together with the change it reflects.
+ */
+public interface CreditApplicationViewPort {
+    
+    record EvaluatedApplication(ApplicationStatus status, RiskEvaluation evaluation) {}
+    
+    void applicationCreated(CreditApplication application, Member member);
+    
+    void applicationsEvaluated(List<EvaluatedApplication> evaluated);
+    
+    void memberUpdated(Member member);
+    
+    /**
+     * Recreates the whole view from the source tables.
+     *
+     * @return the number of rows in the view
+     */
+    long rebuild();
+    
+    Optional<CreditApplicationView> findById(Long id);
+    
+    /**
+     * Keyset page ordered by (applicationDate, id): rows strictly after
+     * ({@code afterDate}, {@code afterId}), or from the start when {@code afterDate} is null.
+     */
+    List<CreditApplicationView> findPage(SummaryFilter filter, LocalDate afterDate, Long afterId, int limit);
+}
\ No newline at end of file
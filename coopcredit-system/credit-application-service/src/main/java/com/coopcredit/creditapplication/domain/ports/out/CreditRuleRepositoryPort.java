@@ -0,0 +1,15 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import com.coopcredit.creditapplication.domain.model.CreditRuleDefinition;
+import java.util.List;
+
+/**
+ * Port for loading credit decision rule definitions.
+ */
+public interface CreditRuleRepositoryPort {
+    
+    /**
+     * Returns at most one definition per rule type.
+     */
+    List<CreditRuleDefinition> findAll();
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Port for running evaluation work off the caller's thread, on bounded pools.
+ * Work that does not fit is refused with
+ * {@link com.coopcredit.creditapplication.domain.exception.ServiceOverloadedException}.
+ */
+public interface EvaluationExecutorPort {
+    
+    /**
+     * Runs blocking risk central calls; all of them are started, or none.
+     */
+    <T> List<CompletableFuture<T>> supplyAllAsync(List<Supplier<T>> remoteCalls);
+    
+    /**
+     * Starts an async risk central call and runs the short database write that follows its
+     * answer on a pool of its own, so it never waits behind blocking remote calls. The write's
+     * place is taken before the call starts: an evaluation that does not fit is refused before
+     * the risk central is asked, not after its answer.
+     */
+    <R, T> CompletableFuture<T> callThenWrite(Supplier<CompletableFuture<R>> remoteCall, Function<R, T> write);
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Port for evaluation job repository operations.
+ */
+public interface EvaluationJobRepositoryPort {
+    
+    EvaluationJob save(EvaluationJob job);
+    
+    Optional<EvaluationJob> findById(Long id);
+    
+    /**
+     * Returns the QUEUED or RUNNING job for the application, if any.
+     */
+    Optional<EvaluationJob> findActiveByCreditApplicationId(Long creditApplicationId);
+    
+    long countByStatus(EvaluationJobStatus status);
+    
+    /**
+     * Oldest QUEUED job ids first.
+     */
+    List<Long> findQueuedIds(int limit);
+    
+    /**
+     * Moves a job from QUEUED to RUNNING; returns false if another worker claimed it first.
+     */
+    boolean markRunning(Long id);
+    
+    void markCompleted(Long id, Long riskEvaluationId);
+    
+    void markFailed(Long id, String errorCode, String errorMessage);
+    
+    /**
+     * Puts RUNNING jobs started before the given time back in the queue, unless they
+     * have already been attempted {@code maxAttempts} times.
+     */
+    int requeueRunningStartedBefore(LocalDateTime startedBefore, int maxAttempts);
+    
+    /**
+     * Fails RUNNING jobs started before the given time that have used up their attempts.
+     */
+    int failRunningStartedBefore(LocalDateTime startedBefore, int maxAttempts, String errorCode, String errorMessage);
+}
\ No newline at end of file
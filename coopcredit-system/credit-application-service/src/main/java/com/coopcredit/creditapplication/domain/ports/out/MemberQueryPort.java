@@ -0,0 +1,22 @@
+package com.coopcredit.creditapplication.domain.ports.out;
+
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read-only queries over members that return projections instead of domain objects.
+ */
+public interface MemberQueryPort {
+    
+    Optional<MemberSummary> findSummaryById(Long id);
+    
+    Optional<MemberSummary> findSummaryByDocument(String document);
+    
+    /**
+     * Keyset page ordered by id: rows with an id greater than {@code afterId}
+     * ({@code null} for the first page). {@code status} is an optional filter.
+     */
+    List<MemberSummary> findSummaryPage(MemberStatus status, Long afterId, int limit);
+}
\ No newline at end of file
@@ -2,8 +2,10 @@ package com.coopcredit.creditapplication.domain.ports.out;
 
 import com.coopcredit.creditapplication.domain.model.Member;
 import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Port for member repository operations.
@@ -12,8 +14,12 @@ public interface MemberRepositoryPort {
     
     Member save(Member member);
     
+    List<Member> saveAll(List<Member> members);
+    
     Optional<Member> findById(Long id);
     
+    List<Member> findAllById(Collection<Long> ids);
+    
     Optional<Member> findByDocument(String document);
     
     Optional<Member> findByUserId(Long userId);
@@ -24,5 +30,10 @@ public interface MemberRepositoryPort {
     
     boolean existsByDocument(String document);
     
+    /**
+     * The subset of {@code documents} that already belong to a member, in one query.
+     */
+    Set<String> findExistingDocuments(Collection<String> documents);
+    
     void deleteById(Long id);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.coopcredit.creditapplication.domain.ports.out;
 
 import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Port for external risk central service operations.
@@ -9,11 +10,26 @@ public interface RiskCentralPort {
     
     record RiskCentralRequest(String document, java.math.BigDecimal requestedAmount) {}
     
+    /**
+     * {@code degraded} marks a default answer produced while the risk central was
+     * unavailable; such responses must not be cached.
+     */
     record RiskCentralResponse(
         Integer score,
         RiskLevel riskLevel,
-        String detail
-    ) {}
+        String detail,
+        boolean degraded
+    ) {
+        public RiskCentralResponse(Integer score, RiskLevel riskLevel, String detail) {
+            this(score, riskLevel, detail, false);
+        }
+    }
     
     RiskCentralResponse evaluateRisk(RiskCentralRequest request);
+    
+    /**
+     * Non-blocking variant: the returned future completes when the remote call does,
+     * without holding the caller's thread in the meantime.
+     */
+    CompletableFuture<RiskCentralResponse> evaluateRiskAsync(RiskCentralRequest request);
 }
\ No newline at end of file
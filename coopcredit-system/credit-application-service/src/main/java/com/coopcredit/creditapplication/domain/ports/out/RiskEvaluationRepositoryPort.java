@@ -1,7 +1,10 @@
 package com.coopcredit.creditapplication.domain.ports.out;
 
 import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Port for risk evaluation repository operations.
@@ -10,11 +13,18 @@ public interface RiskEvaluationRepositoryPort {
     
     RiskEvaluation save(RiskEvaluation riskEvaluation);
     
+    List<RiskEvaluation> saveAll(List<RiskEvaluation> riskEvaluations);
+    
     Optional<RiskEvaluation> findById(Long id);
     
     Optional<RiskEvaluation> findByCreditApplicationId(Long creditApplicationId);
     
     boolean existsByCreditApplicationId(Long creditApplicationId);
     
+    /**
+     * Returns the subset of the given application ids that already have an evaluation.
+     */
+    Set<Long> findEvaluatedCreditApplicationIds(Collection<Long> creditApplicationIds);
+    
     void deleteById(Long id);
 }
\ No newline at end of file
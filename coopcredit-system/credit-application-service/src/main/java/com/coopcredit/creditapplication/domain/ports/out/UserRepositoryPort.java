@@ -16,5 +16,10 @@ public interface UserRepositoryPort {
     
     boolean existsByUsername(String username);
     
+    /**
+     * Replaces only the password hash, leaving the rest of the user as it is in the database.
+     */
+    void updatePassword(Long id, String encodedPassword);
+    
     void deleteById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link MemberRepositoryPort} decorator that answers {@code findById} and
+ * {@code findByDocument} from {@link MemberCache} and evicts a member whenever it is
+ * saved or deleted. With an invalidation log, changes to existing members are also
+ * published so other nodes evict them; newly created members cannot be cached anywhere yet.
+ */
+public class CachingMemberRepositoryAdapter implements MemberRepositoryPort {
+    
+    private final MemberRepositoryPort delegate;
+    private final MemberCache cache;
+    private final MemberCacheInvalidationLog invalidationLog;
+    
+    /**
+     * @param invalidationLog {@code null} when the cache is local to this node
+     */
+    public CachingMemberRepositoryAdapter(MemberRepositoryPort delegate, MemberCache cache,
+                                          MemberCacheInvalidationLog invalidationLog) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.invalidationLog = invalidationLog;
+    }
+    
+    @Override
+    public Optional<Member> findById(Long id) {
+        Optional<Member> cached = cache.getById(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long stamp = cache.invalidationStamp();
+        Optional<Member> member = delegate.findById(id);
+        member.ifPresent(loaded -> cache.putIfNotInvalidatedSince(loaded, stamp));
+        return member;
+    }
+    
+    @Override
+    public Optional<Member> findByDocument(String document) {
+        Optional<Member> cached = cache.getByDocument(document);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        long stamp = cache.invalidationStamp();
+        Optional<Member> member = delegate.findByDocument(document);
+        member.ifPresent(loaded -> cache.putIfNotInvalidatedSince(loaded, stamp));
+        return member;
+    }
+    
+    @Override
+    public Member save(Member member) {
+        boolean existing = member.getId() != null;
+        Member saved = delegate.save(member);
+        evict(saved.getId(), saved.getDocument(), existing);
+        return saved;
+    }
+    
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        List<Member> saved = delegate.saveAll(members);
+        for (int i = 0; i < saved.size(); i++) {
+            evict(saved.get(i).getId(), saved.get(i).getDocument(), members.get(i).getId() != null);
+        }
+        return saved;
+    }
+    
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        evict(id, null, true);
+    }
+    
+    @Override
+    public List<Member> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+    
+    @Override
+    public Optional<Member> findByUserId(Long userId) {
+        return delegate.findByUserId(userId);
+    }
+    
+    @Override
+    public List<Member> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Member> findByStatus(MemberStatus status) {
+        return delegate.findByStatus(status);
+    }
+    
+    @Override
+    public boolean existsByDocument(String document) {
+        return delegate.existsByDocument(document);
+    }
+    
+    @Override
+    public Set<String> findExistingDocuments(Collection<String> documents) {
+        return delegate.findExistingDocuments(documents);
+    }
+    
+    private void evict(Long id, String document, boolean publish) {
+        cache.invalidate(id, document);
+        if (publish && invalidationLog != null) {
+            invalidationLog.record(id, document);
+        }
+        // Until the write commits, a concurrent read can load and cache the old row again
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id, document);
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
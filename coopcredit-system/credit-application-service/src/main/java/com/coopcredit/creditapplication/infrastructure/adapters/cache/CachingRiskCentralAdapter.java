@@ -0,0 +1,49 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import com.coopcredit.creditapplication.infrastructure.adapters.http.RiskCentralRequestKey;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link RiskCentralPort} decorator that answers repeat requests from {@link RiskScoreCache}
+ * and only reaches the delegate on a miss.
+ */
+public class CachingRiskCentralAdapter implements RiskCentralPort {
+    
+    private final RiskCentralPort delegate;
+    private final RiskScoreCache cache;
+    
+    public CachingRiskCentralAdapter(RiskCentralPort delegate, RiskScoreCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+    
+    @Override
+    public RiskCentralResponse evaluateRisk(RiskCentralRequest request) {
+        RiskCentralRequestKey key = cache.keyFor(request);
+        Optional<RiskCentralResponse> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        
+        RiskCentralResponse response = delegate.evaluateRisk(request);
+        cache.put(key, response);
+        return response;
+    }
+    
+    @Override
+    public CompletableFuture<RiskCentralResponse> evaluateRiskAsync(RiskCentralRequest request) {
+        RiskCentralRequestKey key = cache.keyFor(request);
+        Optional<RiskCentralResponse> cached = cache.get(key);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        
+        return delegate.evaluateRiskAsync(request).thenApply(response -> {
+            cache.put(key, response);
+            return response;
+        });
+    }
+}
\ No newline at end of file
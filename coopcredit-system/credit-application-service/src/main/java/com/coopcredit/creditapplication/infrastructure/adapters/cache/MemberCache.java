@@ -0,0 +1,135 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, time-limited store of members by id and by document. Hit, miss and eviction
+ * counts are published as the {@code cache.*} meters tagged {@code cache=membersById}
+ * and {@code cache=membersByDocument}. Members are mutable, so callers always get a copy.
+ * A member read from the database is only cached when no invalidation happened since the
+ * read started (see {@link #invalidationStamp()}), so a reader that loaded the row before
+ * a write committed cannot put it back after the write's invalidation.
+ */
+@Component
+public class MemberCache {
+    
+    private final Cache<Long, Member> byId;
+    private final Cache<String, Member> byDocument;
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public MemberCache(
+            MeterRegistry meterRegistry,
+            @Value("${members.cache.ttl:10m}") Duration ttl,
+            @Value("${members.cache.max-size:10000}") long maxSize) {
+        this.byDocument = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        // A member evicted by id takes its entry by document along, so invalidating by id alone is enough
+        this.byId = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .<Long, Member>evictionListener((id, member, cause) -> removeByDocument(member))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "membersById");
+        CaffeineCacheMetrics.monitor(meterRegistry, byDocument, "membersByDocument");
+    }
+    
+    public Optional<Member> getById(Long id) {
+        return Optional.ofNullable(byId.getIfPresent(id)).map(MemberCache::copy);
+    }
+    
+    public Optional<Member> getByDocument(String document) {
+        return Optional.ofNullable(byDocument.getIfPresent(document)).map(MemberCache::copy);
+    }
+    
+    public void put(Member member) {
+        Member cached = copy(member);
+        byId.put(member.getId(), cached);
+        byDocument.put(member.getDocument(), cached);
+    }
+    
+    /**
+     * Taken before reading a member from the database, and handed back to
+     * {@link #putIfNotInvalidatedSince(Member, long)} with what was read.
+     */
+    public long invalidationStamp() {
+        return invalidations.get();
+    }
+    
+    /**
+     * Caches {@code member} unless an invalidation happened since {@code stamp} was taken.
+     * Any invalidation counts, not only the member's own: the document a member is read by
+     * says nothing of its id, and a needless miss is cheaper than a stale member.
+     */
+    public void putIfNotInvalidatedSince(Member member, long stamp) {
+        if (invalidations.get() != stamp) {
+            return;
+        }
+        Member cached = copy(member);
+        byId.put(member.getId(), cached);
+        byDocument.put(member.getDocument(), cached);
+        // An invalidation that counted itself after the check above may have run its removals
+        // before these puts; take back exactly what was put, leaving newer entries alone
+        if (invalidations.get() != stamp) {
+            byId.asMap().remove(member.getId(), cached);
+            byDocument.asMap().remove(member.getDocument(), cached);
+        }
+    }
+    
+    /**
+     * Drops the member by id and by the document it was cached under, which may differ
+     * from {@code document} when the document itself changed.
+     *
+     * @param document may be {@code null}: the entry by document is then found through the entry by id
+     */
+    public void invalidate(Long id, String document) {
+        invalidations.incrementAndGet();
+        if (id != null) {
+            removeByDocument(byId.asMap().remove(id));
+        }
+        if (document != null) {
+            byDocument.invalidate(document);
+        }
+    }
+    
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        byId.invalidateAll();
+        byDocument.invalidateAll();
+    }
+    
+    private void removeByDocument(Member cached) {
+        if (cached != null) {
+            // Both caches hold the same instance; a newer entry for the document is left alone
+            byDocument.asMap().remove(cached.getDocument(), cached);
+        }
+    }
+    
+    private static Member copy(Member member) {
+        Member copy = Member.builder()
+                .id(member.getId())
+                .document(member.getDocument())
+                .name(member.getName())
+                .salary(member.getSalary())
+                .affiliationDate(member.getAffiliationDate())
+                .status(member.getStatus())
+                .userId(member.getUserId())
+                .build();
+        copy.setCreatedAt(member.getCreatedAt());
+        copy.setUpdatedAt(member.getUpdatedAt());
+        return copy;
+    }
+}
\ No newline at end of file
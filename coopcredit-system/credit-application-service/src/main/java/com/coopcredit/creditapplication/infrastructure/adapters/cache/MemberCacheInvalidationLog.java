@@ -0,0 +1,83 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.infrastructure.entities.MemberCacheInvalidationEntity;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaMemberCacheInvalidationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares member cache invalidations between nodes through the
+ * {@code member_cache_invalidations} table. A row is written in the transaction that
+ * changes the member, so other nodes only see it once the change is committed.
+ * <p>
+ * Rows are read back by database time with a look-back window rather than by id: ids
+ * come in pooled blocks and transactions commit out of order, so a row can appear after
+ * newer ones. Rows already applied are remembered for the length of the window, so each
+ * change evicts once per node.
+ */
+@Component
+public class MemberCacheInvalidationLog {
+    
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0, 1);
+    
+    private final JpaMemberCacheInvalidationRepository repository;
+    private final Duration lookback;
+    private final Counter applied;
+    private final Map<Long, LocalDateTime> appliedIds = new HashMap<>();
+    private LocalDateTime seenUpTo;
+    
+    public MemberCacheInvalidationLog(
+            JpaMemberCacheInvalidationRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${members.cache.cluster.lookback:30s}") Duration lookback) {
+        this.repository = repository;
+        this.lookback = lookback;
+        this.applied = Counter.builder("members.cache.cluster.invalidations")
+                .description("Member cache entries evicted because another node changed the member")
+                .register(meterRegistry);
+    }
+    
+    public void record(Long memberId, String document) {
+        repository.save(new MemberCacheInvalidationEntity(memberId, document));
+    }
+    
+    /**
+     * Evicts the members changed since the previous poll. The first poll only marks where
+     * to start: the cache of a node that just started has nothing stale in it.
+     */
+    public synchronized void applyNew(MemberCache cache) {
+        if (seenUpTo == null) {
+            LocalDateTime latest = repository.findLatestCreatedAt();
+            seenUpTo = latest != null ? latest : BEGINNING;
+            return;
+        }
+        
+        LocalDateTime since = seenUpTo.minus(lookback);
+        for (MemberCacheInvalidationEntity invalidation : repository.findByCreatedAtGreaterThanEqualOrderByCreatedAtAsc(since)) {
+            if (appliedIds.putIfAbsent(invalidation.getId(), invalidation.getCreatedAt()) == null) {
+                cache.invalidate(invalidation.getMemberId(), invalidation.getDocument());
+                applied.increment();
+            }
+            if (invalidation.getCreatedAt().isAfter(seenUpTo)) {
+                seenUpTo = invalidation.getCreatedAt();
+            }
+        }
+        LocalDateTime forgetBefore = seenUpTo.minus(lookback);
+        appliedIds.values().removeIf(createdAt -> createdAt.isBefore(forgetBefore));
+    }
+    
+    /**
+     * Deletes rows older than {@code retention}, measured from the newest row seen.
+     */
+    public int purge(Duration retention) {
+        LocalDateTime latest = repository.findLatestCreatedAt();
+        return latest == null ? 0 : repository.deleteCreatedBefore(latest.minus(retention));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import com.coopcredit.creditapplication.infrastructure.adapters.http.RiskCentralRequestKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, time-limited store of risk central scores. Hit, miss and eviction counts
+ * are published as the {@code cache.*} meters tagged {@code cache=riskCentralScores}.
+ */
+@Component
+public class RiskScoreCache {
+    
+    private static final Logger log = LoggerFactory.getLogger(RiskScoreCache.class);
+    private static final String CACHE_NAME = "riskCentralScores";
+    
+    private final Cache<RiskCentralRequestKey, RiskCentralPort.RiskCentralResponse> cache;
+    private final BigDecimal amountBucketSize;
+    
+    public RiskScoreCache(
+            MeterRegistry meterRegistry,
+            @Value("${risk-central.cache.ttl:10m}") Duration ttl,
+            @Value("${risk-central.cache.max-size:10000}") long maxSize,
+            @Value("${risk-central.amount-bucket-size:10000}") BigDecimal amountBucketSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.amountBucketSize = amountBucketSize;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public RiskCentralRequestKey keyFor(RiskCentralPort.RiskCentralRequest request) {
+        return RiskCentralRequestKey.of(request, amountBucketSize);
+    }
+    
+    public Optional<RiskCentralPort.RiskCentralResponse> get(RiskCentralRequestKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Stores a response unless it is a degraded fallback answer.
+     */
+    public void put(RiskCentralRequestKey key, RiskCentralPort.RiskCentralResponse response) {
+        if (response != null && !response.degraded()) {
+            cache.put(key, response);
+        }
+    }
+    
+    public long invalidateDocument(String document) {
+        long removed = invalidateKeys(key -> key.document().equals(document));
+        log.info("Invalidated {} cached risk scores for document {}", removed, document);
+        return removed;
+    }
+    
+    public long invalidateAll() {
+        long removed = invalidateKeys(key -> true);
+        log.info("Invalidated all {} cached risk scores", removed);
+        return removed;
+    }
+    
+    // Counts the entries this call removed itself, unlike estimatedSize() deltas which
+    // also move with concurrent puts, evictions and expired entries not yet cleaned up
+    private long invalidateKeys(Predicate<RiskCentralRequestKey> filter) {
+        ConcurrentMap<RiskCentralRequestKey, RiskCentralPort.RiskCentralResponse> entries = cache.asMap();
+        long removed = 0;
+        for (RiskCentralRequestKey key : entries.keySet()) {
+            if (filter.test(key) && entries.remove(key) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+}
\ No newline at end of file
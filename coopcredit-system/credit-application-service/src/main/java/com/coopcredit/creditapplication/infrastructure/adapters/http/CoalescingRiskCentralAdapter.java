@@ -0,0 +1,116 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.http;
+
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link RiskCentralPort} decorator that lets concurrent callers asking for the same
+ * {@link RiskCentralRequestKey} share a single in-flight call to the delegate.
+ * {@code risk.central.calls} counts calls actually made, {@code risk.central.coalesced}
+ * counts calls saved, and {@code risk.central.coalesced.followers} records how many
+ * callers joined each call. The latter is one distribution over all calls; it is not
+ * broken down by key, since documents and amount buckets are unbounded.
+ */
+public class CoalescingRiskCentralAdapter implements RiskCentralPort {
+    
+    private final RiskCentralPort delegate;
+    private final BigDecimal amountBucketSize;
+    private final ConcurrentMap<RiskCentralRequestKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Counter callsCounter;
+    private final Counter coalescedCounter;
+    private final DistributionSummary coalescedFollowers;
+    
+    public CoalescingRiskCentralAdapter(RiskCentralPort delegate, BigDecimal amountBucketSize,
+                                        MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.amountBucketSize = amountBucketSize;
+        this.callsCounter = Counter.builder("risk.central.calls")
+                .description("Risk central calls sent after coalescing")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("risk.central.coalesced")
+                .description("Risk central calls saved by joining an identical in-flight call")
+                .register(meterRegistry);
+        this.coalescedFollowers = DistributionSummary.builder("risk.central.coalesced.followers")
+                .description("Callers that joined each risk central call instead of sending their own")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public RiskCentralResponse evaluateRisk(RiskCentralRequest request) {
+        RiskCentralRequestKey key = RiskCentralRequestKey.of(request, amountBucketSize);
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return join(existing);
+        }
+        
+        callsCounter.increment();
+        try {
+            RiskCentralResponse response = delegate.evaluateRisk(request);
+            land(key, flight, response, null);
+            return response;
+        } catch (RuntimeException e) {
+            land(key, flight, null, e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public CompletableFuture<RiskCentralResponse> evaluateRiskAsync(RiskCentralRequest request) {
+        RiskCentralRequestKey key = RiskCentralRequestKey.of(request, amountBucketSize);
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            existing.followers.incrementAndGet();
+            coalescedCounter.increment();
+            return existing.result.copy();
+        }
+        
+        callsCounter.increment();
+        try {
+            delegate.evaluateRiskAsync(request).whenComplete((response, error) -> land(key, flight, response, error));
+        } catch (RuntimeException e) {
+            land(key, flight, null, e);
+        }
+        return flight.result.copy();
+    }
+    
+    private RiskCentralResponse join(Flight flight) {
+        flight.followers.incrementAndGet();
+        coalescedCounter.increment();
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    private void land(RiskCentralRequestKey key, Flight flight, RiskCentralResponse response, Throwable error) {
+        // Unregister first so callers arriving from now on start a fresh call
+        inFlight.remove(key, flight);
+        coalescedFollowers.record(flight.followers.get());
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            flight.result.completeExceptionally(cause);
+        } else {
+            flight.result.complete(response);
+        }
+    }
+    
+    private static final class Flight {
+        private final CompletableFuture<RiskCentralResponse> result = new CompletableFuture<>();
+        private final AtomicInteger followers = new AtomicInteger();
+    }
+}
\ No newline at end of file
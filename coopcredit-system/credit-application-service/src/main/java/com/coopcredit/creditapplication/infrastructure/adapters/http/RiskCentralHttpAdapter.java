@@ -2,6 +2,7 @@ package com.coopcredit.creditapplication.infrastructure.adapters.http;
 
 import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
 import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.slf4j.Logger;
@@ -9,9 +10,31 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * HTTP client for the risk central. With {@code risk-central.batching.enabled} calls are
+ * collected for up to {@code window} or {@code max-size} requests and sent as a single
+ * request to the bulk endpoint; each caller still receives its own response, matched by
+ * the request id echoed in the bulk answer. A batch that fails or gets no answer within
+ * {@code timeout} fails all of its callers, and a caller whose id is missing from the
+ * answer fails on its own, so the retry and fallback still apply per call.
+ */
 @Component
 public class RiskCentralHttpAdapter implements RiskCentralPort {
     
@@ -19,23 +42,59 @@ public class RiskCentralHttpAdapter implements RiskCentralPort {
     
     private final WebClient webClient;
     private final String riskCentralBaseUrl;
+    private final boolean batchingEnabled;
+    private final int batchMaxSize;
+    private final Duration batchWindow;
+    private final Duration batchTimeout;
+    
+    // ReentrantLock rather than synchronized so virtual threads are not pinned while enqueuing
+    private final ReentrantLock batchLock = new ReentrantLock();
+    private final ScheduledExecutorService batchScheduler;
+    private List<PendingCall> pendingCalls = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
     
     public RiskCentralHttpAdapter(
             WebClient.Builder webClientBuilder,
-            @Value("${risk-central.base-url:http://localhost:8081}") String riskCentralBaseUrl) {
+            @Value("${risk-central.base-url:http://localhost:8081}") String riskCentralBaseUrl,
+            @Value("${risk-central.batching.enabled:false}") boolean batchingEnabled,
+            @Value("${risk-central.batching.max-size:50}") int batchMaxSize,
+            @Value("${risk-central.batching.window:10ms}") Duration batchWindow,
+            @Value("${risk-central.batching.timeout:5s}") Duration batchTimeout) {
         this.riskCentralBaseUrl = riskCentralBaseUrl;
         this.webClient = webClientBuilder.baseUrl(riskCentralBaseUrl).build();
+        this.batchingEnabled = batchingEnabled;
+        this.batchMaxSize = Math.max(1, batchMaxSize);
+        this.batchWindow = batchWindow;
+        this.batchTimeout = batchTimeout;
+        this.batchScheduler = batchingEnabled
+                ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "risk-central-batch");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
     }
     
     @Override
     @CircuitBreaker(name = "riskCentral", fallbackMethod = "fallbackEvaluateRisk")
     @Retry(name = "riskCentral")
     public RiskCentralResponse evaluateRisk(RiskCentralRequest request) {
+        if (batchingEnabled) {
+            try {
+                return enqueue(request).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        
         log.info("Calling Risk Central service for document: {}", request.document());
         
         RiskCentralApiResponse response = webClient.post()
                 .uri("/api/risk/evaluate")
-                .bodyValue(new RiskCentralApiRequest(request.document(), request.requestedAmount()))
+                .bodyValue(new RiskCentralApiRequest(null, request.document(), request.requestedAmount()))
                 .retrieve()
                 .bodyToMono(RiskCentralApiResponse.class)
                 .block();
@@ -44,11 +103,132 @@ public class RiskCentralHttpAdapter implements RiskCentralPort {
             return fallbackEvaluateRisk(request, new RuntimeException("Null response"));
         }
         
-        return new RiskCentralResponse(
-                response.score(),
-                mapRiskLevel(response.riskLevel()),
-                response.detail()
-        );
+        return toRiskCentralResponse(response);
+    }
+    
+    @Override
+    @CircuitBreaker(name = "riskCentral", fallbackMethod = "fallbackEvaluateRiskAsync")
+    @Retry(name = "riskCentral")
+    public CompletableFuture<RiskCentralResponse> evaluateRiskAsync(RiskCentralRequest request) {
+        if (batchingEnabled) {
+            return enqueue(request);
+        }
+        
+        log.info("Calling Risk Central service asynchronously for document: {}", request.document());
+        
+        return webClient.post()
+                .uri("/api/risk/evaluate")
+                .bodyValue(new RiskCentralApiRequest(null, request.document(), request.requestedAmount()))
+                .retrieve()
+                .bodyToMono(RiskCentralApiResponse.class)
+                .switchIfEmpty(Mono.error(new IllegalStateException("Null response")))
+                .map(this::toRiskCentralResponse)
+                .toFuture();
+    }
+    
+    private CompletableFuture<RiskCentralResponse> enqueue(RiskCentralRequest request) {
+        PendingCall call = new PendingCall(request, new CompletableFuture<>());
+        List<PendingCall> batch = null;
+        batchLock.lock();
+        try {
+            pendingCalls.add(call);
+            if (pendingCalls.size() >= batchMaxSize) {
+                batch = drainPending();
+            } else if (pendingCalls.size() == 1) {
+                scheduledFlush = batchScheduler.schedule(this::flush, batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            batchLock.unlock();
+        }
+        if (batch != null) {
+            sendBatch(batch);
+        }
+        return call.result();
+    }
+    
+    private void flush() {
+        List<PendingCall> batch;
+        batchLock.lock();
+        try {
+            batch = drainPending();
+        } finally {
+            batchLock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            sendBatch(batch);
+        }
+    }
+    
+    private List<PendingCall> drainPending() {
+        List<PendingCall> batch = pendingCalls;
+        pendingCalls = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+    
+    private void sendBatch(List<PendingCall> batch) {
+        log.info("Calling Risk Central bulk endpoint with {} requests", batch.size());
+        
+        // Ids only need to be unique within the batch
+        Map<String, PendingCall> callsById = new HashMap<>();
+        List<RiskCentralApiRequest> body = new ArrayList<>(batch.size());
+        for (PendingCall call : batch) {
+            String requestId = Integer.toString(callsById.size());
+            callsById.put(requestId, call);
+            body.add(new RiskCentralApiRequest(requestId, call.request().document(), call.request().requestedAmount()));
+        }
+        
+        try {
+            webClient.post()
+                    .uri("/api/risk/evaluate/batch")
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToFlux(RiskCentralApiResponse.class)
+                    .collectList()
+                    .timeout(batchTimeout)
+                    .subscribe(responses -> completeBatch(callsById, responses), error -> failBatch(batch, error));
+        } catch (RuntimeException e) {
+            failBatch(batch, e);
+        }
+    }
+    
+    private void completeBatch(Map<String, PendingCall> callsById, List<RiskCentralApiResponse> responses) {
+        for (RiskCentralApiResponse response : responses) {
+            PendingCall call = response.requestId() != null ? callsById.remove(response.requestId()) : null;
+            if (call == null) {
+                log.warn("Ignoring Risk Central bulk response with unknown request id {}", response.requestId());
+                continue;
+            }
+            try {
+                call.result().complete(toRiskCentralResponse(response));
+            } catch (RuntimeException e) {
+                call.result().completeExceptionally(e);
+            }
+        }
+        if (!callsById.isEmpty()) {
+            log.warn("Risk Central bulk response had no answer for {} requests", callsById.size());
+            callsById.values().forEach(call -> call.result().completeExceptionally(
+                    new IllegalStateException("Risk Central bulk response had no answer for this request")));
+        }
+    }
+    
+    private void failBatch(List<PendingCall> batch, Throwable error) {
+        batch.forEach(call -> call.result().completeExceptionally(error));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (batchScheduler != null) {
+            flush();
+            batchScheduler.shutdown();
+        }
+    }
+    
+    private CompletableFuture<RiskCentralResponse> fallbackEvaluateRiskAsync(RiskCentralRequest request, Throwable t) {
+        return CompletableFuture.completedFuture(fallbackEvaluateRisk(request, t));
     }
     
     private RiskCentralResponse fallbackEvaluateRisk(RiskCentralRequest request, Throwable t) {
@@ -57,7 +237,16 @@ public class RiskCentralHttpAdapter implements RiskCentralPort {
         return new RiskCentralResponse(
                 600,
                 RiskLevel.MEDIUM,
-                "Risk Central service unavailable - using default evaluation"
+                "Risk Central service unavailable - using default evaluation",
+                true
+        );
+    }
+    
+    private RiskCentralResponse toRiskCentralResponse(RiskCentralApiResponse response) {
+        return new RiskCentralResponse(
+                response.score(),
+                mapRiskLevel(response.riskLevel()),
+                response.detail()
         );
     }
     
@@ -69,7 +258,11 @@ public class RiskCentralHttpAdapter implements RiskCentralPort {
         };
     }
     
+    private record PendingCall(RiskCentralRequest request, CompletableFuture<RiskCentralResponse> result) {}
+    
     // DTOs for API communication
-    record RiskCentralApiRequest(String document, BigDecimal requestedAmount) {}
-    record RiskCentralApiResponse(Integer score, String riskLevel, String detail) {}
+    // requestId is only set on bulk calls, where the risk central echoes it in each answer
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record RiskCentralApiRequest(String requestId, String document, BigDecimal requestedAmount) {}
+    record RiskCentralApiResponse(String requestId, Integer score, String riskLevel, String detail) {}
 }
\ No newline at end of file
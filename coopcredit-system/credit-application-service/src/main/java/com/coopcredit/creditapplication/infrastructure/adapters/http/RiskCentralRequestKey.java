@@ -0,0 +1,21 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.http;
+
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Identifies risk central requests that can share one answer: same document and
+ * requested amount rounded down to a configurable bucket.
+ */
+public record RiskCentralRequestKey(String document, BigDecimal amountBucket) {
+    
+    public static RiskCentralRequestKey of(RiskCentralPort.RiskCentralRequest request, BigDecimal bucketSize) {
+        BigDecimal amount = request.requestedAmount() != null ? request.requestedAmount() : BigDecimal.ZERO;
+        BigDecimal bucket = bucketSize.signum() > 0
+                ? amount.divide(bucketSize, 0, RoundingMode.FLOOR).multiply(bucketSize)
+                : amount;
+        return new RiskCentralRequestKey(request.document(), bucket.stripTrailingZeros());
+    }
+}
\ No newline at end of file
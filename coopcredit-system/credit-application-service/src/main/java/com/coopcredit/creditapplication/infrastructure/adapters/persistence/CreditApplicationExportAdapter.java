@@ -0,0 +1,93 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplicationExportRow;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationExportPort;
+import com.coopcredit.creditapplication.infrastructure.entities.CreditApplicationEntity;
+import com.coopcredit.creditapplication.infrastructure.entities.RiskEvaluationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaEntityJoin;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.sqm.tree.SqmJoinType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Reads the export through a forward-only result stream. Rows are constructor-expression
+ * projections, not entities, so nothing accumulates in the persistence context, and the
+ * JDBC fetch size bounds how many rows the driver holds at a time. On MySQL this needs
+ * {@code useCursorFetch=true} on the connection URL; PostgreSQL streams inside a transaction.
+ */
+@Component
+public class CreditApplicationExportAdapter implements CreditApplicationExportPort {
+    
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    
+    public CreditApplicationExportAdapter(
+            EntityManager entityManager,
+            @Value("${credit-applications.export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+    
+    /**
+     * Built with the Criteria API so that only the filters actually given end up in the
+     * SQL, and a status and date range can use the {@code (status, application_date, id)} index.
+     */
+    @Override
+    public long forEach(ApplicationStatus status, LocalDate from, LocalDate to,
+                        Consumer<CreditApplicationExportRow> consumer) {
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<CreditApplicationExportRow> query = cb.createQuery(CreditApplicationExportRow.class);
+        JpaRoot<CreditApplicationEntity> a = query.from(CreditApplicationEntity.class);
+        JpaEntityJoin<RiskEvaluationEntity> e = a.join(RiskEvaluationEntity.class, SqmJoinType.LEFT);
+        e.on(cb.equal(e.get("creditApplicationId"), a.get("id")));
+        Path<LocalDate> applicationDate = a.get("applicationDate");
+        
+        List<Predicate> where = new ArrayList<>(3);
+        if (status != null) {
+            where.add(cb.equal(a.get("status"), status));
+        }
+        if (from != null) {
+            where.add(cb.greaterThanOrEqualTo(applicationDate, from));
+        }
+        if (to != null) {
+            where.add(cb.lessThanOrEqualTo(applicationDate, to));
+        }
+        
+        query.select(cb.construct(CreditApplicationExportRow.class,
+                        a.get("id"), a.get("memberId"), a.get("requestedAmount"), a.get("termMonths"),
+                        a.get("proposedRate"), applicationDate, a.get("status"),
+                        e.get("score"), e.get("riskLevel"), e.get("paymentToIncomeRatio"), e.get("finalDecision"),
+                        e.get("reason"), e.get("riskCentralSkipped"), e.get("createdAt")))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(applicationDate), cb.asc(a.get("id")));
+        
+        long count = 0;
+        try (Stream<CreditApplicationExportRow> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<CreditApplicationExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+}
\ No newline at end of file
@@ -5,8 +5,11 @@ import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
 import com.coopcredit.creditapplication.infrastructure.mappers.CreditApplicationMapper;
 import com.coopcredit.creditapplication.infrastructure.repositories.JpaCreditApplicationRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -30,24 +33,31 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
         return mapper.toDomain(saved);
     }
     
+    @Override
+    public List<CreditApplication> saveAll(List<CreditApplication> creditApplications) {
+        var entities = creditApplications.stream().map(mapper::toEntity).collect(Collectors.toList());
+        return jpaRepository.saveAll(entities).stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<CreditApplication> findById(Long id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
     
     @Override
-    public List<CreditApplication> findAll() {
-        return jpaRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+    public List<CreditApplication> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream().map(mapper::toDomain).collect(Collectors.toList());
     }
     
     @Override
-    public List<CreditApplication> findByMemberId(Long memberId) {
-        return jpaRepository.findByMemberId(memberId).stream().map(mapper::toDomain).collect(Collectors.toList());
+    public List<CreditApplication> findByStatus(ApplicationStatus status, int limit) {
+        return jpaRepository.findByStatusOrderByApplicationDateAscIdAsc(status, Limit.of(limit)).stream()
+                .map(mapper::toDomain).collect(Collectors.toList());
     }
     
     @Override
-    public List<CreditApplication> findByStatus(ApplicationStatus status) {
-        return jpaRepository.findByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+    public boolean transitionStatus(Long id, ApplicationStatus expected, ApplicationStatus target) {
+        return jpaRepository.transitionStatus(id, expected, target, LocalDateTime.now()) == 1;
     }
     
     @Override
@@ -0,0 +1,144 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationView;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort.SummaryFilter;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationViewPort;
+import com.coopcredit.creditapplication.infrastructure.entities.CreditApplicationViewEntity;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaCreditApplicationViewRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@code application_view} and reads it with single-table queries. Rows are
+ * written with the application's own id, so they are inserted with {@code persist} (no
+ * merge select) and updated through dirty checking, which batches the batch evaluation.
+ */
+@Component
+public class CreditApplicationViewAdapter implements CreditApplicationViewPort {
+    
+    private final JpaCreditApplicationViewRepository jpaRepository;
+    private final EntityManager entityManager;
+    
+    public CreditApplicationViewAdapter(JpaCreditApplicationViewRepository jpaRepository,
+                                        EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    public void applicationCreated(CreditApplication application, Member member) {
+        CreditApplicationViewEntity view = new CreditApplicationViewEntity();
+        view.setId(application.getId());
+        view.setMemberId(member.getId());
+        view.setMemberDocument(member.getDocument());
+        view.setMemberName(member.getName());
+        view.setRequestedAmount(application.getRequestedAmount());
+        view.setTermMonths(application.getTermMonths());
+        view.setProposedRate(application.getProposedRate());
+        view.setApplicationDate(application.getApplicationDate());
+        view.setStatus(application.getStatus());
+        entityManager.persist(view);
+    }
+    
+    @Override
+    public void applicationsEvaluated(List<EvaluatedApplication> evaluated) {
+        if (evaluated.isEmpty()) {
+            return;
+        }
+        Map<Long, CreditApplicationViewEntity> views = jpaRepository.findAllById(evaluated.stream()
+                        .map(item -> item.evaluation().getCreditApplicationId())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(CreditApplicationViewEntity::getId, Function.identity()));
+        
+        // Applications missing from the view (created before it existed) are added by a rebuild
+        for (EvaluatedApplication item : evaluated) {
+            RiskEvaluation evaluation = item.evaluation();
+            CreditApplicationViewEntity view = views.get(evaluation.getCreditApplicationId());
+            if (view == null) {
+                continue;
+            }
+            view.setStatus(item.status());
+            view.setScore(evaluation.getScore());
+            view.setRiskLevel(evaluation.getRiskLevel());
+            view.setFinalDecision(evaluation.getFinalDecision());
+            view.setDecisionReason(evaluation.getReason());
+            view.setEvaluatedAt(evaluation.getCreatedAt());
+        }
+    }
+    
+    @Override
+    public void memberUpdated(Member member) {
+        jpaRepository.updateMember(member.getId(), member.getDocument(), member.getName());
+    }
+    
+    @Override
+    public long rebuild() {
+        jpaRepository.deleteAllRows();
+        return jpaRepository.insertAllFromSource();
+    }
+    
+    @Override
+    public Optional<CreditApplicationView> findById(Long id) {
+        return jpaRepository.findViewById(id);
+    }
+    
+    // Only the filters given end up in the SQL, so each combination can use its own index
+    @Override
+    public List<CreditApplicationView> findPage(SummaryFilter filter, LocalDate afterDate, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CreditApplicationView> query = cb.createQuery(CreditApplicationView.class);
+        Root<CreditApplicationViewEntity> v = query.from(CreditApplicationViewEntity.class);
+        Path<LocalDate> applicationDate = v.get("applicationDate");
+        Path<Long> id = v.get("id");
+        
+        List<Predicate> where = new ArrayList<>(5);
+        if (filter.memberId() != null) {
+            where.add(cb.equal(v.get("memberId"), filter.memberId()));
+        }
+        if (filter.status() != null) {
+            where.add(cb.equal(v.get("status"), filter.status()));
+        }
+        if (filter.from() != null) {
+            where.add(cb.greaterThanOrEqualTo(applicationDate, filter.from()));
+        }
+        if (filter.to() != null) {
+            where.add(cb.lessThanOrEqualTo(applicationDate, filter.to()));
+        }
+        if (afterDate != null) {
+            where.add(cb.or(
+                    cb.greaterThan(applicationDate, afterDate),
+                    cb.and(cb.equal(applicationDate, afterDate), cb.greaterThan(id, afterId))));
+        }
+        
+        query.select(cb.construct(CreditApplicationView.class,
+                        id, v.get("memberId"), v.get("memberDocument"), v.get("memberName"),
+                        v.get("requestedAmount"), v.get("termMonths"), v.get("proposedRate"), applicationDate,
+                        v.get("status"), v.get("score"), v.get("riskLevel"), v.get("finalDecision"),
+                        v.get("decisionReason"), v.get("evaluatedAt")))
+                .where(where.toArray(Predicate[]::new))
+                .orderBy(cb.asc(applicationDate), cb.asc(id));
+        
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+}
\ No newline at end of file
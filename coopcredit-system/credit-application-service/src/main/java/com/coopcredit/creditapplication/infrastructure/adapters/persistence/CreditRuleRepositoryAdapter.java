@@ -0,0 +1,60 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.domain.model.CreditRuleDefinition;
+import com.coopcredit.creditapplication.domain.model.enums.CreditRuleType;
+import com.coopcredit.creditapplication.domain.ports.out.CreditRuleRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.mappers.CreditRuleMapper;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaCreditRuleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Credit rules come from {@code credit-evaluation.rules.*} in the configuration; a row in
+ * {@code credit_rules} overrides the configured rule of the same type.
+ */
+@Component
+public class CreditRuleRepositoryAdapter implements CreditRuleRepositoryPort {
+    
+    private final JpaCreditRuleRepository jpaRepository;
+    private final CreditRuleMapper mapper;
+    private final List<CreditRuleDefinition> configuredRules;
+    
+    public CreditRuleRepositoryAdapter(
+            JpaCreditRuleRepository jpaRepository,
+            CreditRuleMapper mapper,
+            @Value("${credit-evaluation.rules.min-seniority-months:6}") String minSeniorityMonths,
+            @Value("${credit-evaluation.rules.max-amount-salary-multiple:4}") String maxAmountSalaryMultiple,
+            @Value("${credit-evaluation.rules.max-payment-to-income-ratio:0.40}") String maxPaymentToIncomeRatio,
+            @Value("${credit-evaluation.rules.rejected-risk-levels:HIGH}") String rejectedRiskLevels) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.configuredRules = List.of(
+                configured(CreditRuleType.MIN_SENIORITY_MONTHS, minSeniorityMonths),
+                configured(CreditRuleType.MAX_AMOUNT_SALARY_MULTIPLE, maxAmountSalaryMultiple),
+                configured(CreditRuleType.MAX_PAYMENT_TO_INCOME_RATIO, maxPaymentToIncomeRatio),
+                configured(CreditRuleType.REJECTED_RISK_LEVELS, rejectedRiskLevels));
+    }
+    
+    @Override
+    public List<CreditRuleDefinition> findAll() {
+        Map<CreditRuleType, CreditRuleDefinition> rules = new EnumMap<>(CreditRuleType.class);
+        configuredRules.forEach(rule -> rules.put(rule.getRuleType(), rule));
+        jpaRepository.findAll().stream()
+                .map(mapper::toDomain)
+                .forEach(rule -> rules.put(rule.getRuleType(), rule));
+        return new ArrayList<>(rules.values());
+    }
+    
+    private static CreditRuleDefinition configured(CreditRuleType ruleType, String threshold) {
+        return CreditRuleDefinition.builder()
+                .ruleType(ruleType)
+                .threshold(threshold)
+                .enabled(true)
+                .build();
+    }
+}
\ No newline at end of file
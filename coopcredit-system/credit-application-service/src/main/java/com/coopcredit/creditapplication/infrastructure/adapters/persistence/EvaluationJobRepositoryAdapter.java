@@ -0,0 +1,83 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import com.coopcredit.creditapplication.domain.ports.out.EvaluationJobRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.mappers.EvaluationJobMapper;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaEvaluationJobRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class EvaluationJobRepositoryAdapter implements EvaluationJobRepositoryPort {
+    
+    private final JpaEvaluationJobRepository jpaRepository;
+    private final EvaluationJobMapper mapper;
+    
+    public EvaluationJobRepositoryAdapter(JpaEvaluationJobRepository jpaRepository, 
+                                          EvaluationJobMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+    
+    @Override
+    public EvaluationJob save(EvaluationJob job) {
+        var entity = mapper.toEntity(job);
+        var saved = jpaRepository.save(entity);
+        return mapper.toDomain(saved);
+    }
+    
+    @Override
+    public Optional<EvaluationJob> findById(Long id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+    
+    @Override
+    public Optional<EvaluationJob> findActiveByCreditApplicationId(Long creditApplicationId) {
+        return jpaRepository.findFirstByCreditApplicationIdAndStatusIn(creditApplicationId,
+                        EnumSet.of(EvaluationJobStatus.QUEUED, EvaluationJobStatus.RUNNING))
+                .map(mapper::toDomain);
+    }
+    
+    @Override
+    public long countByStatus(EvaluationJobStatus status) {
+        return jpaRepository.countByStatus(status);
+    }
+    
+    @Override
+    public List<Long> findQueuedIds(int limit) {
+        return jpaRepository.findIdsByStatus(EvaluationJobStatus.QUEUED, Limit.of(limit));
+    }
+    
+    @Override
+    public boolean markRunning(Long id) {
+        return jpaRepository.markRunning(id, LocalDateTime.now()) == 1;
+    }
+    
+    @Override
+    public void markCompleted(Long id, Long riskEvaluationId) {
+        jpaRepository.finish(id, EvaluationJobStatus.COMPLETED, riskEvaluationId, null, null, LocalDateTime.now());
+    }
+    
+    @Override
+    public void markFailed(Long id, String errorCode, String errorMessage) {
+        jpaRepository.finish(id, EvaluationJobStatus.FAILED, null, errorCode, errorMessage, LocalDateTime.now());
+    }
+    
+    @Override
+    public int requeueRunningStartedBefore(LocalDateTime startedBefore, int maxAttempts) {
+        return jpaRepository.requeueRunningStartedBefore(startedBefore, maxAttempts);
+    }
+    
+    @Override
+    public int failRunningStartedBefore(LocalDateTime startedBefore, int maxAttempts,
+                                        String errorCode, String errorMessage) {
+        return jpaRepository.failRunningStartedBefore(startedBefore, maxAttempts, errorCode, errorMessage,
+                LocalDateTime.now());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Column;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves every entity's id sequence past the ids already in its table at startup.
+ * Sequences created by {@code ddl-auto} start at 1, and migrations that seed them do not
+ * run while Flyway is disabled, so without this the first inserts into a table with
+ * existing rows would collide with them.
+ * A sequence is only ever moved forward: one already past its table is left alone, so
+ * blocks handed out to other running nodes stay valid.
+ */
+@Component
+public class IdSequenceSeeder {
+    
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceSeeder.class);
+    
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Takes the {@link EntityManagerFactory} so the schema (and the sequences) exist before seeding.
+     */
+    public IdSequenceSeeder(EntityManagerFactory entityManagerFactory, DataSource dataSource) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+    
+    @PostConstruct
+    public void seed() {
+        String database = databaseProductName();
+        for (IdSequence sequence : sequences()) {
+            long firstFreeId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + sequence.idColumn() + "), 0) + 1 FROM " + sequence.table(), Long.class);
+            boolean moved = database.startsWith("PostgreSQL")
+                    ? seedPostgresSequence(sequence, firstFreeId)
+                    : seedSequenceTable(sequence, firstFreeId);
+            if (moved) {
+                log.info("Moved id sequence {} to {}, past the ids in {}", sequence.name(), firstFreeId, sequence.table());
+            }
+        }
+    }
+    
+    // MySQL: a one-row table whose next_val is the first id of the next block
+    private boolean seedSequenceTable(IdSequence sequence, long firstFreeId) {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + sequence.name(), Long.class) == 0) {
+            jdbcTemplate.update("INSERT INTO " + sequence.name() + " (next_val) VALUES (?)", firstFreeId);
+            return true;
+        }
+        return jdbcTemplate.update("UPDATE " + sequence.name() + " SET next_val = ? WHERE next_val < ?",
+                firstFreeId, firstFreeId) > 0;
+    }
+    
+    // PostgreSQL: once called, the sequence's next value is last_value plus the increment
+    private boolean seedPostgresSequence(IdSequence sequence, long firstFreeId) {
+        Map<String, Object> state = jdbcTemplate.queryForMap("SELECT last_value, is_called FROM " + sequence.name());
+        long lastValue = ((Number) state.get("last_value")).longValue();
+        long nextValue = Boolean.TRUE.equals(state.get("is_called")) ? lastValue + sequence.increment() : lastValue;
+        if (nextValue >= firstFreeId) {
+            return false;
+        }
+        jdbcTemplate.queryForObject("SELECT setval('" + sequence.name() + "', ?, false)", Long.class, firstFreeId);
+        return true;
+    }
+    
+    private List<IdSequence> sequences() {
+        List<IdSequence> sequences = new ArrayList<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            Table table = type.getAnnotation(Table.class);
+            for (Field field : type.getDeclaredFields()) {
+                SequenceGenerator generator = field.getAnnotation(SequenceGenerator.class);
+                if (table != null && generator != null && field.isAnnotationPresent(Id.class)) {
+                    Column column = field.getAnnotation(Column.class);
+                    String idColumn = column != null && !column.name().isEmpty() ? column.name() : field.getName();
+                    sequences.add(new IdSequence(generator.sequenceName(), table.name(), idColumn,
+                            generator.allocationSize()));
+                }
+            }
+        }
+        return sequences;
+    }
+    
+    private String databaseProductName() {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not determine the database to seed id sequences", e);
+        }
+    }
+    
+    private record IdSequence(String name, String table, String idColumn, int increment) {}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.out.MemberQueryPort;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaMemberRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class MemberQueryAdapter implements MemberQueryPort {
+    
+    private final JpaMemberRepository jpaRepository;
+    
+    public MemberQueryAdapter(JpaMemberRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+    
+    @Override
+    public Optional<MemberSummary> findSummaryById(Long id) {
+        return jpaRepository.findSummaryById(id);
+    }
+    
+    @Override
+    public Optional<MemberSummary> findSummaryByDocument(String document) {
+        return jpaRepository.findSummaryByDocument(document);
+    }
+    
+    @Override
+    public List<MemberSummary> findSummaryPage(MemberStatus status, Long afterId, int limit) {
+        return jpaRepository.findSummaryPage(status, afterId, Limit.of(limit));
+    }
+}
\ No newline at end of file
@@ -7,8 +7,11 @@ import com.coopcredit.creditapplication.infrastructure.mappers.MemberMapper;
 import com.coopcredit.creditapplication.infrastructure.repositories.JpaMemberRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -29,11 +32,22 @@ public class MemberRepositoryAdapter implements MemberRepositoryPort {
         return mapper.toDomain(saved);
     }
     
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        var entities = members.stream().map(mapper::toEntity).collect(Collectors.toList());
+        return jpaRepository.saveAll(entities).stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<Member> findById(Long id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
     
+    @Override
+    public List<Member> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<Member> findByDocument(String document) {
         return jpaRepository.findByDocument(document).map(mapper::toDomain);
@@ -59,6 +73,14 @@ public class MemberRepositoryAdapter implements MemberRepositoryPort {
         return jpaRepository.existsByDocument(document);
     }
     
+    @Override
+    public Set<String> findExistingDocuments(Collection<String> documents) {
+        if (documents.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findDocumentsIn(documents));
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -6,7 +6,12 @@ import com.coopcredit.creditapplication.infrastructure.mappers.RiskEvaluationMap
 import com.coopcredit.creditapplication.infrastructure.repositories.JpaRiskEvaluationRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 public class RiskEvaluationRepositoryAdapter implements RiskEvaluationRepositoryPort {
@@ -27,6 +32,12 @@ public class RiskEvaluationRepositoryAdapter implements RiskEvaluationRepository
         return mapper.toDomain(saved);
     }
     
+    @Override
+    public List<RiskEvaluation> saveAll(List<RiskEvaluation> riskEvaluations) {
+        var entities = riskEvaluations.stream().map(mapper::toEntity).collect(Collectors.toList());
+        return jpaRepository.saveAll(entities).stream().map(mapper::toDomain).collect(Collectors.toList());
+    }
+    
     @Override
     public Optional<RiskEvaluation> findById(Long id) {
         return jpaRepository.findById(id).map(mapper::toDomain);
@@ -42,6 +53,14 @@ public class RiskEvaluationRepositoryAdapter implements RiskEvaluationRepository
         return jpaRepository.existsByCreditApplicationId(creditApplicationId);
     }
     
+    @Override
+    public Set<Long> findEvaluatedCreditApplicationIds(Collection<Long> creditApplicationIds) {
+        if (creditApplicationIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findCreditApplicationIdsIn(creditApplicationIds));
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
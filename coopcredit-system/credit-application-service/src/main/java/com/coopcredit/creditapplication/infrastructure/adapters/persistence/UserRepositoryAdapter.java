@@ -6,6 +6,7 @@ import com.coopcredit.creditapplication.infrastructure.mappers.UserMapper;
 import com.coopcredit.creditapplication.infrastructure.repositories.JpaUserRepository;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Component
@@ -41,6 +42,11 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return jpaRepository.existsByUsername(username);
     }
     
+    @Override
+    public void updatePassword(Long id, String encodedPassword) {
+        jpaRepository.updatePassword(id, encodedPassword, LocalDateTime.now());
+    }
+    
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
@@ -0,0 +1,34 @@
+package com.coopcredit.creditapplication.infrastructure.async;
+
+import com.coopcredit.creditapplication.domain.ports.in.ManageCreditRulesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the credit rules so changes to {@code credit_rules} take effect
+ * without a redeploy. Unchanged definitions are not recompiled into a new version.
+ */
+@Component
+public class CreditRuleReloader {
+    
+    private static final Logger log = LoggerFactory.getLogger(CreditRuleReloader.class);
+    
+    private final ManageCreditRulesUseCase manageCreditRulesUseCase;
+    
+    public CreditRuleReloader(ManageCreditRulesUseCase manageCreditRulesUseCase) {
+        this.manageCreditRulesUseCase = manageCreditRulesUseCase;
+    }
+    
+    @Scheduled(fixedDelayString = "${credit-evaluation.rules.reload-interval:PT30S}",
+            initialDelayString = "${credit-evaluation.rules.reload-interval:PT30S}")
+    public void reload() {
+        try {
+            manageCreditRulesUseCase.reload();
+        } catch (RuntimeException e) {
+            // Already logged by the engine when the definitions are invalid
+            log.debug("Scheduled credit rule reload failed", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.coopcredit.creditapplication.infrastructure.async;
+
+import com.coopcredit.creditapplication.domain.exception.ServiceOverloadedException;
+import com.coopcredit.creditapplication.domain.ports.out.EvaluationExecutorPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded worker pools for evaluation work. Risk central calls fanned out during batch
+ * evaluation run on one: at most {@code credit-evaluation.batch.max-concurrency} at once and
+ * at most {@code max-queued} waiting for a thread. The writes that follow async risk central
+ * answers run on a second, smaller pool ({@code credit-evaluation.write.*}), so a single
+ * evaluation's response never waits behind a batch's blocking calls. An evaluation takes its
+ * place there when its call starts, so the write queue also holds those awaiting an answer.
+ * Work beyond a pool's limits is refused with {@link ServiceOverloadedException} (503 with
+ * Retry-After) instead of piling up behind the work already admitted.
+ * With {@code spring.threads.virtual.enabled} every task gets its own virtual thread
+ * and the same limits are enforced with semaphores, so the risk central is not flooded.
+ * Refusals are counted in {@code credit.evaluation.executor.rejected}.
+ * Not exposed as an {@link java.util.concurrent.Executor} bean so Spring Boot keeps
+ * its own auto-configured application task executor.
+ */
+@Component
+public class EvaluationExecutor implements EvaluationExecutorPort {
+    
+    private static final Logger log = LoggerFactory.getLogger(EvaluationExecutor.class);
+    
+    private final BoundedPool remoteCalls;
+    private final BoundedPool writes;
+    
+    public EvaluationExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${credit-evaluation.batch.max-concurrency:16}") int maxConcurrency,
+            @Value("${credit-evaluation.batch.max-queued:1000}") int maxQueued,
+            @Value("${credit-evaluation.write.threads:4}") int writeThreads,
+            @Value("${credit-evaluation.write.max-queued:1000}") int maxQueuedWrites,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.remoteCalls = new BoundedPool("evaluation", maxConcurrency, maxQueued, virtualThreads, meterRegistry);
+        this.writes = new BoundedPool("evaluation-write", writeThreads, maxQueuedWrites, virtualThreads, meterRegistry);
+        log.info("Evaluation executor started with max concurrency {} and {} queued tasks at most, "
+                        + "and {} write threads with {} queued writes at most ({} threads)",
+                maxConcurrency, maxQueued, writeThreads, maxQueuedWrites, virtualThreads ? "virtual" : "platform");
+    }
+    
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return supplyAllAsync(List.of(task)).get(0);
+    }
+    
+    /**
+     * Starts every task, or none when they do not all fit: a batch is never left half
+     * submitted, with some of its calls running for a request that was refused.
+     */
+    @Override
+    public <T> List<CompletableFuture<T>> supplyAllAsync(List<Supplier<T>> tasks) {
+        remoteCalls.admit(tasks.size());
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            futures.add(CompletableFuture.supplyAsync(task, remoteCalls::executeAdmitted));
+        }
+        return futures;
+    }
+    
+    @Override
+    public <R, T> CompletableFuture<T> callThenWrite(Supplier<CompletableFuture<R>> remoteCall, Function<R, T> write) {
+        writes.admit(1);
+        CompletableFuture<R> call;
+        try {
+            call = remoteCall.get();
+        } catch (RuntimeException e) {
+            writes.release();
+            throw e;
+        }
+        // A failed call never reaches the write, which would otherwise give the place back
+        return call.whenComplete((answer, failure) -> {
+                    if (failure != null) {
+                        writes.release();
+                    }
+                })
+                .thenApplyAsync(write, writes::executeAdmitted);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        remoteCalls.shutdown();
+        writes.shutdown();
+    }
+    
+    /**
+     * A pool whose running plus waiting tasks are capped by an admission semaphore, taken
+     * before a task is handed over and given back once it has run.
+     */
+    private static final class BoundedPool {
+        
+        private final ExecutorService executor;
+        private final Executor runner;
+        private final Semaphore admission;
+        private final Counter rejected;
+        
+        BoundedPool(String name, int concurrency, int maxQueued, boolean virtualThreads, MeterRegistry meterRegistry) {
+            this.admission = new Semaphore(concurrency + maxQueued);
+            if (virtualThreads) {
+                this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+                Semaphore permits = new Semaphore(concurrency);
+                this.runner = task -> executor.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } else {
+                AtomicInteger threadCount = new AtomicInteger();
+                // Admission keeps the queue within max-queued; the extra room covers tasks admitted
+                // while a finishing thread has released its permit but not yet taken the next task
+                this.executor = new ThreadPoolExecutor(
+                        concurrency, concurrency,
+                        60L, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(concurrency + maxQueued),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+                this.runner = executor;
+            }
+            this.rejected = Counter.builder("credit.evaluation.executor.rejected")
+                    .description("Evaluation tasks refused because their pool was full")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        }
+        
+        void admit(int tasks) {
+            if (tasks > 0 && !admission.tryAcquire(tasks)) {
+                rejected.increment(tasks);
+                throw new ServiceOverloadedException("Too many evaluations in progress, retry later");
+            }
+        }
+        
+        void executeAdmitted(Runnable task) {
+            runner.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    admission.release();
+                }
+            });
+        }
+        
+        void release() {
+            admission.release();
+        }
+        
+        void shutdown() {
+            executor.shutdown();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.coopcredit.creditapplication.infrastructure.async;
+
+import com.coopcredit.creditapplication.domain.ports.in.ProcessEvaluationJobsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls the evaluation jobs table and runs claimed jobs on a fixed number of workers.
+ * Only as many jobs are claimed as there are idle workers, so the backlog stays in the
+ * table (visible to other nodes) instead of piling up in memory.
+ */
+@Component
+@ConditionalOnProperty(name = "credit-evaluation.jobs.enabled", havingValue = "true", matchIfMissing = true)
+public class EvaluationJobWorker {
+    
+    private static final Logger log = LoggerFactory.getLogger(EvaluationJobWorker.class);
+    
+    private final ProcessEvaluationJobsUseCase processEvaluationJobsUseCase;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+    private final Duration staleAfter;
+    
+    public EvaluationJobWorker(
+            ProcessEvaluationJobsUseCase processEvaluationJobsUseCase,
+            @Value("${credit-evaluation.jobs.workers:4}") int workerCount,
+            @Value("${credit-evaluation.jobs.stale-after:5m}") Duration staleAfter,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.processEvaluationJobsUseCase = processEvaluationJobsUseCase;
+        this.idleWorkers = new Semaphore(workerCount);
+        this.staleAfter = staleAfter;
+        
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("evaluation-job-", 1).factory();
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "evaluation-job-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        this.workers = Executors.newThreadPerTaskExecutor(threadFactory);
+        log.info("Evaluation job worker started with {} workers", workerCount);
+    }
+    
+    @Scheduled(fixedDelayString = "${credit-evaluation.jobs.poll-interval:PT1S}")
+    public void poll() {
+        try {
+            processEvaluationJobsUseCase.requeueStale(staleAfter);
+            
+            int idle = idleWorkers.availablePermits();
+            if (idle == 0) {
+                return;
+            }
+            List<Long> claimed = processEvaluationJobsUseCase.claimQueued(idle);
+            for (Long jobId : claimed) {
+                idleWorkers.acquireUninterruptibly();
+                workers.execute(() -> {
+                    try {
+                        processEvaluationJobsUseCase.process(jobId);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("Evaluation job poll failed", e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        // Jobs cut off here stay RUNNING and are re-queued once they become stale
+        workers.shutdown();
+    }
+}
\ No newline at end of file
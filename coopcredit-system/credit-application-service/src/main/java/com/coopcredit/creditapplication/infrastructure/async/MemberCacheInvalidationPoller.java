@@ -0,0 +1,58 @@
+package com.coopcredit.creditapplication.infrastructure.async;
+
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.MemberCache;
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.MemberCacheInvalidationLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In clustered mode, polls the member cache invalidation log so members changed on
+ * another node are evicted here within one poll interval, and purges old log rows.
+ */
+@Component
+@ConditionalOnProperty(name = "members.cache.cluster.enabled", havingValue = "true")
+public class MemberCacheInvalidationPoller {
+    
+    private static final Logger log = LoggerFactory.getLogger(MemberCacheInvalidationPoller.class);
+    
+    private final MemberCacheInvalidationLog invalidationLog;
+    private final MemberCache memberCache;
+    private final Duration retention;
+    
+    public MemberCacheInvalidationPoller(
+            MemberCacheInvalidationLog invalidationLog,
+            MemberCache memberCache,
+            @Value("${members.cache.cluster.retention:PT10M}") Duration retention) {
+        this.invalidationLog = invalidationLog;
+        this.memberCache = memberCache;
+        this.retention = retention;
+    }
+    
+    @Scheduled(fixedDelayString = "${members.cache.cluster.poll-interval:PT2S}")
+    public void poll() {
+        try {
+            invalidationLog.applyNew(memberCache);
+        } catch (RuntimeException e) {
+            // Nothing is known to be stale for sure, but nothing is known to be fresh either
+            log.warn("Member cache invalidation poll failed, clearing the member cache", e);
+            memberCache.invalidateAll();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${members.cache.cluster.retention:PT10M}",
+            initialDelayString = "${members.cache.cluster.retention:PT10M}")
+    public void purge() {
+        try {
+            int purged = invalidationLog.purge(retention);
+            log.debug("Purged {} member cache invalidations", purged);
+        } catch (RuntimeException e) {
+            log.warn("Member cache invalidation purge failed", e);
+        }
+    }
+}
\ No newline at end of file
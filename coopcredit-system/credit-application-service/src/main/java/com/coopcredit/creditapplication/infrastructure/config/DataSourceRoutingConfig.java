@@ -0,0 +1,85 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.coopcredit.creditapplication.infrastructure.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replaces the single datasource with a primary and a replica pool when
+ * {@code datasource-routing.enabled} is set. Read-only transactions of the use cases go to
+ * the replica, the rest to the primary (spring.datasource.*). Both pools are Hikari pools named
+ * {@code primary} and {@code replica}, so their {@code hikaricp.*} meters are tagged by pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    
+    // @Transactional names a transaction after the class and method that opened it
+    private static final String USE_CASE_TRANSACTIONS = "com.coopcredit.creditapplication.application.usecases.";
+    
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+    
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource-routing.replica.url}") String url,
+            @Value("${datasource-routing.replica.username}") String username,
+            @Value("${datasource-routing.replica.password}") String password,
+            @Value("${datasource-routing.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource-routing.replica.max-lag:5s}") Duration maxLag,
+            @Value("${datasource-routing.replica.lag-check-enabled:true}") boolean lagCheckEnabled) {
+        // A MeterBinder bean: Spring Boot binds its gauge to the registry
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag, lagCheckEnabled);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, USE_CASE_TRANSACTIONS);
+        routing.bindTo(meterRegistry);
+        routing.afterPropertiesSet();
+        // Defers the physical connection to the first statement, when the transaction's
+        // read-only flag is already set
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
\ No newline at end of file
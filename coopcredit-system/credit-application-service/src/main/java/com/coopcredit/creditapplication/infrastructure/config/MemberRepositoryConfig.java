@@ -0,0 +1,33 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.CachingMemberRepositoryAdapter;
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.MemberCache;
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.MemberCacheInvalidationLog;
+import com.coopcredit.creditapplication.infrastructure.adapters.persistence.MemberRepositoryAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the {@link MemberRepositoryPort} seen by the use cases: the JPA adapter,
+ * optionally behind the member cache, which shares invalidations in clustered mode.
+ */
+@Configuration
+public class MemberRepositoryConfig {
+    
+    @Bean
+    @Primary
+    public MemberRepositoryPort memberRepositoryPort(
+            MemberRepositoryAdapter jpaAdapter,
+            MemberCache memberCache,
+            MemberCacheInvalidationLog invalidationLog,
+            @Value("${members.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${members.cache.cluster.enabled:false}") boolean clusterEnabled) {
+        if (!cacheEnabled) {
+            return jpaAdapter;
+        }
+        return new CachingMemberRepositoryAdapter(jpaAdapter, memberCache, clusterEnabled ? invalidationLog : null);
+    }
+}
\ No newline at end of file
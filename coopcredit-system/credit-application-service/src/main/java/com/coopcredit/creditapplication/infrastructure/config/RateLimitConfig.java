@@ -0,0 +1,47 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.infrastructure.ratelimit.DatabaseRateLimiter;
+import com.coopcredit.creditapplication.infrastructure.ratelimit.LocalRateLimiter;
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimitFilter;
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimitProperties;
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Chooses where token buckets live: in memory ({@code rate-limit.store: local}, the
+ * default) or in the database ({@code database}), shared by all nodes.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+    
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, DataSource dataSource, MeterRegistry meterRegistry) {
+        if (properties.store() == RateLimitProperties.Store.DATABASE) {
+            return new DatabaseRateLimiter(dataSource, meterRegistry);
+        }
+        Duration longestPeriod = properties.rules().stream()
+                .map(RateLimitProperties.Rule::period)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        return new LocalRateLimiter(properties.maxBuckets(), longestPeriod, meterRegistry);
+    }
+    
+    /**
+     * The filter runs inside the security filter chain only; without this Spring Boot would
+     * also register the bean with the servlet container.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.coopcredit.creditapplication.infrastructure.config;
+
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.CachingRiskCentralAdapter;
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.RiskScoreCache;
+import com.coopcredit.creditapplication.infrastructure.adapters.http.CoalescingRiskCentralAdapter;
+import com.coopcredit.creditapplication.infrastructure.adapters.http.RiskCentralHttpAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+
+/**
+ * Assembles the {@link RiskCentralPort} seen by the use cases from the HTTP adapter
+ * and the optional decorators in front of it: cache, then in-flight coalescing.
+ */
+@Configuration
+public class RiskCentralConfig {
+    
+    @Bean
+    @Primary
+    public RiskCentralPort riskCentralPort(
+            RiskCentralHttpAdapter httpAdapter,
+            RiskScoreCache riskScoreCache,
+            MeterRegistry meterRegistry,
+            @Value("${risk-central.amount-bucket-size:10000}") BigDecimal amountBucketSize,
+            @Value("${risk-central.coalescing.enabled:true}") boolean coalescingEnabled,
+            @Value("${risk-central.cache.enabled:true}") boolean cacheEnabled) {
+        RiskCentralPort port = httpAdapter;
+        if (coalescingEnabled) {
+            port = new CoalescingRiskCentralAdapter(port, amountBucketSize, meterRegistry);
+        }
+        if (cacheEnabled) {
+            port = new CachingRiskCentralAdapter(port, riskScoreCache);
+        }
+        return port;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.coopcredit.creditapplication.infrastructure.config;
 
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimitFilter;
 import com.coopcredit.creditapplication.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -11,6 +14,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -19,9 +23,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RateLimitFilter rateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -30,6 +36,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches resume a request that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // ==================== PUBLIC ENDPOINTS ====================
                         // Authentication - Only register and login are public
                         .requestMatchers(HttpMethod.POST, "/api/auth/register").permitAll()
@@ -52,10 +61,15 @@ public class SecurityConfig {
                         // All other actuator endpoints require authentication
                         .requestMatchers("/actuator/**").hasRole("ADMIN")
 
+                        // Self-service - Members, identified by the memberId claim of their token
+                        .requestMatchers(HttpMethod.GET, "/api/members/me").hasRole("MEMBER")
+                        .requestMatchers(HttpMethod.GET, "/api/credit-applications/me/**").hasRole("MEMBER")
+
                         // Member management - Analysts and Admins only
                         .requestMatchers(HttpMethod.POST, "/api/members/**").hasAnyRole("ANALYST", "ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/members/**").hasAnyRole("ANALYST", "ADMIN")
                         .requestMatchers(HttpMethod.DELETE, "/api/members/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/members").hasAnyRole("ANALYST", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/members/**").hasAnyRole("MEMBER", "ANALYST", "ADMIN")
 
                         // Credit applications
@@ -63,6 +77,14 @@ public class SecurityConfig {
                         .hasAnyRole("MEMBER", "ANALYST", "ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/credit-applications/*/evaluate")
                         .hasAnyRole("ANALYST", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/credit-applications/evaluate/batch")
+                        .hasAnyRole("ANALYST", "ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/credit-applications/*/evaluate/async")
+                        .hasAnyRole("ANALYST", "ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/credit-applications/evaluation-jobs/**")
+                        .hasAnyRole("ANALYST", "ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/credit-applications/export")
+                        .hasAnyRole("ANALYST", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/credit-applications/**")
                         .hasAnyRole("MEMBER", "ANALYST", "ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/credit-applications/**").hasAnyRole("ANALYST", "ADMIN")
@@ -71,10 +93,15 @@ public class SecurityConfig {
                         // Risk evaluations - Analysts and Admins only
                         .requestMatchers("/api/evaluations/**").hasAnyRole("ANALYST", "ADMIN")
 
+                        // Operational endpoints - Admins only
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                         // ==================== DENY ALL OTHER REQUESTS ====================
                         // Any request not explicitly configured above requires authentication
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Rate limits see the authenticated principal and only count authorized requests
+                .addFilterAfter(rateLimitFilter, AuthorizationFilter.class)
                 // Return 401 for unauthenticated requests to API endpoints
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint((request, response, authException) -> {
@@ -93,8 +120,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Hashes made with a lower strength keep working and are re-hashed at the next login.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
\ No newline at end of file
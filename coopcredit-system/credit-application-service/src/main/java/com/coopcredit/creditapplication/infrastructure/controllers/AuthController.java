@@ -4,17 +4,21 @@ import com.coopcredit.creditapplication.domain.model.User;
 import com.coopcredit.creditapplication.domain.model.enums.UserRole;
 import com.coopcredit.creditapplication.domain.ports.in.AuthenticateUserUseCase;
 import com.coopcredit.creditapplication.domain.ports.in.RegisterUserUseCase;
+import com.coopcredit.creditapplication.infrastructure.security.JwtPrincipal;
+import com.coopcredit.creditapplication.infrastructure.security.TokenRevocationList;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -24,11 +28,14 @@ public class AuthController {
     
     private final AuthenticateUserUseCase authenticateUserUseCase;
     private final RegisterUserUseCase registerUserUseCase;
+    private final TokenRevocationList tokenRevocationList;
     
     public AuthController(AuthenticateUserUseCase authenticateUserUseCase, 
-                          RegisterUserUseCase registerUserUseCase) {
+                          RegisterUserUseCase registerUserUseCase,
+                          TokenRevocationList tokenRevocationList) {
         this.authenticateUserUseCase = authenticateUserUseCase;
         this.registerUserUseCase = registerUserUseCase;
+        this.tokenRevocationList = tokenRevocationList;
     }
     
     @PostMapping("/login")
@@ -47,6 +54,21 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/logout")
+    @Operation(
+            summary = "Logout",
+            description = "Revokes the token sent with this request; it is refused from then on."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Token revoked"),
+            @ApiResponse(responseCode = "401", description = "JWT token missing, invalid or already revoked", content = @Content)
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal JwtPrincipal principal) {
+        tokenRevocationList.revoke(principal, "LOGOUT");
+        return ResponseEntity.noContent().build();
+    }
+    
     @PostMapping("/register")
     @Operation(
             summary = "Register a new user",
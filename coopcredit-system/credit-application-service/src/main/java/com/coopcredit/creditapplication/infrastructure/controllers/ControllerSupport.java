@@ -0,0 +1,50 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.infrastructure.security.JwtPrincipal;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Paging and token helpers shared by the controllers.
+ * A page with more results carries the next cursor in the {@value #NEXT_CURSOR_HEADER} header,
+ * and a {@code Link rel="next"} to the current request with that cursor.
+ */
+final class ControllerSupport {
+    
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    private ControllerSupport() {
+    }
+    
+    /**
+     * The member id carried in the token, set at login for members linked to a member record.
+     */
+    static Long claimedMemberId(JwtPrincipal principal) {
+        if (principal.memberId() == null) {
+            throw new NotFoundException("No member is linked to this account; log in again once it is registered");
+        }
+        return principal.memberId();
+    }
+    
+    /**
+     * @param nextCursor the encoded cursor of the next page; {@code null} on the last page
+     */
+    static <T, R> ResponseEntity<List<R>> page(List<T> items, String nextCursor, Function<T, R> toResponse) {
+        var response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .build(true)
+                    .toUri();
+            response.header(NEXT_CURSOR_HEADER, nextCursor)
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(items.stream().map(toResponse).toList());
+    }
+}
\ No newline at end of file
@@ -1,25 +1,44 @@
 package com.coopcredit.creditapplication.infrastructure.controllers;
 
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
 import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationExportRow;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
+import com.coopcredit.creditapplication.domain.model.CreditApplicationView;
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
 import com.coopcredit.creditapplication.domain.model.RiskEvaluation;
 import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.ports.in.*;
+import com.coopcredit.creditapplication.infrastructure.security.JwtPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/credit-applications")
@@ -35,16 +54,34 @@ public class CreditApplicationController {
     private final GetCreditApplicationUseCase getCreditApplicationUseCase;
     private final ListCreditApplicationsUseCase listCreditApplicationsUseCase;
     private final EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase;
+    private final BatchEvaluateCreditApplicationsUseCase batchEvaluateCreditApplicationsUseCase;
+    private final SubmitEvaluationJobUseCase submitEvaluationJobUseCase;
+    private final GetEvaluationJobUseCase getEvaluationJobUseCase;
+    private final ExportCreditApplicationsUseCase exportCreditApplicationsUseCase;
+    private final ManageCreditApplicationViewsUseCase manageCreditApplicationViewsUseCase;
+    private final ObjectMapper objectMapper;
     
     public CreditApplicationController(
             CreateCreditApplicationUseCase createCreditApplicationUseCase,
             GetCreditApplicationUseCase getCreditApplicationUseCase,
             ListCreditApplicationsUseCase listCreditApplicationsUseCase,
-            EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase) {
+            EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase,
+            BatchEvaluateCreditApplicationsUseCase batchEvaluateCreditApplicationsUseCase,
+            SubmitEvaluationJobUseCase submitEvaluationJobUseCase,
+            GetEvaluationJobUseCase getEvaluationJobUseCase,
+            ExportCreditApplicationsUseCase exportCreditApplicationsUseCase,
+            ManageCreditApplicationViewsUseCase manageCreditApplicationViewsUseCase,
+            ObjectMapper objectMapper) {
         this.createCreditApplicationUseCase = createCreditApplicationUseCase;
         this.getCreditApplicationUseCase = getCreditApplicationUseCase;
         this.listCreditApplicationsUseCase = listCreditApplicationsUseCase;
         this.evaluateCreditApplicationUseCase = evaluateCreditApplicationUseCase;
+        this.batchEvaluateCreditApplicationsUseCase = batchEvaluateCreditApplicationsUseCase;
+        this.submitEvaluationJobUseCase = submitEvaluationJobUseCase;
+        this.getEvaluationJobUseCase = getEvaluationJobUseCase;
+        this.exportCreditApplicationsUseCase = exportCreditApplicationsUseCase;
+        this.manageCreditApplicationViewsUseCase = manageCreditApplicationViewsUseCase;
+        this.objectMapper = objectMapper;
     }
     
     @PostMapping
@@ -63,32 +100,194 @@ public class CreditApplicationController {
     @GetMapping("/{id}")
     @Operation(summary = "Get credit application by ID")
     public ResponseEntity<CreditApplicationResponse> getById(@PathVariable Long id) {
-        CreditApplication application = getCreditApplicationUseCase.execute(id);
+        CreditApplicationSummary application = getCreditApplicationUseCase.execute(id);
         return ResponseEntity.ok(toResponse(application));
     }
     
     @GetMapping
-    @Operation(summary = "List all credit applications")
+    @Operation(
+            summary = "List credit applications, oldest first, one page at a time",
+            description = "Filters (member, status, application date range) can be combined. "
+                    + "Ordered by application date and id. When more results exist the response has an "
+                    + ControllerSupport.NEXT_CURSOR_HEADER
+                    + " header (and a Link rel=\"next\"); pass its value as cursor to get the next page."
+    )
     public ResponseEntity<List<CreditApplicationResponse>> list(
             @RequestParam(required = false) Long memberId,
-            @RequestParam(required = false) ApplicationStatus status) {
-        List<CreditApplication> applications;
-        if (memberId != null) {
-            applications = listCreditApplicationsUseCase.executeByMemberId(memberId);
-        } else if (status != null) {
-            applications = listCreditApplicationsUseCase.executeByStatus(status);
-        } else {
-            applications = listCreditApplicationsUseCase.execute();
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var page = listCreditApplicationsUseCase.execute(query(memberId, status, from, to, cursor, limit));
+        return ControllerSupport.page(page.items(), encodeCursor(page.next()), this::toResponse);
+    }
+    
+    @GetMapping("/me")
+    @Operation(
+            summary = "List the signed-in member's credit applications, one page at a time",
+            description = "The member is taken from the token's memberId claim, so no user or member lookup is made. "
+                    + "Same filters (other than member), order and " + ControllerSupport.NEXT_CURSOR_HEADER
+                    + " cursor as the plain listing."
+    )
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResponseEntity<List<CreditApplicationResponse>> listMine(
+            @AuthenticationPrincipal JwtPrincipal principal,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var page = listCreditApplicationsUseCase.execute(
+                query(ControllerSupport.claimedMemberId(principal), status, from, to, cursor, limit));
+        return ControllerSupport.page(page.items(), encodeCursor(page.next()), this::toResponse);
+    }
+    
+    @GetMapping("/me/{id}")
+    @Operation(summary = "Get one of the signed-in member's credit applications")
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResponseEntity<CreditApplicationResponse> getMine(@AuthenticationPrincipal JwtPrincipal principal,
+                                                             @PathVariable Long id) {
+        Long memberId = ControllerSupport.claimedMemberId(principal);
+        CreditApplicationSummary application = getCreditApplicationUseCase.execute(id);
+        // Someone else's application is reported as missing, not as forbidden
+        if (!memberId.equals(application.memberId())) {
+            throw new NotFoundException("CreditApplication", "id", id);
+        }
+        return ResponseEntity.ok(toResponse(application));
+    }
+    
+    @GetMapping("/views")
+    @Operation(
+            summary = "List credit applications with their member and decision, one page at a time",
+            description = "Served from the denormalized application view with a single-table read. Same filters, "
+                    + "order and " + ControllerSupport.NEXT_CURSOR_HEADER + " cursor as the plain listing."
+    )
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<List<CreditApplicationViewResponse>> listViews(
+            @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        var page = manageCreditApplicationViewsUseCase.list(query(memberId, status, from, to, cursor, limit));
+        return ControllerSupport.page(page.items(), encodeCursor(page.next()), this::toViewResponse);
+    }
+    
+    @GetMapping("/views/{id}")
+    @Operation(summary = "Get a credit application with its member and decision")
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<CreditApplicationViewResponse> getViewById(@PathVariable Long id) {
+        return ResponseEntity.ok(toViewResponse(manageCreditApplicationViewsUseCase.getById(id)));
+    }
+    
+    @GetMapping(value = "/export", produces = NdjsonResponseWriter.NDJSON)
+    @Operation(
+            summary = "Export credit applications with their evaluations as NDJSON",
+            description = "Streams one JSON object per line, ordered by application date and id. "
+                    + "The body is gzipped when the request sends Accept-Encoding: gzip."
+    )
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public void export(
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        boolean gzip = NdjsonResponseWriter.acceptsGzip(acceptEncoding);
+        var filter = new ExportCreditApplicationsUseCase.ExportFilter(status, from, to);
+        try (var writer = new NdjsonResponseWriter(response, objectMapper, gzip)) {
+            exportCreditApplicationsUseCase.execute(filter, row -> writer.write(toExportLine(row)));
+            writer.finish();
         }
-        return ResponseEntity.ok(applications.stream().map(this::toResponse).toList());
     }
     
     @PostMapping("/{id}/evaluate")
     @Operation(summary = "Evaluate a credit application")
     @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
-    public ResponseEntity<EvaluationResponse> evaluate(@PathVariable Long id) {
-        RiskEvaluation evaluation = evaluateCreditApplicationUseCase.execute(id);
-        return ResponseEntity.ok(toEvaluationResponse(evaluation));
+    public CompletableFuture<ResponseEntity<EvaluationResponse>> evaluate(@PathVariable Long id) {
+        return evaluateCreditApplicationUseCase.executeAsync(id)
+                .thenApply(evaluation -> ResponseEntity.ok(toEvaluationResponse(evaluation)));
+    }
+    
+    @PostMapping("/{id}/evaluate/async")
+    @Operation(summary = "Queue a credit application evaluation and return a job to poll")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Evaluation queued"),
+            @ApiResponse(responseCode = "503", description = "Evaluation queue is full", content = @Content)
+    })
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<EvaluationJobResponse> evaluateAsync(@PathVariable Long id) {
+        EvaluationJob job = submitEvaluationJobUseCase.execute(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/credit-applications/evaluation-jobs/" + job.getId()))
+                .body(toJobResponse(job, null));
+    }
+    
+    @GetMapping("/evaluation-jobs/{jobId}")
+    @Operation(summary = "Get the status of an evaluation job, with its evaluation once completed")
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<EvaluationJobResponse> getEvaluationJob(@PathVariable Long jobId) {
+        var result = getEvaluationJobUseCase.execute(jobId);
+        return ResponseEntity.ok(toJobResponse(result.job(), result.evaluation()));
+    }
+    
+    @PostMapping("/evaluate/batch")
+    @Operation(
+            summary = "Evaluate many credit applications",
+            description = "Evaluates the given application ids, or the oldest PENDING applications up to pendingLimit. Returns one result per application."
+    )
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<BatchEvaluationResponse> evaluateBatch(@Valid @RequestBody BatchEvaluationRequest request) {
+        var command = new BatchEvaluateCreditApplicationsUseCase.BatchEvaluationCommand(
+                request.creditApplicationIds(),
+                request.pendingLimit()
+        );
+        var items = batchEvaluateCreditApplicationsUseCase.execute(command);
+        var results = items.stream()
+                .map(item -> new BatchEvaluationItemResponse(
+                        item.creditApplicationId(),
+                        item.isEvaluated() ? "EVALUATED" : "FAILED",
+                        item.isEvaluated() ? toEvaluationResponse(item.evaluation()) : null,
+                        item.errorCode(),
+                        item.errorMessage()))
+                .toList();
+        int evaluated = (int) items.stream().filter(BatchEvaluateCreditApplicationsUseCase.BatchEvaluationItem::isEvaluated).count();
+        return ResponseEntity.ok(new BatchEvaluationResponse(results.size(), evaluated, results.size() - evaluated, results));
+    }
+    
+    private static ListCreditApplicationsUseCase.ListCreditApplicationsQuery query(
+            Long memberId, ApplicationStatus status, LocalDate from, LocalDate to, String cursor, Integer limit) {
+        return new ListCreditApplicationsUseCase.ListCreditApplicationsQuery(
+                memberId,
+                status,
+                from,
+                to,
+                cursor != null ? decodeCursor(cursor) : null,
+                limit
+        );
+    }
+    
+    // Opaque to clients: base64url of "applicationDate:id"; null past the last page
+    private static String encodeCursor(ListCreditApplicationsUseCase.PageCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String raw = cursor.applicationDate() + ":" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static ListCreditApplicationsUseCase.PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new ListCreditApplicationsUseCase.PageCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
     }
     
     private CreditApplicationResponse toResponse(CreditApplication app) {
@@ -103,17 +302,82 @@ public class CreditApplicationController {
         );
     }
     
+    private CreditApplicationResponse toResponse(CreditApplicationSummary app) {
+        return new CreditApplicationResponse(
+                app.id(),
+                app.memberId(),
+                app.requestedAmount(),
+                app.termMonths(),
+                app.proposedRate(),
+                app.applicationDate(),
+                app.status().name()
+        );
+    }
+    
+    private CreditApplicationViewResponse toViewResponse(CreditApplicationView view) {
+        return new CreditApplicationViewResponse(
+                view.id(),
+                view.memberId(),
+                view.memberDocument(),
+                view.memberName(),
+                view.requestedAmount(),
+                view.termMonths(),
+                view.proposedRate(),
+                view.applicationDate(),
+                view.status().name(),
+                view.score(),
+                view.riskLevel() != null ? view.riskLevel().name() : null,
+                view.finalDecision() != null ? view.finalDecision().name() : null,
+                view.decisionReason(),
+                view.evaluatedAt()
+        );
+    }
+    
+    private ExportLine toExportLine(CreditApplicationExportRow row) {
+        return new ExportLine(
+                row.id(),
+                row.memberId(),
+                row.requestedAmount(),
+                row.termMonths(),
+                row.proposedRate(),
+                row.applicationDate(),
+                row.status().name(),
+                row.score(),
+                row.riskLevel() != null ? row.riskLevel().name() : null,
+                row.paymentToIncomeRatio(),
+                row.finalDecision() != null ? row.finalDecision().name() : null,
+                row.reason(),
+                row.riskCentralSkipped(),
+                row.evaluatedAt()
+        );
+    }
+    
     private EvaluationResponse toEvaluationResponse(RiskEvaluation eval) {
         return new EvaluationResponse(
                 eval.getId(),
                 eval.getCreditApplicationId(),
                 eval.getScore(),
-                eval.getRiskLevel().name(),
+                eval.getRiskLevel() != null ? eval.getRiskLevel().name() : null,
                 eval.getPaymentToIncomeRatio(),
                 eval.isMeetsSeniority(),
                 eval.isMeetsMaxAmount(),
                 eval.getFinalDecision().name(),
-                eval.getReason()
+                eval.getReason(),
+                eval.isRiskCentralSkipped()
+        );
+    }
+    
+    private EvaluationJobResponse toJobResponse(EvaluationJob job, RiskEvaluation evaluation) {
+        return new EvaluationJobResponse(
+                job.getId(),
+                job.getCreditApplicationId(),
+                job.getStatus().name(),
+                job.getAttempts(),
+                job.getErrorCode(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                evaluation != null ? toEvaluationResponse(evaluation) : null
         );
     }
     
@@ -125,6 +389,23 @@ public class CreditApplicationController {
             @NotNull @Positive BigDecimal proposedRate
     ) {}
     
+    record EvaluationJobResponse(
+            Long jobId,
+            Long creditApplicationId,
+            String status,
+            int attempts,
+            String errorCode,
+            String errorMessage,
+            LocalDateTime createdAt,
+            LocalDateTime finishedAt,
+            EvaluationResponse evaluation
+    ) {}
+    
+    record BatchEvaluationRequest(
+            List<Long> creditApplicationIds,
+            @Positive Integer pendingLimit
+    ) {}
+    
     record CreditApplicationResponse(
             Long id,
             Long memberId,
@@ -135,6 +416,40 @@ public class CreditApplicationController {
             String status
     ) {}
     
+    record CreditApplicationViewResponse(
+            Long id,
+            Long memberId,
+            String memberDocument,
+            String memberName,
+            BigDecimal requestedAmount,
+            Integer termMonths,
+            BigDecimal proposedRate,
+            LocalDate applicationDate,
+            String status,
+            Integer score,
+            String riskLevel,
+            String finalDecision,
+            String decisionReason,
+            LocalDateTime evaluatedAt
+    ) {}
+    
+    record ExportLine(
+            Long id,
+            Long memberId,
+            BigDecimal requestedAmount,
+            Integer termMonths,
+            BigDecimal proposedRate,
+            LocalDate applicationDate,
+            String status,
+            Integer score,
+            String riskLevel,
+            BigDecimal paymentToIncomeRatio,
+            String finalDecision,
+            String reason,
+            Boolean riskCentralSkipped,
+            LocalDateTime evaluatedAt
+    ) {}
+    
     record EvaluationResponse(
             Long id,
             Long creditApplicationId,
@@ -144,6 +459,22 @@ public class CreditApplicationController {
             boolean meetsSeniority,
             boolean meetsMaxAmount,
             String finalDecision,
-            String reason
+            String reason,
+            boolean riskCentralSkipped
+    ) {}
+    
+    record BatchEvaluationItemResponse(
+            Long creditApplicationId,
+            String outcome,
+            EvaluationResponse evaluation,
+            String errorCode,
+            String errorMessage
+    ) {}
+    
+    record BatchEvaluationResponse(
+            int requested,
+            int evaluated,
+            int failed,
+            List<BatchEvaluationItemResponse> results
     ) {}
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.ports.in.ManageCreditApplicationViewsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/application-views")
+@Tag(name = "4. Administration", description = "Operational endpoints - Requires ADMIN role")
+@SecurityRequirement(name = "bearerAuth")
+@ApiResponses({
+        @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions", content = @Content)
+})
+public class CreditApplicationViewController {
+    
+    private final ManageCreditApplicationViewsUseCase manageCreditApplicationViewsUseCase;
+    
+    public CreditApplicationViewController(ManageCreditApplicationViewsUseCase manageCreditApplicationViewsUseCase) {
+        this.manageCreditApplicationViewsUseCase = manageCreditApplicationViewsUseCase;
+    }
+    
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild the credit application view from applications, members and evaluations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RebuildResponse> rebuild() {
+        return ResponseEntity.ok(new RebuildResponse(manageCreditApplicationViewsUseCase.rebuild()));
+    }
+    
+    // DTOs
+    record RebuildResponse(long applications) {}
+}
\ No newline at end of file
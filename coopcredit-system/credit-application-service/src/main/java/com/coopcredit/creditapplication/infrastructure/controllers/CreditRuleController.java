@@ -0,0 +1,77 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.ports.in.ManageCreditRulesUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/credit-rules")
+@Tag(name = "4. Administration", description = "Operational endpoints - Requires ADMIN role")
+@SecurityRequirement(name = "bearerAuth")
+@ApiResponses({
+        @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions", content = @Content)
+})
+public class CreditRuleController {
+    
+    private final ManageCreditRulesUseCase manageCreditRulesUseCase;
+    
+    public CreditRuleController(ManageCreditRulesUseCase manageCreditRulesUseCase) {
+        this.manageCreditRulesUseCase = manageCreditRulesUseCase;
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get the active credit decision rules")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CreditRuleSetResponse> getActive() {
+        return ResponseEntity.ok(toResponse(manageCreditRulesUseCase.getActive()));
+    }
+    
+    @PostMapping("/reload")
+    @Operation(summary = "Reload the credit decision rules from configuration and database")
+    @ApiResponse(responseCode = "400", description = "Rule definitions are invalid; the active rules are kept", content = @Content)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CreditRuleSetResponse> reload() {
+        return ResponseEntity.ok(toResponse(manageCreditRulesUseCase.reload()));
+    }
+    
+    private CreditRuleSetResponse toResponse(ManageCreditRulesUseCase.CreditRuleSet ruleSet) {
+        return new CreditRuleSetResponse(
+                ruleSet.version(),
+                ruleSet.compiledAt(),
+                ruleSet.rules().stream()
+                        .map(rule -> new CreditRuleResponse(
+                                rule.getRuleType().name(),
+                                rule.getThreshold(),
+                                rule.isEnabled(),
+                                rule.getRejectionMessage(),
+                                rule.getId() != null ? "DATABASE" : "CONFIGURATION"))
+                        .toList()
+        );
+    }
+    
+    // DTOs
+    record CreditRuleResponse(
+            String ruleType,
+            String threshold,
+            boolean enabled,
+            String rejectionMessage,
+            String source
+    ) {}
+    
+    record CreditRuleSetResponse(
+            long version,
+            LocalDateTime compiledAt,
+            List<CreditRuleResponse> rules
+    ) {}
+}
\ No newline at end of file
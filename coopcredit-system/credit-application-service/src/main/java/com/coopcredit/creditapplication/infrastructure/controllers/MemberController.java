@@ -1,26 +1,35 @@
 package com.coopcredit.creditapplication.infrastructure.controllers;
 
 import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
 import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
 import com.coopcredit.creditapplication.domain.ports.in.CreateMemberUseCase;
 import com.coopcredit.creditapplication.domain.ports.in.GetMemberUseCase;
+import com.coopcredit.creditapplication.domain.ports.in.ImportMembersUseCase;
+import com.coopcredit.creditapplication.domain.ports.in.ListMembersUseCase;
 import com.coopcredit.creditapplication.domain.ports.in.UpdateMemberUseCase;
+import com.coopcredit.creditapplication.infrastructure.security.JwtPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/members")
@@ -34,14 +43,23 @@ public class MemberController {
     
     private final CreateMemberUseCase createMemberUseCase;
     private final GetMemberUseCase getMemberUseCase;
+    private final ListMembersUseCase listMembersUseCase;
     private final UpdateMemberUseCase updateMemberUseCase;
+    private final ImportMembersUseCase importMembersUseCase;
+    private final ObjectMapper objectMapper;
     
     public MemberController(CreateMemberUseCase createMemberUseCase,
                             GetMemberUseCase getMemberUseCase,
-                            UpdateMemberUseCase updateMemberUseCase) {
+                            ListMembersUseCase listMembersUseCase,
+                            UpdateMemberUseCase updateMemberUseCase,
+                            ImportMembersUseCase importMembersUseCase,
+                            ObjectMapper objectMapper) {
         this.createMemberUseCase = createMemberUseCase;
         this.getMemberUseCase = getMemberUseCase;
+        this.listMembersUseCase = listMembersUseCase;
         this.updateMemberUseCase = updateMemberUseCase;
+        this.importMembersUseCase = importMembersUseCase;
+        this.objectMapper = objectMapper;
     }
     
     @PostMapping
@@ -57,17 +75,63 @@ public class MemberController {
         return ResponseEntity.ok(toResponse(member));
     }
     
+    @PostMapping(value = "/import", consumes = {MemberImportReader.CSV, NdjsonResponseWriter.NDJSON})
+    @Operation(
+            summary = "Import members from a CSV or NDJSON upload",
+            description = "The body is read as it arrives and written in chunks. CSV needs a header row with "
+                    + "document, name, salary and optionally affiliationDate; NDJSON has one object per line. "
+                    + "Valid rows are created; the report lists the rejected rows by line number."
+    )
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<ImportReportResponse> importMembers(HttpServletRequest request) throws IOException {
+        var rows = MemberImportReader.open(request.getInputStream(), request.getContentType(), objectMapper);
+        var report = importMembersUseCase.execute(rows);
+        var errors = report.errors().stream()
+                .map(error -> new ImportRowErrorResponse(
+                        error.line(), error.document(), error.errorCode(), error.errorMessage()))
+                .toList();
+        return ResponseEntity.ok(new ImportReportResponse(
+                report.processed(), report.created(), report.failed(), errors, report.errorsTruncated()));
+    }
+    
+    @GetMapping
+    @Operation(
+            summary = "List members by id, one page at a time",
+            description = "When more results exist the response has an " + ControllerSupport.NEXT_CURSOR_HEADER
+                    + " header (and a Link rel=\"next\"); pass its value as cursor to get the next page."
+    )
+    @PreAuthorize("hasAnyRole('ANALYST', 'ADMIN')")
+    public ResponseEntity<List<MemberResponse>> list(
+            @RequestParam(required = false) MemberStatus status,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit) {
+        var page = listMembersUseCase.execute(new ListMembersUseCase.ListMembersQuery(status, cursor, limit));
+        String nextCursor = page.nextAfterId() != null ? page.nextAfterId().toString() : null;
+        return ControllerSupport.page(page.items(), nextCursor, this::toResponse);
+    }
+    
+    @GetMapping("/me")
+    @Operation(
+            summary = "Get the signed-in member's profile",
+            description = "The member is taken from the token's memberId claim, so no user lookup is made."
+    )
+    @PreAuthorize("hasRole('MEMBER')")
+    public ResponseEntity<MemberResponse> getMine(@AuthenticationPrincipal JwtPrincipal principal) {
+        MemberSummary member = getMemberUseCase.execute(ControllerSupport.claimedMemberId(principal));
+        return ResponseEntity.ok(toResponse(member));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get member by ID")
     public ResponseEntity<MemberResponse> getById(@PathVariable Long id) {
-        Member member = getMemberUseCase.execute(id);
+        MemberSummary member = getMemberUseCase.execute(id);
         return ResponseEntity.ok(toResponse(member));
     }
     
     @GetMapping("/document/{document}")
     @Operation(summary = "Get member by document")
     public ResponseEntity<MemberResponse> getByDocument(@PathVariable String document) {
-        Member member = getMemberUseCase.executeByDocument(document);
+        MemberSummary member = getMemberUseCase.executeByDocument(document);
         return ResponseEntity.ok(toResponse(member));
     }
     
@@ -95,6 +159,19 @@ public class MemberController {
         );
     }
     
+    private MemberResponse toResponse(MemberSummary member) {
+        return new MemberResponse(
+                member.id(),
+                member.document(),
+                member.name(),
+                member.salary(),
+                member.affiliationDate(),
+                member.status().name(),
+                member.seniorityInMonths(),
+                member.maxCreditAmount()
+        );
+    }
+    
     // DTOs
     record CreateMemberRequest(
             @NotBlank String document,
@@ -109,6 +186,21 @@ public class MemberController {
             MemberStatus status
     ) {}
     
+    record ImportRowErrorResponse(
+            long line,
+            String document,
+            String errorCode,
+            String errorMessage
+    ) {}
+    
+    record ImportReportResponse(
+            long processed,
+            long created,
+            long failed,
+            List<ImportRowErrorResponse> errors,
+            boolean errorsTruncated
+    ) {}
+    
     record MemberResponse(
             Long id,
             String document,
@@ -0,0 +1,189 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+import com.coopcredit.creditapplication.domain.ports.in.ImportMembersUseCase.MemberImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an uploaded member file one line at a time, so only the current line is in memory.
+ * CSV needs a header row naming the columns (document, name, salary, affiliationDate, in
+ * any order); NDJSON has one object per line with the same fields. Blank lines are skipped.
+ * A line that cannot be read becomes a malformed row instead of failing the whole upload.
+ */
+class MemberImportReader implements Iterator<MemberImportRow> {
+    
+    static final String CSV = "text/csv";
+    
+    private static final String[] REQUIRED_COLUMNS = {"document", "name", "salary"};
+    
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> columns;
+    private long lineNumber;
+    private MemberImportRow next;
+    
+    private MemberImportReader(BufferedReader reader, ObjectMapper objectMapper, Map<String, Integer> columns) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.columns = columns;
+    }
+    
+    /**
+     * @throws ValidationException if a CSV upload has no usable header row
+     */
+    static MemberImportReader open(InputStream body, String contentType, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        boolean ndjson = contentType != null
+                && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(NdjsonResponseWriter.NDJSON));
+        if (ndjson) {
+            return new MemberImportReader(reader, objectMapper, null);
+        }
+        
+        String header = reader.readLine();
+        if (header == null || header.isBlank()) {
+            throw new ValidationException("file", "CSV header row is missing");
+        }
+        // Excel and others may start the file with a byte order mark
+        if (header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        List<String> names = splitCsv(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; names != null && i < names.size(); i++) {
+            columns.put(columnKey(names.get(i)), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new ValidationException("file", "CSV header must include the " + required + " column");
+            }
+        }
+        MemberImportReader importReader = new MemberImportReader(reader, objectMapper, columns);
+        importReader.lineNumber = 1;
+        return importReader;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRow();
+        }
+        return next != null;
+    }
+    
+    @Override
+    public MemberImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        MemberImportRow row = next;
+        next = null;
+        return row;
+    }
+    
+    private MemberImportRow readRow() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+            return columns != null ? parseCsv(line) : parseNdjson(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private MemberImportRow parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields == null) {
+            return MemberImportRow.malformed(lineNumber, "Unterminated quoted field");
+        }
+        return new MemberImportRow(lineNumber, field(fields, "document"), field(fields, "name"),
+                field(fields, "salary"), field(fields, "affiliationdate"), null);
+    }
+    
+    private MemberImportRow parseNdjson(String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return MemberImportRow.malformed(lineNumber, "Invalid JSON");
+        }
+        if (node == null || !node.isObject()) {
+            return MemberImportRow.malformed(lineNumber, "Expected a JSON object");
+        }
+        return new MemberImportRow(lineNumber, text(node, "document"), text(node, "name"),
+                text(node, "salary"), text(node, "affiliationDate"), null);
+    }
+    
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < fields.size() ? fields.get(index) : null;
+    }
+    
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+    
+    // "affiliationDate", "affiliation_date" and "AffiliationDate" name the same column
+    private static String columnKey(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Splits one CSV line (RFC 4180 quoting, no line breaks inside fields).
+     *
+     * @return the fields, or {@code null} if a quoted field is not closed
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes objects to the servlet response as newline-delimited JSON, optionally gzipped.
+ * The response is only committed on the first line (or on {@link #finish()}), so an error
+ * raised before any row was read can still be turned into a regular error response.
+ */
+class NdjsonResponseWriter implements AutoCloseable {
+    
+    static final String NDJSON = "application/x-ndjson";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final HttpServletResponse response;
+    private final ObjectWriter writer;
+    private final boolean gzip;
+    private OutputStream out;
+    
+    NdjsonResponseWriter(HttpServletResponse response, ObjectMapper objectMapper, boolean gzip) {
+        this.response = response;
+        this.writer = objectMapper.writer();
+        this.gzip = gzip;
+    }
+    
+    /**
+     * Whether an {@code Accept-Encoding} header allows gzip: listed as {@code gzip} (or
+     * {@code x-gzip}), or covered by {@code *}, with a non-zero q-value. An explicit entry
+     * wins over {@code *}, so {@code gzip;q=0, *} refuses it.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            String name = params[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                gzip = q;
+            } else if (name.equals("*")) {
+                any = q;
+            }
+        }
+        Double q = gzip != null ? gzip : any;
+        return q != null && q > 0;
+    }
+    
+    void write(Object line) {
+        try {
+            OutputStream stream = open();
+            stream.write(writer.writeValueAsBytes(line));
+            stream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Completes the body; an export without rows still returns an empty 200 response.
+     */
+    void finish() throws IOException {
+        open().flush();
+    }
+    
+    private OutputStream open() throws IOException {
+        if (out == null) {
+            response.setContentType(NDJSON);
+            response.setCharacterEncoding("UTF-8");
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                out = new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE);
+            } else {
+                out = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+            }
+        }
+        return out;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+        }
+    }
+}
\ No newline at end of file
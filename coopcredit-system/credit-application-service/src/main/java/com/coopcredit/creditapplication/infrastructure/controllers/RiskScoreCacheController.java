@@ -0,0 +1,46 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.infrastructure.adapters.cache.RiskScoreCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/risk-cache")
+@Tag(name = "4. Administration", description = "Operational endpoints - Requires ADMIN role")
+@SecurityRequirement(name = "bearerAuth")
+@ApiResponses({
+        @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions", content = @Content)
+})
+public class RiskScoreCacheController {
+    
+    private final RiskScoreCache riskScoreCache;
+    
+    public RiskScoreCacheController(RiskScoreCache riskScoreCache) {
+        this.riskScoreCache = riskScoreCache;
+    }
+    
+    @DeleteMapping
+    @Operation(summary = "Invalidate all cached risk central scores")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InvalidationResponse> invalidateAll() {
+        return ResponseEntity.ok(new InvalidationResponse(riskScoreCache.invalidateAll()));
+    }
+    
+    @DeleteMapping("/{document}")
+    @Operation(summary = "Invalidate cached risk central scores for a document")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InvalidationResponse> invalidateDocument(@PathVariable String document) {
+        return ResponseEntity.ok(new InvalidationResponse(riskScoreCache.invalidateDocument(document)));
+    }
+    
+    // DTOs
+    record InvalidationResponse(long invalidated) {}
+}
\ No newline at end of file
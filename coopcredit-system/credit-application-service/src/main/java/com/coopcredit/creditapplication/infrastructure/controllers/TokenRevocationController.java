@@ -0,0 +1,66 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.exception.NotFoundException;
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
+import com.coopcredit.creditapplication.infrastructure.security.TokenRevocationList;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "4. Administration", description = "Operational endpoints - Requires ADMIN role")
+@SecurityRequirement(name = "bearerAuth")
+@ApiResponses({
+        @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token missing or invalid", content = @Content),
+        @ApiResponse(responseCode = "403", description = "Forbidden - Insufficient permissions", content = @Content)
+})
+public class TokenRevocationController {
+    
+    private final TokenRevocationList tokenRevocationList;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepositoryPort userRepository;
+    
+    public TokenRevocationController(TokenRevocationList tokenRevocationList,
+                                     JwtTokenProvider jwtTokenProvider,
+                                     UserRepositoryPort userRepository) {
+        this.tokenRevocationList = tokenRevocationList;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+    }
+    
+    @PostMapping("/tokens/revoke")
+    @Operation(summary = "Revoke a token, e.g. one that leaked")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeToken(@Valid @RequestBody RevokeTokenRequest request) {
+        var principal = jwtTokenProvider.authenticate(request.token())
+                .orElseThrow(() -> new ValidationException("token", "Token is invalid or already expired"));
+        tokenRevocationList.revoke(principal, "ADMIN");
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping("/users/{userId}/tokens/revoke")
+    @Operation(
+            summary = "Revoke every token issued to a user so far",
+            description = "Tokens issued by later logins are accepted; disable the user to keep them out."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable Long userId) {
+        userRepository.findById(userId).orElseThrow(() -> new NotFoundException("User", "id", userId));
+        tokenRevocationList.revokeAllOf(userId, "ADMIN");
+        return ResponseEntity.noContent().build();
+    }
+    
+    // DTOs
+    record RevokeTokenRequest(@NotBlank String token) {}
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.coopcredit.creditapplication.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out replica connections to the read-only transactions of pure query use cases and
+ * primary connections to everything else, falling back to the primary while
+ * {@link ReplicaLagMonitor} reports the replica as behind. A query use case is recognised by
+ * its transaction name, which {@code @Transactional} sets to the use case method. Other
+ * read-only transactions stay on the primary: unnamed ones, such as the reads an evaluation
+ * makes before its write, and those Spring Data opens around a repository call, such as a
+ * job lookup by the worker. They may need to see a write made a moment earlier.
+ * The read-only flag is only known once the transaction has started,
+ * so this must sit behind a {@code LazyConnectionDataSourceProxy}.
+ * Routing decisions are counted as {@code datasource.routing.connections} by target and reason;
+ * the counters exist once {@link #bindTo} has been called, which must happen before the first connection.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+    
+    private enum Target { PRIMARY, REPLICA }
+    
+    private final ReplicaLagMonitor lagMonitor;
+    private final String queryTransactionPrefix;
+    private Counter readOnlyToReplica;
+    private Counter readOnlyToPrimary;
+    private Counter pinnedToPrimary;
+    private Counter readWriteToPrimary;
+    
+    /**
+     * @param queryTransactionPrefix start of the transaction names that may be served by the replica
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      String queryTransactionPrefix) {
+        this.lagMonitor = lagMonitor;
+        this.queryTransactionPrefix = queryTransactionPrefix;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        this.readOnlyToReplica = counter(meterRegistry, "replica", "read-only");
+        this.readOnlyToPrimary = counter(meterRegistry, "primary", "replica-lagging");
+        this.pinnedToPrimary = counter(meterRegistry, "primary", "read-only-pinned");
+        this.readWriteToPrimary = counter(meterRegistry, "primary", "read-write");
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWriteToPrimary.increment();
+            return Target.PRIMARY;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName == null || !transactionName.startsWith(queryTransactionPrefix)) {
+            pinnedToPrimary.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            readOnlyToPrimary.increment();
+            return Target.PRIMARY;
+        }
+        readOnlyToReplica.increment();
+        return Target.REPLICA;
+    }
+    
+    private static Counter counter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the routing datasource")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.coopcredit.creditapplication.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+
+/**
+ * Measures how far the replica is behind the primary with a heartbeat row: every interval
+ * the primary's row is stamped with the database time, and the lag is that time minus the
+ * stamp visible on the replica (overestimated by at most one interval). While the lag is
+ * above the maximum, or the replica cannot be read, read-only transactions use the primary.
+ * The replica is not used before the first successful check.
+ */
+public class ReplicaLagMonitor implements MeterBinder {
+    
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    
+    private static final String STAMP = "update replication_heartbeat set beat_at = CURRENT_TIMESTAMP(3) where id = 1";
+    private static final String INSERT = "insert into replication_heartbeat (id, beat_at) values (1, CURRENT_TIMESTAMP(3))";
+    private static final String READ = "select beat_at from replication_heartbeat where id = 1";
+    
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final boolean enabled;
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+    
+    /**
+     * @param enabled {@code false} to always use the replica, e.g. when it is not replicated at all
+     */
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, boolean enabled) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.enabled = enabled;
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag measured through the heartbeat row (NaN when unknown)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+    
+    public boolean isReplicaUsable() {
+        return !enabled || replicaUsable;
+    }
+    
+    @Scheduled(fixedDelayString = "${datasource-routing.replica.heartbeat-interval:PT1S}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+        boolean usable;
+        try {
+            if (primary.update(STAMP) == 0) {
+                primary.update(INSERT);
+            }
+            Timestamp stamped = primary.queryForObject(READ, Timestamp.class);
+            Timestamp seen = replica.query(READ, rs -> rs.next() ? rs.getTimestamp(1) : null);
+            if (seen == null) {
+                lagSeconds = Double.NaN;
+                usable = false;
+            } else {
+                Duration lag = Duration.between(seen.toInstant(), stamped.toInstant());
+                lagSeconds = Math.max(0, lag.toMillis()) / 1000.0;
+                usable = lag.compareTo(maxLag) <= 0;
+            }
+        } catch (DataAccessException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            log.debug("Replica lag check failed", e);
+        }
+        
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica caught up (lag {}s), routing read-only transactions to it", lagSeconds);
+            } else {
+                log.warn("Replica lag {}s over {} or unknown, routing read-only transactions to the primary",
+                        lagSeconds, maxLag);
+            }
+        }
+        replicaUsable = usable;
+    }
+}
\ No newline at end of file
@@ -7,11 +7,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "credit_applications")
+// Indexes mirror the Flyway migrations so that a schema generated by ddl-auto has them too
+@Table(name = "credit_applications", indexes = {
+        @Index(name = "idx_credit_applications_date_id", columnList = "application_date, id"),
+        @Index(name = "idx_credit_applications_member_date_id", columnList = "member_id, application_date, id"),
+        @Index(name = "idx_credit_applications_status_date_id", columnList = "status, application_date, id"),
+        @Index(name = "idx_credit_applications_member_status_date_id",
+                columnList = "member_id, status, application_date, id")
+})
 public class CreditApplicationEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_applications_seq")
+    @SequenceGenerator(name = "credit_applications_seq", sequenceName = "credit_applications_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "member_id", nullable = false)
@@ -0,0 +1,112 @@
+package com.coopcredit.creditapplication.infrastructure.entities;
+
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.enums.FinalDecision;
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row per credit application, joined with its member and evaluation at write time.
+ * The id is the credit application id.
+ */
+@Entity
+@Table(name = "application_view", indexes = {
+        @Index(name = "idx_application_view_date_id", columnList = "application_date, application_id"),
+        @Index(name = "idx_application_view_member_date_id", columnList = "member_id, application_date, application_id"),
+        @Index(name = "idx_application_view_status_date_id", columnList = "status, application_date, application_id"),
+        @Index(name = "idx_application_view_member_status_date_id",
+                columnList = "member_id, status, application_date, application_id")
+})
+public class CreditApplicationViewEntity {
+    
+    @Id
+    @Column(name = "application_id")
+    private Long id;
+    
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+    
+    @Column(name = "member_document", nullable = false, length = 20)
+    private String memberDocument;
+    
+    @Column(name = "member_name", nullable = false, length = 100)
+    private String memberName;
+    
+    @Column(name = "requested_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal requestedAmount;
+    
+    @Column(name = "term_months", nullable = false)
+    private Integer termMonths;
+    
+    @Column(name = "proposed_rate", nullable = false, precision = 5, scale = 4)
+    private BigDecimal proposedRate;
+    
+    @Column(name = "application_date", nullable = false)
+    private LocalDate applicationDate;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+    
+    private Integer score;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_level")
+    private RiskLevel riskLevel;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "final_decision")
+    private FinalDecision finalDecision;
+    
+    @Column(name = "decision_reason", columnDefinition = "TEXT")
+    private String decisionReason;
+    
+    @Column(name = "evaluated_at")
+    private LocalDateTime evaluatedAt;
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+    
+    public String getMemberDocument() { return memberDocument; }
+    public void setMemberDocument(String memberDocument) { this.memberDocument = memberDocument; }
+    
+    public String getMemberName() { return memberName; }
+    public void setMemberName(String memberName) { this.memberName = memberName; }
+    
+    public BigDecimal getRequestedAmount() { return requestedAmount; }
+    public void setRequestedAmount(BigDecimal requestedAmount) { this.requestedAmount = requestedAmount; }
+    
+    public Integer getTermMonths() { return termMonths; }
+    public void setTermMonths(Integer termMonths) { this.termMonths = termMonths; }
+    
+    public BigDecimal getProposedRate() { return proposedRate; }
+    public void setProposedRate(BigDecimal proposedRate) { this.proposedRate = proposedRate; }
+    
+    public LocalDate getApplicationDate() { return applicationDate; }
+    public void setApplicationDate(LocalDate applicationDate) { this.applicationDate = applicationDate; }
+    
+    public ApplicationStatus getStatus() { return status; }
+    public void setStatus(ApplicationStatus status) { this.status = status; }
+    
+    public Integer getScore() { return score; }
+    public void setScore(Integer score) { this.score = score; }
+    
+    public RiskLevel getRiskLevel() { return riskLevel; }
+    public void setRiskLevel(RiskLevel riskLevel) { this.riskLevel = riskLevel; }
+    
+    public FinalDecision getFinalDecision() { return finalDecision; }
+    public void setFinalDecision(FinalDecision finalDecision) { this.finalDecision = finalDecision; }
+    
+    public String getDecisionReason() { return decisionReason; }
+    public void setDecisionReason(String decisionReason) { this.decisionReason = decisionReason; }
+    
+    public LocalDateTime getEvaluatedAt() { return evaluatedAt; }
+    public void setEvaluatedAt(LocalDateTime evaluatedAt) { this.evaluatedAt = evaluatedAt; }
+}
\ No newline at end of file
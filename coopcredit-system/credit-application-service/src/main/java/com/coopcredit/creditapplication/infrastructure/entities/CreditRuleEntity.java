@@ -0,0 +1,56 @@
+package com.coopcredit.creditapplication.infrastructure.entities;
+
+import com.coopcredit.creditapplication.domain.model.enums.CreditRuleType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "credit_rules")
+public class CreditRuleEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_rules_seq")
+    @SequenceGenerator(name = "credit_rules_seq", sequenceName = "credit_rules_seq", allocationSize = 50)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, unique = true, length = 50)
+    private CreditRuleType ruleType;
+    
+    @Column(nullable = false, length = 100)
+    private String threshold;
+    
+    @Column(nullable = false)
+    private boolean enabled;
+    
+    @Column(name = "rejection_message")
+    private String rejectionMessage;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public CreditRuleType getRuleType() { return ruleType; }
+    public void setRuleType(CreditRuleType ruleType) { this.ruleType = ruleType; }
+    
+    public String getThreshold() { return threshold; }
+    public void setThreshold(String threshold) { this.threshold = threshold; }
+    
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    
+    public String getRejectionMessage() { return rejectionMessage; }
+    public void setRejectionMessage(String rejectionMessage) { this.rejectionMessage = rejectionMessage; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
\ No newline at end of file
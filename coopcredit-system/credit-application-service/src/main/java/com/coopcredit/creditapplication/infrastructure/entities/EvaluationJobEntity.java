@@ -0,0 +1,90 @@
+package com.coopcredit.creditapplication.infrastructure.entities;
+
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "evaluation_jobs")
+public class EvaluationJobEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "evaluation_jobs_seq")
+    @SequenceGenerator(name = "evaluation_jobs_seq", sequenceName = "evaluation_jobs_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "credit_application_id", nullable = false)
+    private Long creditApplicationId;
+    
+    // Same as credit_application_id while the job is QUEUED or RUNNING, null once it has
+    // finished: its unique index lets the database refuse a second active job
+    @Column(name = "active_credit_application_id", unique = true)
+    private Long activeCreditApplicationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EvaluationJobStatus status;
+    
+    @Column(nullable = false)
+    private int attempts;
+    
+    @Column(name = "risk_evaluation_id")
+    private Long riskEvaluationId;
+    
+    @Column(name = "error_code", length = 50)
+    private String errorCode;
+    
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+    
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == EvaluationJobStatus.QUEUED || status == EvaluationJobStatus.RUNNING) {
+            activeCreditApplicationId = creditApplicationId;
+        }
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getCreditApplicationId() { return creditApplicationId; }
+    public void setCreditApplicationId(Long creditApplicationId) { this.creditApplicationId = creditApplicationId; }
+    
+    public Long getActiveCreditApplicationId() { return activeCreditApplicationId; }
+    public void setActiveCreditApplicationId(Long activeCreditApplicationId) { this.activeCreditApplicationId = activeCreditApplicationId; }
+    
+    public EvaluationJobStatus getStatus() { return status; }
+    public void setStatus(EvaluationJobStatus status) { this.status = status; }
+    
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    
+    public Long getRiskEvaluationId() { return riskEvaluationId; }
+    public void setRiskEvaluationId(Long riskEvaluationId) { this.riskEvaluationId = riskEvaluationId; }
+    
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+    
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.coopcredit.creditapplication.infrastructure.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A member changed on some node; other nodes drop it from their member cache.
+ * {@code createdAt} is taken from the database clock so all nodes compare the same time.
+ */
+@Entity
+@Table(name = "member_cache_invalidations")
+public class MemberCacheInvalidationEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_cache_invalidations_seq")
+    @SequenceGenerator(name = "member_cache_invalidations_seq", sequenceName = "member_cache_invalidations_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+    
+    @Column(length = 20)
+    private String document;
+    
+    @CreationTimestamp(source = SourceType.DB)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    public MemberCacheInvalidationEntity() {}
+    
+    public MemberCacheInvalidationEntity(Long memberId, String document) {
+        this.memberId = memberId;
+        this.document = document;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+    
+    public String getDocument() { return document; }
+    public void setDocument(String document) { this.document = document; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
\ No newline at end of file
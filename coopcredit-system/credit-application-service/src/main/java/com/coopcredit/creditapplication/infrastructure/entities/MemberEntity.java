@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class MemberEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 20)
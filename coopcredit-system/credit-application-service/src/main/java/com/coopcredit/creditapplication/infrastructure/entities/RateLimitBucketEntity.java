@@ -0,0 +1,27 @@
+package com.coopcredit.creditapplication.infrastructure.entities;
+
+import jakarta.persistence.*;
+
+/**
+ * A token bucket shared by all nodes, stored as the instant (epoch microseconds) at which
+ * it is full again. Mapped so the schema tooling creates the table; it is read and written
+ * over plain JDBC by {@code DatabaseRateLimiter}.
+ */
+@Entity
+@Table(name = "rate_limit_buckets")
+public class RateLimitBucketEntity {
+    
+    @Id
+    @Column(name = "bucket_key", length = 200)
+    private String bucketKey;
+    
+    @Column(name = "full_at_micros", nullable = false)
+    private long fullAtMicros;
+    
+    // Getters and Setters
+    public String getBucketKey() { return bucketKey; }
+    public void setBucketKey(String bucketKey) { this.bucketKey = bucketKey; }
+    
+    public long getFullAtMicros() { return fullAtMicros; }
+    public void setFullAtMicros(long fullAtMicros) { this.fullAtMicros = fullAtMicros; }
+}
\ No newline at end of file
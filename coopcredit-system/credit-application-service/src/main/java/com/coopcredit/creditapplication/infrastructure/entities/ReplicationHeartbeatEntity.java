@@ -0,0 +1,27 @@
+package com.coopcredit.creditapplication.infrastructure.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Single heartbeat row stamped on the primary and read back on the replica to measure
+ * replication lag. Mapped so the schema tooling creates the table; it is read and written
+ * over plain JDBC by {@code ReplicaLagMonitor}.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeatEntity {
+    
+    @Id
+    private Integer id;
+    
+    @Column(name = "beat_at", nullable = false)
+    private LocalDateTime beatAt;
+    
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+    
+    public LocalDateTime getBeatAt() { return beatAt; }
+    public void setBeatAt(LocalDateTime beatAt) { this.beatAt = beatAt; }
+}
\ No newline at end of file
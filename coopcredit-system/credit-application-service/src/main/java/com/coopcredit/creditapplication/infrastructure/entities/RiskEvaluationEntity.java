@@ -11,17 +11,17 @@ import java.time.LocalDateTime;
 public class RiskEvaluationEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "risk_evaluations_seq")
+    @SequenceGenerator(name = "risk_evaluations_seq", sequenceName = "risk_evaluations_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "credit_application_id", nullable = false, unique = true)
     private Long creditApplicationId;
     
-    @Column(nullable = false)
     private Integer score;
     
     @Enumerated(EnumType.STRING)
-    @Column(name = "risk_level", nullable = false)
+    @Column(name = "risk_level")
     private RiskLevel riskLevel;
     
     @Column(name = "payment_to_income_ratio", nullable = false, precision = 5, scale = 4)
@@ -43,6 +43,9 @@ public class RiskEvaluationEntity {
     @Column(name = "risk_central_detail", columnDefinition = "TEXT")
     private String riskCentralDetail;
     
+    @Column(name = "risk_central_skipped", nullable = false)
+    private boolean riskCentralSkipped;
+    
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
@@ -82,6 +85,9 @@ public class RiskEvaluationEntity {
     public String getRiskCentralDetail() { return riskCentralDetail; }
     public void setRiskCentralDetail(String riskCentralDetail) { this.riskCentralDetail = riskCentralDetail; }
     
+    public boolean isRiskCentralSkipped() { return riskCentralSkipped; }
+    public void setRiskCentralSkipped(boolean riskCentralSkipped) { this.riskCentralSkipped = riskCentralSkipped; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
\ No newline at end of file
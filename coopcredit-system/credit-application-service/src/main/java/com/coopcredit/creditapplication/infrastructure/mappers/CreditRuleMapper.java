@@ -0,0 +1,35 @@
+package com.coopcredit.creditapplication.infrastructure.mappers;
+
+import com.coopcredit.creditapplication.domain.model.CreditRuleDefinition;
+import com.coopcredit.creditapplication.infrastructure.entities.CreditRuleEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CreditRuleMapper {
+    
+    public CreditRuleDefinition toDomain(CreditRuleEntity entity) {
+        if (entity == null) return null;
+        
+        CreditRuleDefinition definition = new CreditRuleDefinition();
+        definition.setId(entity.getId());
+        definition.setRuleType(entity.getRuleType());
+        definition.setThreshold(entity.getThreshold());
+        definition.setEnabled(entity.isEnabled());
+        definition.setRejectionMessage(entity.getRejectionMessage());
+        definition.setUpdatedAt(entity.getUpdatedAt());
+        return definition;
+    }
+    
+    public CreditRuleEntity toEntity(CreditRuleDefinition domain) {
+        if (domain == null) return null;
+        
+        CreditRuleEntity entity = new CreditRuleEntity();
+        entity.setId(domain.getId());
+        entity.setRuleType(domain.getRuleType());
+        entity.setThreshold(domain.getThreshold());
+        entity.setEnabled(domain.isEnabled());
+        entity.setRejectionMessage(domain.getRejectionMessage());
+        entity.setUpdatedAt(domain.getUpdatedAt());
+        return entity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.coopcredit.creditapplication.infrastructure.mappers;
+
+import com.coopcredit.creditapplication.domain.model.EvaluationJob;
+import com.coopcredit.creditapplication.infrastructure.entities.EvaluationJobEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EvaluationJobMapper {
+    
+    public EvaluationJob toDomain(EvaluationJobEntity entity) {
+        if (entity == null) return null;
+        
+        EvaluationJob job = new EvaluationJob();
+        job.setId(entity.getId());
+        job.setCreditApplicationId(entity.getCreditApplicationId());
+        job.setStatus(entity.getStatus());
+        job.setAttempts(entity.getAttempts());
+        job.setRiskEvaluationId(entity.getRiskEvaluationId());
+        job.setErrorCode(entity.getErrorCode());
+        job.setErrorMessage(entity.getErrorMessage());
+        job.setCreatedAt(entity.getCreatedAt());
+        job.setStartedAt(entity.getStartedAt());
+        job.setFinishedAt(entity.getFinishedAt());
+        return job;
+    }
+    
+    public EvaluationJobEntity toEntity(EvaluationJob domain) {
+        if (domain == null) return null;
+        
+        EvaluationJobEntity entity = new EvaluationJobEntity();
+        entity.setId(domain.getId());
+        entity.setCreditApplicationId(domain.getCreditApplicationId());
+        entity.setStatus(domain.getStatus());
+        entity.setAttempts(domain.getAttempts());
+        entity.setRiskEvaluationId(domain.getRiskEvaluationId());
+        entity.setErrorCode(domain.getErrorCode());
+        entity.setErrorMessage(domain.getErrorMessage());
+        entity.setCreatedAt(domain.getCreatedAt());
+        entity.setStartedAt(domain.getStartedAt());
+        entity.setFinishedAt(domain.getFinishedAt());
+        return entity;
+    }
+}
\ No newline at end of file
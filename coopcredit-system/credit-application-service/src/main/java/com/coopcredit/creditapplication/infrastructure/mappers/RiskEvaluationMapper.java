@@ -21,6 +21,7 @@ public class RiskEvaluationMapper {
         evaluation.setFinalDecision(entity.getFinalDecision());
         evaluation.setReason(entity.getReason());
         evaluation.setRiskCentralDetail(entity.getRiskCentralDetail());
+        evaluation.setRiskCentralSkipped(entity.isRiskCentralSkipped());
         evaluation.setCreatedAt(entity.getCreatedAt());
         return evaluation;
     }
@@ -39,6 +40,7 @@ public class RiskEvaluationMapper {
         entity.setFinalDecision(domain.getFinalDecision());
         entity.setReason(domain.getReason());
         entity.setRiskCentralDetail(domain.getRiskCentralDetail());
+        entity.setRiskCentralSkipped(domain.isRiskCentralSkipped());
         return entity;
     }
 }
\ No newline at end of file
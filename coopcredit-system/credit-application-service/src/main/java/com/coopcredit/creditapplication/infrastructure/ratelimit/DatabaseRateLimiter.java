@@ -0,0 +1,85 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buckets in the rate_limit_buckets table, so all nodes draw from the same bucket. A token
+ * is taken with one conditional UPDATE, which the database serializes per row; a bucket is
+ * only read or inserted when that UPDATE matches nothing. Times are the nodes' wall clocks
+ * in microseconds, so they are assumed to be kept in sync.
+ * If the row keeps changing under both attempts (created and purged by other nodes in
+ * between), the request is throttled for one emission interval rather than let through,
+ * and counted in {@code rate.limit.database.unresolved}.
+ */
+public class DatabaseRateLimiter implements RateLimiter {
+    
+    private static final Logger log = LoggerFactory.getLogger(DatabaseRateLimiter.class);
+    
+    private static final String TAKE = "update rate_limit_buckets set full_at_micros = greatest(full_at_micros, ?) + ? "
+            + "where bucket_key = ? and greatest(full_at_micros, ?) + ? <= ?";
+    private static final String READ = "select full_at_micros from rate_limit_buckets where bucket_key = ?";
+    private static final String INSERT = "insert into rate_limit_buckets (bucket_key, full_at_micros) values (?, ?)";
+    private static final String PURGE = "delete from rate_limit_buckets where full_at_micros < ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter unresolved;
+    
+    public DatabaseRateLimiter(DataSource dataSource, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.unresolved = Counter.builder("rate.limit.database.unresolved")
+                .description("Requests throttled because their bucket row changed under every attempt")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public Decision tryAcquire(String key, Limit limit) {
+        long now = nowMicros();
+        long interval = Math.max(1, TimeUnit.NANOSECONDS.toMicros(limit.emissionIntervalNanos()));
+        long period = TimeUnit.NANOSECONDS.toMicros(limit.period().toNanos());
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (jdbcTemplate.update(TAKE, now, interval, key, now, interval, now + period) == 1) {
+                return Decision.ALLOWED;
+            }
+            List<Long> fullAt = jdbcTemplate.queryForList(READ, Long.class, key);
+            if (!fullAt.isEmpty()) {
+                long next = Math.max(fullAt.get(0), now) + interval;
+                return Decision.throttled(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Math.max(0, next - period - now))));
+            }
+            try {
+                jdbcTemplate.update(INSERT, key, now + interval);
+                return Decision.ALLOWED;
+            } catch (DuplicateKeyException e) {
+                // Another node created the bucket first: take the token from its row
+            }
+        }
+        unresolved.increment();
+        log.warn("Rate limit bucket {} changed under every attempt, throttling the request", key);
+        return Decision.throttled(Duration.ofNanos(limit.emissionIntervalNanos()));
+    }
+    
+    /**
+     * Rows whose bucket is already full hold no state and are removed.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval:PT10M}")
+    public void purge() {
+        int removed = jdbcTemplate.update(PURGE, nowMicros());
+        if (removed > 0) {
+            log.debug("Removed {} full rate limit buckets", removed);
+        }
+    }
+    
+    private static long nowMicros() {
+        return TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buckets held in this node's memory, in a bounded map striped across many bins so
+ * concurrent users rarely touch the same one. A bucket idle for a whole period is full
+ * anyway, so dropping it after that time changes nothing.
+ */
+public class LocalRateLimiter implements RateLimiter {
+    
+    private final Cache<String, AtomicLong> buckets;
+    
+    public LocalRateLimiter(int maxBuckets, Duration idleExpiry, MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+                .description("Token buckets held in memory")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public Decision tryAcquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        long interval = limit.emissionIntervalNanos();
+        long period = limit.period().toNanos();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - now > 0 ? current : now) + interval;
+            if (next - now > period) {
+                return Decision.throttled(Duration.ofNanos(next - period - now));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+}
\ No newline at end of file
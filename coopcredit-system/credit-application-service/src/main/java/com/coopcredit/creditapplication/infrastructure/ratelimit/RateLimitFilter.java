@@ -0,0 +1,158 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimiter.Decision;
+import com.coopcredit.creditapplication.infrastructure.ratelimit.RateLimiter.Limit;
+import com.coopcredit.creditapplication.infrastructure.security.JwtPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies the configured {@link RateLimitProperties.Rule}s to authenticated requests, using
+ * the principal set by {@code JwtAuthenticationFilter}. It runs after authorization, so a
+ * request that would be refused anyway takes no token. A throttled request gets
+ * {@code 429} with {@code Retry-After} in seconds. If the shared store cannot be reached
+ * the request is let through. Decisions are counted in {@code rate.limit.requests},
+ * tagged by rule and outcome ({@code allowed}, {@code throttled}, {@code error}).
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+    
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledRule> rules;
+    
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.rules = properties.enabled()
+                ? properties.rules().stream().map(rule -> new CompiledRule(rule, meterRegistry)).toList()
+                : List.of();
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return rules.isEmpty();
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        CompiledRule rule = authentication != null && authentication.getPrincipal() instanceof JwtPrincipal
+                ? match(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+        Decision decision;
+        try {
+            decision = rateLimiter.tryAcquire(rule.key(principal), rule.limitFor(principal.role()));
+        } catch (DataAccessException e) {
+            rule.errors.increment();
+            log.debug("Rate limit store unavailable, letting the request through", e);
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        if (decision.allowed()) {
+            rule.allowed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        rule.throttled.increment();
+        long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType("application/json");
+        objectMapper.writeValue(response.getWriter(), new TooManyRequestsResponse("Too Many Requests",
+                "Rate limit '" + rule.name + "' exceeded, retry in " + retryAfterSeconds + " seconds"));
+    }
+    
+    private CompiledRule match(HttpServletRequest request) {
+        for (CompiledRule rule : rules) {
+            if (rule.matcher.matches(request)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+    
+    record TooManyRequestsResponse(String error, String message) {}
+    
+    private static final class CompiledRule {
+        
+        private static final String ROLE_PREFIX = "ROLE_";
+        
+        private final String name;
+        private final RequestMatcher matcher;
+        private final RateLimitProperties.Scope scope;
+        private final Limit defaultLimit;
+        private final Map<String, Limit> roleLimits = new HashMap<>();
+        private final Counter allowed;
+        private final Counter throttled;
+        private final Counter errors;
+        
+        CompiledRule(RateLimitProperties.Rule rule, MeterRegistry meterRegistry) {
+            if (rule.name() == null || rule.path() == null) {
+                throw new IllegalArgumentException("Rate limit rule needs a name and a path");
+            }
+            this.name = rule.name();
+            this.matcher = rule.method() == null
+                    ? AntPathRequestMatcher.antMatcher(rule.path())
+                    : AntPathRequestMatcher.antMatcher(HttpMethod.valueOf(rule.method()), rule.path());
+            this.scope = rule.scope();
+            this.defaultLimit = new Limit(rule.capacity(), rule.period());
+            if (rule.roleCapacity() != null) {
+                rule.roleCapacity().forEach((role, capacity) ->
+                        roleLimits.put(ROLE_PREFIX + role, new Limit(capacity, rule.period())));
+            }
+            this.allowed = counter(meterRegistry, "allowed");
+            this.throttled = counter(meterRegistry, "throttled");
+            this.errors = counter(meterRegistry, "error");
+        }
+        
+        String key(JwtPrincipal principal) {
+            return name + ':' + (scope == RateLimitProperties.Scope.ROLE ? principal.role() : principal.username());
+        }
+        
+        Limit limitFor(String role) {
+            return roleLimits.getOrDefault(role, defaultLimit);
+        }
+        
+        private Counter counter(MeterRegistry meterRegistry, String outcome) {
+            return Counter.builder("rate.limit.requests")
+                    .description("Requests checked against a rate limit rule")
+                    .tag("rule", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
\ No newline at end of file
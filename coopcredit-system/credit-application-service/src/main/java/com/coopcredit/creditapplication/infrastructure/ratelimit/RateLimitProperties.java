@@ -0,0 +1,52 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limits under {@code rate-limit.*}. Bound as properties rather than single values
+ * because each endpoint carries its own rule.
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("local") Store store,
+        @DefaultValue("100000") int maxBuckets,
+        @DefaultValue("10m") Duration purgeInterval,
+        @DefaultValue List<Rule> rules
+) {
+    
+    public enum Store {
+        /** Buckets in this node's memory: each node enforces the limit on its own. */
+        LOCAL,
+        /** Buckets in the rate_limit_buckets table, shared by every node. */
+        DATABASE
+    }
+    
+    public enum Scope {
+        /** One bucket per user. */
+        USER,
+        /** One bucket shared by every user with the same role. */
+        ROLE
+    }
+    
+    /**
+     * {@code capacity} requests per {@code period}, refilled evenly; a full bucket allows a
+     * burst of {@code capacity}. {@code roleCapacity} overrides the capacity for some roles
+     * (keys without the {@code ROLE_} prefix). Only the first rule matching a request applies.
+     */
+    public record Rule(
+            String name,
+            String method,
+            String path,
+            @DefaultValue("user") Scope scope,
+            int capacity,
+            @DefaultValue("1m") Duration period,
+            Map<String, Integer> roleCapacity
+    ) {
+    }
+}
\ No newline at end of file
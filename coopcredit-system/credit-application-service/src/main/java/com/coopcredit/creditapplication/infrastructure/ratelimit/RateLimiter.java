@@ -0,0 +1,37 @@
+package com.coopcredit.creditapplication.infrastructure.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Token buckets addressed by key. Each bucket is kept as the single instant at which it is
+ * full again: taking a token pushes that instant one emission interval
+ * ({@code period / capacity}) further, and is refused when it would end up more than one
+ * period ahead of now. This is the token bucket in the form of the generic cell rate
+ * algorithm, so a bucket is updated with one compare-and-set instead of a lock.
+ */
+public interface RateLimiter {
+    
+    Decision tryAcquire(String key, Limit limit);
+    
+    record Limit(int capacity, Duration period) {
+        
+        public Limit {
+            if (capacity <= 0 || period == null || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("Rate limit needs a positive capacity and period");
+            }
+        }
+        
+        public long emissionIntervalNanos() {
+            return period.toNanos() / capacity;
+        }
+    }
+    
+    record Decision(boolean allowed, Duration retryAfter) {
+        
+        public static final Decision ALLOWED = new Decision(true, Duration.ZERO);
+        
+        public static Decision throttled(Duration retryAfter) {
+            return new Decision(false, retryAfter);
+        }
+    }
+}
\ No newline at end of file
@@ -1,16 +1,45 @@
 package com.coopcredit.creditapplication.infrastructure.repositories;
 
+import com.coopcredit.creditapplication.domain.model.CreditApplicationSummary;
 import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
 import com.coopcredit.creditapplication.infrastructure.entities.CreditApplicationEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JpaCreditApplicationRepository extends JpaRepository<CreditApplicationEntity, Long> {
     
-    List<CreditApplicationEntity> findByMemberId(Long memberId);
+    List<CreditApplicationEntity> findByStatusOrderByApplicationDateAscIdAsc(ApplicationStatus status, Limit limit);
     
-    List<CreditApplicationEntity> findByStatus(ApplicationStatus status);
+    // Bulk update: @PreUpdate does not run, so updated_at is set here
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update CreditApplicationEntity a
+               set a.status = :target, a.updatedAt = :now
+             where a.id = :id and a.status = :expected
+            """)
+    int transitionStatus(@Param("id") Long id,
+                         @Param("expected") ApplicationStatus expected,
+                         @Param("target") ApplicationStatus target,
+                         @Param("now") LocalDateTime now);
+    
+    String SUMMARY = """
+            select new com.coopcredit.creditapplication.domain.model.CreditApplicationSummary(
+                       a.id, a.memberId, a.requestedAmount, a.termMonths, a.proposedRate,
+                       a.applicationDate, a.status)
+              from CreditApplicationEntity a
+            """;
+    
+    @Query(SUMMARY + " where a.id = :id")
+    Optional<CreditApplicationSummary> findSummaryById(@Param("id") Long id);
 }
\ No newline at end of file
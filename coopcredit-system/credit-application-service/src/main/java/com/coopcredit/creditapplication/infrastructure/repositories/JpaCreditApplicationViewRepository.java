@@ -0,0 +1,55 @@
+package com.coopcredit.creditapplication.infrastructure.repositories;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplicationView;
+import com.coopcredit.creditapplication.infrastructure.entities.CreditApplicationViewEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JpaCreditApplicationViewRepository extends JpaRepository<CreditApplicationViewEntity, Long> {
+    
+    String VIEW = """
+            select new com.coopcredit.creditapplication.domain.model.CreditApplicationView(
+                       v.id, v.memberId, v.memberDocument, v.memberName, v.requestedAmount, v.termMonths,
+                       v.proposedRate, v.applicationDate, v.status, v.score, v.riskLevel, v.finalDecision,
+                       v.decisionReason, v.evaluatedAt)
+              from CreditApplicationViewEntity v
+            """;
+    
+    @Query(VIEW + " where v.id = :id")
+    Optional<CreditApplicationView> findViewById(@Param("id") Long id);
+    
+    @Modifying
+    @Query("""
+            update CreditApplicationViewEntity v
+               set v.memberDocument = :document, v.memberName = :name
+             where v.memberId = :memberId
+            """)
+    int updateMember(@Param("memberId") Long memberId,
+                     @Param("document") String document,
+                     @Param("name") String name);
+    
+    @Modifying
+    @Query(value = "delete from application_view", nativeQuery = true)
+    int deleteAllRows();
+    
+    // Plain SQL accepted by both MySQL and PostgreSQL
+    @Modifying
+    @Query(value = """
+            insert into application_view (application_id, member_id, member_document, member_name,
+                                          requested_amount, term_months, proposed_rate, application_date, status,
+                                          score, risk_level, final_decision, decision_reason, evaluated_at)
+            select a.id, a.member_id, m.document, m.name,
+                   a.requested_amount, a.term_months, a.proposed_rate, a.application_date, a.status,
+                   e.score, e.risk_level, e.final_decision, e.reason, e.created_at
+              from credit_applications a
+              join members m on m.id = a.member_id
+              left join risk_evaluations e on e.credit_application_id = a.id
+            """, nativeQuery = true)
+    int insertAllFromSource();
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.coopcredit.creditapplication.infrastructure.repositories;
+
+import com.coopcredit.creditapplication.infrastructure.entities.CreditRuleEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaCreditRuleRepository extends JpaRepository<CreditRuleEntity, Long> {
+}
\ No newline at end of file
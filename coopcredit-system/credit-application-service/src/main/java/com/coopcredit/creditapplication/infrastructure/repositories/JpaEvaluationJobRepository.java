@@ -0,0 +1,77 @@
+package com.coopcredit.creditapplication.infrastructure.repositories;
+
+import com.coopcredit.creditapplication.domain.model.enums.EvaluationJobStatus;
+import com.coopcredit.creditapplication.infrastructure.entities.EvaluationJobEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface JpaEvaluationJobRepository extends JpaRepository<EvaluationJobEntity, Long> {
+    
+    Optional<EvaluationJobEntity> findFirstByCreditApplicationIdAndStatusIn(Long creditApplicationId,
+                                                                           Collection<EvaluationJobStatus> statuses);
+    
+    long countByStatus(EvaluationJobStatus status);
+    
+    @Query("select j.id from EvaluationJobEntity j where j.status = :status order by j.id")
+    List<Long> findIdsByStatus(@Param("status") EvaluationJobStatus status, Limit limit);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update EvaluationJobEntity j
+               set j.status = 'RUNNING', j.attempts = j.attempts + 1, j.startedAt = :now
+             where j.id = :id and j.status = 'QUEUED'
+            """)
+    int markRunning(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update EvaluationJobEntity j
+               set j.status = :status, j.riskEvaluationId = :riskEvaluationId,
+                   j.errorCode = :errorCode, j.errorMessage = :errorMessage, j.finishedAt = :now,
+                   j.activeCreditApplicationId = null
+             where j.id = :id and j.status = 'RUNNING'
+            """)
+    int finish(@Param("id") Long id,
+               @Param("status") EvaluationJobStatus status,
+               @Param("riskEvaluationId") Long riskEvaluationId,
+               @Param("errorCode") String errorCode,
+               @Param("errorMessage") String errorMessage,
+               @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update EvaluationJobEntity j
+               set j.status = 'QUEUED', j.startedAt = null
+             where j.status = 'RUNNING' and j.startedAt < :startedBefore and j.attempts < :maxAttempts
+            """)
+    int requeueRunningStartedBefore(@Param("startedBefore") LocalDateTime startedBefore,
+                                    @Param("maxAttempts") int maxAttempts);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update EvaluationJobEntity j
+               set j.status = 'FAILED', j.errorCode = :errorCode, j.errorMessage = :errorMessage,
+                   j.finishedAt = :now, j.activeCreditApplicationId = null
+             where j.status = 'RUNNING' and j.startedAt < :startedBefore and j.attempts >= :maxAttempts
+            """)
+    int failRunningStartedBefore(@Param("startedBefore") LocalDateTime startedBefore,
+                                 @Param("maxAttempts") int maxAttempts,
+                                 @Param("errorCode") String errorCode,
+                                 @Param("errorMessage") String errorMessage,
+                                 @Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.coopcredit.creditapplication.infrastructure.repositories;
+
+import com.coopcredit.creditapplication.infrastructure.entities.MemberCacheInvalidationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaMemberCacheInvalidationRepository extends JpaRepository<MemberCacheInvalidationEntity, Long> {
+    
+    List<MemberCacheInvalidationEntity> findByCreatedAtGreaterThanEqualOrderByCreatedAtAsc(LocalDateTime since);
+    
+    @Query("select max(i.createdAt) from MemberCacheInvalidationEntity i")
+    LocalDateTime findLatestCreatedAt();
+    
+    @Transactional
+    @Modifying
+    @Query("delete from MemberCacheInvalidationEntity i where i.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
\ No newline at end of file
@@ -1,10 +1,15 @@
 package com.coopcredit.creditapplication.infrastructure.repositories;
 
+import com.coopcredit.creditapplication.domain.model.MemberSummary;
 import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
 import com.coopcredit.creditapplication.infrastructure.entities.MemberEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +23,28 @@ public interface JpaMemberRepository extends JpaRepository<MemberEntity, Long> {
     List<MemberEntity> findByStatus(MemberStatus status);
     
     boolean existsByDocument(String document);
+    
+    @Query("select m.document from MemberEntity m where m.document in :documents")
+    List<String> findDocumentsIn(@Param("documents") Collection<String> documents);
+    
+    String SUMMARY = """
+            select new com.coopcredit.creditapplication.domain.model.MemberSummary(
+                       m.id, m.document, m.name, m.salary, m.affiliationDate, m.status)
+              from MemberEntity m
+            """;
+    
+    @Query(SUMMARY + " where m.id = :id")
+    Optional<MemberSummary> findSummaryById(@Param("id") Long id);
+    
+    @Query(SUMMARY + " where m.document = :document")
+    Optional<MemberSummary> findSummaryByDocument(@Param("document") String document);
+    
+    @Query(SUMMARY + """
+             where (:status is null or m.status = :status)
+               and (:afterId is null or m.id > :afterId)
+             order by m.id
+            """)
+    List<MemberSummary> findSummaryPage(@Param("status") MemberStatus status,
+                                        @Param("afterId") Long afterId,
+                                        Limit limit);
 }
@@ -0,0 +1,23 @@
+package com.coopcredit.creditapplication.infrastructure.repositories;
+
+import com.coopcredit.creditapplication.infrastructure.entities.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, Long> {
+    
+    List<RevokedTokenEntity> findByExpiresAtAfter(LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedTokenEntity r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.coopcredit.creditapplication.infrastructure.repositories;
 
 import com.coopcredit.creditapplication.infrastructure.entities.RiskEvaluationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,7 @@ public interface JpaRiskEvaluationRepository extends JpaRepository<RiskEvaluatio
     Optional<RiskEvaluationEntity> findByCreditApplicationId(Long creditApplicationId);
     
     boolean existsByCreditApplicationId(Long creditApplicationId);
+    
+    @Query("select e.creditApplicationId from RiskEvaluationEntity e where e.creditApplicationId in :ids")
+    List<Long> findCreditApplicationIdsIn(@Param("ids") Collection<Long> creditApplicationIds);
 }
@@ -2,8 +2,13 @@ package com.coopcredit.creditapplication.infrastructure.repositories;
 
 import com.coopcredit.creditapplication.infrastructure.entities.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,12 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByUsername(String username);
     
     boolean existsByUsername(String username);
+    
+    // Bulk update: @PreUpdate does not run, so updated_at is set here
+    @Transactional
+    @Modifying
+    @Query("update UserEntity u set u.password = :password, u.updatedAt = :now where u.id = :id")
+    int updatePassword(@Param("id") Long id,
+                       @Param("password") String password,
+                       @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,78 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+/**
+ * A fixed-size Bloom filter over 64-bit keys: {@link #mightContain} never misses a key
+ * that was {@link #put}, and wrongly reports an absent key at about the rate it was
+ * sized for. Puts must not run concurrently with each other; reads may run alongside a
+ * put, and see the new key once the filter is published again.
+ */
+final class BloomFilter {
+    
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+    
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new long[(int) ((bitCount + 63) >>> 6)];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+    
+    /**
+     * Sized for {@code expectedKeys} at the given false positive rate, with the usual
+     * optimum of {@code -n ln p / (ln 2)^2} bits and {@code (m / n) ln 2} hash functions.
+     */
+    static BloomFilter create(int expectedKeys, double falsePositiveRate) {
+        int n = Math.max(1, expectedKeys);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+    
+    void put(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+    
+    boolean mightContain(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 64-bit FNV-1a of the characters, for string keys.
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+    
+    private long index(int combined) {
+        return (combined & 0x7fffffffL) % bitCount;
+    }
+    
+    // SplitMix64 finalizer: spreads sequential ids over all bits
+    private static long mix(long key) {
+        long z = key + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
\ No newline at end of file
@@ -5,22 +5,22 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
     
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenRevocationList revocationList) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
     }
     
     @Override
@@ -28,13 +28,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = extractToken(request);
         
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            String role = jwtTokenProvider.getRoleFromToken(token);
-            
-            var authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
-            var authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            // One parse (or cache hit) yields the user, role and expiry together; the
+            // revocation check is in memory, and applies to cached principals as well
+            jwtTokenProvider.authenticate(token)
+                    .filter(principal -> !revocationList.isRevoked(principal))
+                    .ifPresent(principal -> {
+                        var authentication = new UsernamePasswordAuthenticationToken(
+                                principal, null, principal.authorities());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
         }
         
         filterChain.doFilter(request, response);
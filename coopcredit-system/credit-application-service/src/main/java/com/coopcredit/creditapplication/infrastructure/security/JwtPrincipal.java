@@ -0,0 +1,41 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Identity read from a verified JWT. Immutable, so one instance can be shared by every
+ * request that presents the same token. {@code memberId} is only set for members linked
+ * to a member record when they logged in. {@code tokenId} (the jti claim) and
+ * {@code issuedAt} identify the token for revocation; tokens issued before they were
+ * added carry neither.
+ */
+public record JwtPrincipal(
+        String username,
+        Long userId,
+        Long memberId,
+        String role,
+        String tokenId,
+        Instant issuedAt,
+        Instant expiresAt,
+        List<GrantedAuthority> authorities
+) implements Principal {
+    
+    public JwtPrincipal(String username, Long userId, Long memberId, String role,
+                        String tokenId, Instant issuedAt, Instant expiresAt) {
+        this(username, userId, memberId, role, tokenId, issuedAt, expiresAt, List.of(new SimpleGrantedAuthority(role)));
+    }
+    
+    @Override
+    public String getName() {
+        return username;
+    }
+    
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
\ No newline at end of file
@@ -1,68 +1,173 @@
 package com.coopcredit.creditapplication.infrastructure.security;
 
 import com.coopcredit.creditapplication.domain.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Issues and verifies tokens. The parser is built once (it is immutable and thread-safe),
+ * and a token is parsed and its signature verified once into a {@link JwtPrincipal}.
+ * Verified principals are kept in a bounded cache keyed by the SHA-256 of the token, so
+ * the raw token is never stored; each entry expires with its token. Hits, misses and
+ * evictions are published as the {@code cache.*} meters tagged {@code cache=jwtVerifiedTokens}.
+ */
 @Component
 public class JwtTokenProvider {
     
     private final SecretKey secretKey;
     private final long expirationTime;
+    private final JwtParser parser;
+    private final MessageDigest sha256;
+    private final Cache<String, JwtPrincipal> verifiedTokens;
     
     public JwtTokenProvider(
             @Value("${jwt.secret:coopcredit-secret-key-must-be-at-least-256-bits-long}") String secret,
-            @Value("${jwt.expiration:86400000}") long expirationTime) {
+            @Value("${jwt.expiration:86400000}") long expirationTime,
+            @Value("${jwt.cache.enabled:true}") boolean cacheEnabled,
+            @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        if (cacheEnabled) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new UntilTokenExpiry())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerifiedTokens");
+        } else {
+            this.verifiedTokens = null;
+        }
     }
     
     public String generateToken(User user) {
+        return generateToken(user, null);
+    }
+    
+    /**
+     * @param memberId the member linked to the user, carried as the {@code memberId} claim
+     *                 so member endpoints need no lookup; {@code null} to leave it out
+     */
+    public String generateToken(User user, Long memberId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expirationTime);
         
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getUsername())
                 .claim("role", user.getRole().name())
-                .claim("userId", user.getId())
+                .claim("userId", user.getId());
+        if (memberId != null) {
+            builder.claim("memberId", memberId);
+        }
+        return builder
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        return getClaims(token).getSubject();
+    /**
+     * Verifies the token and reads its claims in a single parse, or returns the principal
+     * cached from an earlier verification of the same token.
+     *
+     * @return empty if the token is malformed, badly signed or expired
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String key = hash(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(key);
+        // Entries are dropped at expiry, but may be read a moment before cleanup runs
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return Optional.of(cached);
+        }
+        Optional<JwtPrincipal> principal = parse(token);
+        principal.ifPresent(verified -> verifiedTokens.put(key, verified));
+        return principal;
     }
     
-    public String getRoleFromToken(String token) {
-        return getClaims(token).get("role", String.class);
+    public long getExpirationTime() {
+        return expirationTime;
     }
     
-    public boolean validateToken(String token) {
+    private Optional<JwtPrincipal> parse(String token) {
         try {
-            getClaims(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            Number userId = claims.get("userId", Number.class);
+            Number memberId = claims.get("memberId", Number.class);
+            String role = claims.get("role", String.class);
+            if (role == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtPrincipal(
+                    claims.getSubject(),
+                    userId != null ? userId.longValue() : null,
+                    memberId != null ? memberId.longValue() : null,
+                    role,
+                    claims.getId(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration().toInstant()));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
     
-    public long getExpirationTime() {
-        return expirationTime;
+    private String hash(String token) {
+        MessageDigest digest;
+        try {
+            // Cloning a prototype is cheaper than a provider lookup and MessageDigest is not thread-safe
+            digest = (MessageDigest) sha256.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
     }
     
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+        
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, principal.expiresAt().toEpochMilli() - System.currentTimeMillis()) * 1_000_000;
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
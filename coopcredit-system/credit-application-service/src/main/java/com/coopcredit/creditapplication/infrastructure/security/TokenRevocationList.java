@@ -0,0 +1,228 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+import com.coopcredit.creditapplication.infrastructure.entities.RevokedTokenEntity;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaRevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked tokens, kept in the {@code revoked_tokens} table and checked in memory. Every
+ * refresh loads the unexpired rows into a new snapshot: a Bloom filter in front of
+ * the exact set of revoked token ids, and another in front of the per-user cut-offs. A
+ * token that was never revoked is almost always turned away by the Bloom filter after a
+ * few bit probes; only a filter hit consults the exact set, so a false positive never
+ * rejects a valid token. No request reads the database.
+ * <p>
+ * A revocation is added straight to the current snapshot on the node that made it, and
+ * reaches the others at their next refresh. Published meters: {@code jwt.revocation.entries},
+ * {@code jwt.revocation.rejected} and {@code jwt.revocation.bloom.false.positives}.
+ */
+@Component
+public class TokenRevocationList {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+    
+    private final JpaRevokedTokenRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final long expirationTime;
+    private final double falsePositiveRate;
+    private final Counter rejected;
+    private final Counter falsePositives;
+    // Guards additions to the snapshot and its replacement
+    private final Object updateLock = new Object();
+    private volatile Snapshot snapshot;
+    // Revocations made on this node while a refresh reads the table; null outside a refresh
+    private List<RevokedTokenEntity> revokedDuringRefresh;
+    
+    public TokenRevocationList(
+            JpaRevokedTokenRepository repository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.expiration:86400000}") long expirationTime,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.expirationTime = expirationTime;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rejected = Counter.builder("jwt.revocation.rejected")
+                .description("Requests refused because their token was revoked")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.revocation.bloom.false.positives")
+                .description("Bloom filter hits for tokens that turned out not to be revoked")
+                .register(meterRegistry);
+        this.snapshot = Snapshot.of(Set.of(), Map.of(), falsePositiveRate);
+    }
+    
+    @PostConstruct
+    void registerGauge() {
+        Gauge.builder("jwt.revocation.entries", this, list -> list.snapshot.size())
+                .description("Unexpired revocations held in memory")
+                .register(meterRegistry);
+    }
+    
+    public boolean isRevoked(JwtPrincipal principal) {
+        Snapshot current = snapshot;
+        if (current.size() == 0) {
+            return false;
+        }
+        // A filter hit with no exact entry behind it; a user cut-off that does not cover this token is not one
+        boolean falsePositive = false;
+        if (principal.tokenId() != null && current.tokenFilter.mightContain(BloomFilter.hash(principal.tokenId()))) {
+            if (current.tokenIds.contains(principal.tokenId())) {
+                rejected.increment();
+                return true;
+            }
+            falsePositive = true;
+        }
+        if (principal.userId() != null && current.userFilter.mightContain(principal.userId())) {
+            Instant cutoff = current.userCutoffs.get(principal.userId());
+            if (cutoff == null) {
+                falsePositive = true;
+            } else if (principal.issuedAt() == null || !principal.issuedAt().isAfter(cutoff)) {
+                // Tokens without an issue time predate revocation support and are all covered
+                rejected.increment();
+                return true;
+            }
+        }
+        if (falsePositive) {
+            falsePositives.increment();
+        }
+        return false;
+    }
+    
+    /**
+     * Revokes the token the principal was read from. A token without an id (issued before
+     * ids were added) cannot be told apart, so every token of its user is revoked instead.
+     */
+    public void revoke(JwtPrincipal principal, String reason) {
+        if (principal.tokenId() == null) {
+            revokeAllOf(principal.userId(), reason);
+            return;
+        }
+        add(repository.save(new RevokedTokenEntity(principal.tokenId(), principal.userId(),
+                LocalDateTime.now(), toLocal(principal.expiresAt()), reason)));
+    }
+    
+    /**
+     * Revokes every token issued to the user up to now; tokens issued afterwards are valid.
+     */
+    public void revokeAllOf(Long userId, String reason) {
+        // Token issue times have second precision, so a token from this very second is covered too
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        add(repository.save(new RevokedTokenEntity(null, userId, toLocal(now),
+                toLocal(now.plusMillis(expirationTime)), reason)));
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        synchronized (updateLock) {
+            revokedDuringRefresh = new ArrayList<>();
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            repository.deleteExpired(now);
+            List<RevokedTokenEntity> rows = new ArrayList<>(repository.findByExpiresAtAfter(now));
+            synchronized (updateLock) {
+                // The read may have missed them, and the new snapshot must not drop them
+                rows.addAll(revokedDuringRefresh);
+                load(rows);
+            }
+        } catch (RuntimeException e) {
+            // Keep enforcing the revocations already known
+            log.warn("Token revocation refresh failed, keeping {} known revocations", snapshot.size(), e);
+        } finally {
+            synchronized (updateLock) {
+                revokedDuringRefresh = null;
+            }
+        }
+    }
+    
+    /**
+     * Replaces the in-memory revocations with the given rows.
+     */
+    void load(List<RevokedTokenEntity> rows) {
+        Set<String> tokenIds = new HashSet<>();
+        Map<Long, Instant> userCutoffs = new HashMap<>();
+        for (RevokedTokenEntity row : rows) {
+            if (row.getTokenId() != null) {
+                tokenIds.add(row.getTokenId());
+            } else if (row.getUserId() != null) {
+                userCutoffs.merge(row.getUserId(), toInstant(row.getRevokedAt()),
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        
+        Snapshot loaded = Snapshot.of(tokenIds, userCutoffs, falsePositiveRate);
+        synchronized (updateLock) {
+            snapshot = loaded;
+        }
+    }
+    
+    /**
+     * Adds a revocation just saved on this node to the current snapshot. The filters are
+     * sized for the last load, so their false positive rate creeps up until the next refresh.
+     */
+    private void add(RevokedTokenEntity row) {
+        synchronized (updateLock) {
+            Snapshot current = snapshot;
+            if (row.getTokenId() != null) {
+                current.tokenFilter.put(BloomFilter.hash(row.getTokenId()));
+                current.tokenIds.add(row.getTokenId());
+            } else if (row.getUserId() != null) {
+                current.userFilter.put(row.getUserId());
+                current.userCutoffs.merge(row.getUserId(), toInstant(row.getRevokedAt()),
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+            if (revokedDuringRefresh != null) {
+                revokedDuringRefresh.add(row);
+            }
+            // Republish, so requests that read the snapshot from now on see the new bits
+            snapshot = current;
+        }
+    }
+    
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+    
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+    
+    private record Snapshot(BloomFilter tokenFilter, Set<String> tokenIds,
+                            BloomFilter userFilter, Map<Long, Instant> userCutoffs) {
+        
+        static Snapshot of(Set<String> tokenIds, Map<Long, Instant> userCutoffs, double falsePositiveRate) {
+            BloomFilter tokenFilter = BloomFilter.create(tokenIds.size(), falsePositiveRate);
+            tokenIds.forEach(tokenId -> tokenFilter.put(BloomFilter.hash(tokenId)));
+            BloomFilter userFilter = BloomFilter.create(userCutoffs.size(), falsePositiveRate);
+            userCutoffs.keySet().forEach(userFilter::put);
+            // Concurrent, as revocations made on this node are added in place
+            Set<String> exactTokenIds = ConcurrentHashMap.newKeySet();
+            exactTokenIds.addAll(tokenIds);
+            return new Snapshot(tokenFilter, exactTokenIds, userFilter, new ConcurrentHashMap<>(userCutoffs));
+        }
+        
+        int size() {
+            return tokenIds.size() + userCutoffs.size();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+-- V10__add_credit_applications_keyset_indexes.sql
+-- Composite indexes for keyset pagination on (application_date, id), filtered by member or status
+
+CREATE INDEX idx_credit_applications_date_id
+    ON credit_applications (application_date, id);
+
+CREATE INDEX idx_credit_applications_member_date_id
+    ON credit_applications (member_id, application_date, id);
+
+CREATE INDEX idx_credit_applications_status_date_id
+    ON credit_applications (status, application_date, id);
\ No newline at end of file
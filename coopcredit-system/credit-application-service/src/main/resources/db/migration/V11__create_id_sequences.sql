@@ -0,0 +1,22 @@
+-- V11__create_id_sequences.sql
+-- Pooled id generation: MySQL has no sequences, so each entity gets the one-row table
+-- Hibernate uses in their place. next_val is the first id of the next block of 50
+-- and starts after the ids already assigned by AUTO_INCREMENT.
+
+CREATE TABLE users_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO users_seq SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+
+CREATE TABLE members_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO members_seq SELECT COALESCE(MAX(id), 0) + 1 FROM members;
+
+CREATE TABLE credit_applications_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO credit_applications_seq SELECT COALESCE(MAX(id), 0) + 1 FROM credit_applications;
+
+CREATE TABLE risk_evaluations_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO risk_evaluations_seq SELECT COALESCE(MAX(id), 0) + 1 FROM risk_evaluations;
+
+CREATE TABLE evaluation_jobs_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO evaluation_jobs_seq SELECT COALESCE(MAX(id), 0) + 1 FROM evaluation_jobs;
+
+CREATE TABLE credit_rules_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO credit_rules_seq SELECT COALESCE(MAX(id), 0) + 1 FROM credit_rules;
\ No newline at end of file
@@ -0,0 +1,14 @@
+-- V12__create_member_cache_invalidations_table.sql
+-- Members changed on one node, polled by the other nodes to evict their member cache
+
+CREATE TABLE member_cache_invalidations (
+    id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    document VARCHAR(20),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_member_cache_invalidations_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE member_cache_invalidations_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO member_cache_invalidations_seq VALUES (1);
\ No newline at end of file
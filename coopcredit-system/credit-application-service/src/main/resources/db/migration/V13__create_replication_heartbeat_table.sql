@@ -0,0 +1,7 @@
+-- V13__create_replication_heartbeat_table.sql
+-- Heartbeat row stamped on the primary and read on the replica to measure replication lag
+
+CREATE TABLE replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_at TIMESTAMP(3) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
\ No newline at end of file
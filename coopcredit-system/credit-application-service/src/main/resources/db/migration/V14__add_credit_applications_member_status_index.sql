@@ -0,0 +1,6 @@
+-- V14__add_credit_applications_member_status_index.sql
+-- Composite index for listings filtered by member and status together, in keyset order.
+-- (status, application_date, id) and (member_id, application_date, id) come from V10
+
+CREATE INDEX idx_credit_applications_member_status_date_id
+    ON credit_applications (member_id, status, application_date, id);
\ No newline at end of file
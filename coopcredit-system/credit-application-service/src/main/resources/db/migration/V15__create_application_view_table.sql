@@ -0,0 +1,34 @@
+-- V15__create_application_view_table.sql
+-- Denormalized read model: one row per credit application with its member and evaluation
+
+CREATE TABLE application_view (
+    application_id BIGINT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    member_document VARCHAR(20) NOT NULL,
+    member_name VARCHAR(100) NOT NULL,
+    requested_amount DECIMAL(15, 2) NOT NULL,
+    term_months INT NOT NULL,
+    proposed_rate DECIMAL(5, 4) NOT NULL,
+    application_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    score INT,
+    risk_level VARCHAR(20),
+    final_decision VARCHAR(20),
+    decision_reason TEXT,
+    evaluated_at TIMESTAMP NULL,
+    
+    INDEX idx_application_view_date_id (application_date, application_id),
+    INDEX idx_application_view_member_date_id (member_id, application_date, application_id),
+    INDEX idx_application_view_status_date_id (status, application_date, application_id),
+    INDEX idx_application_view_member_status_date_id (member_id, status, application_date, application_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO application_view (application_id, member_id, member_document, member_name,
+                              requested_amount, term_months, proposed_rate, application_date, status,
+                              score, risk_level, final_decision, decision_reason, evaluated_at)
+SELECT a.id, a.member_id, m.document, m.name,
+       a.requested_amount, a.term_months, a.proposed_rate, a.application_date, a.status,
+       e.score, e.risk_level, e.final_decision, e.reason, e.created_at
+  FROM credit_applications a
+  JOIN members m ON m.id = a.member_id
+  LEFT JOIN risk_evaluations e ON e.credit_application_id = a.id;
\ No newline at end of file
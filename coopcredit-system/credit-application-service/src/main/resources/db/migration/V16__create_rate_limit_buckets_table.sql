@@ -0,0 +1,7 @@
+-- V16__create_rate_limit_buckets_table.sql
+-- Token buckets shared by all nodes when rate-limit.store is database
+
+CREATE TABLE rate_limit_buckets (
+    bucket_key VARCHAR(200) PRIMARY KEY,
+    full_at_micros BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
\ No newline at end of file
@@ -0,0 +1,16 @@
+-- V17__create_revoked_tokens_table.sql
+-- Revoked tokens (by jti) and per-user revocations, kept until the tokens they cover expire
+
+CREATE TABLE revoked_tokens (
+    id BIGINT PRIMARY KEY,
+    token_id VARCHAR(64),
+    user_id BIGINT,
+    revoked_at DATETIME NOT NULL,
+    expires_at DATETIME NOT NULL,
+    reason VARCHAR(20),
+    
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE revoked_tokens_seq (next_val BIGINT) ENGINE=InnoDB;
+INSERT INTO revoked_tokens_seq VALUES (1);
\ No newline at end of file
@@ -0,0 +1,24 @@
+-- V18__add_evaluation_jobs_active_unique.sql
+-- At most one QUEUED or RUNNING job per credit application, enforced by the database
+
+ALTER TABLE evaluation_jobs ADD COLUMN active_credit_application_id BIGINT NULL AFTER credit_application_id;
+
+-- Duplicates left by concurrent submissions: keep the oldest active job, fail the others
+UPDATE evaluation_jobs j
+  JOIN (SELECT credit_application_id, MIN(id) AS kept_id
+          FROM evaluation_jobs
+         WHERE status IN ('QUEUED', 'RUNNING')
+         GROUP BY credit_application_id) active
+    ON active.credit_application_id = j.credit_application_id
+   SET j.status = 'FAILED',
+       j.error_code = 'DUPLICATE_JOB',
+       j.error_message = 'Another job was already active for this credit application',
+       j.finished_at = CURRENT_TIMESTAMP
+ WHERE j.status IN ('QUEUED', 'RUNNING') AND j.id <> active.kept_id;
+
+UPDATE evaluation_jobs
+   SET active_credit_application_id = credit_application_id
+ WHERE status IN ('QUEUED', 'RUNNING');
+
+ALTER TABLE evaluation_jobs
+    ADD CONSTRAINT uk_evaluation_jobs_active_credit_application_id UNIQUE (active_credit_application_id);
\ No newline at end of file
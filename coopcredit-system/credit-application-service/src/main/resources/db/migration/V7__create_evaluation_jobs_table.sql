@@ -0,0 +1,22 @@
+-- V7__create_evaluation_jobs_table.sql
+-- Queue of asynchronous evaluation jobs (survives restarts)
+
+CREATE TABLE evaluation_jobs (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    credit_application_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    risk_evaluation_id BIGINT,
+    error_code VARCHAR(50),
+    error_message TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    
+    INDEX idx_evaluation_jobs_status_id (status, id),
+    INDEX idx_evaluation_jobs_credit_application_id (credit_application_id),
+    
+    CONSTRAINT fk_evaluation_jobs_credit_application_id
+        FOREIGN KEY (credit_application_id) REFERENCES credit_applications(id)
+        ON DELETE CASCADE ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
\ No newline at end of file
@@ -0,0 +1,13 @@
+-- V8__add_risk_central_skipped_to_risk_evaluations.sql
+-- Evaluations rejected by local rules are stored without a risk central score
+
+ALTER TABLE risk_evaluations
+    DROP CHECK chk_risk_evaluations_score_range;
+
+ALTER TABLE risk_evaluations
+    MODIFY score INT NULL,
+    MODIFY risk_level ENUM('LOW', 'MEDIUM', 'HIGH') NULL,
+    ADD COLUMN risk_central_skipped BOOLEAN NOT NULL DEFAULT FALSE AFTER risk_central_detail;
+
+ALTER TABLE risk_evaluations
+    ADD CONSTRAINT chk_risk_evaluations_score_range CHECK (score IS NULL OR (score >= 300 AND score <= 950));
\ No newline at end of file
@@ -0,0 +1,11 @@
+-- V9__create_credit_rules_table.sql
+-- Credit decision rules; a row overrides the rule of the same type configured under credit-evaluation.rules
+
+CREATE TABLE credit_rules (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    rule_type VARCHAR(50) NOT NULL UNIQUE,
+    threshold VARCHAR(100) NOT NULL,
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    rejection_message VARCHAR(255),
+    updated_at TIMESTAMP NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
\ No newline at end of file
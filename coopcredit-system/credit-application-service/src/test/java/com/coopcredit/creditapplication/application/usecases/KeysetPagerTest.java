@@ -0,0 +1,67 @@
+package com.coopcredit.creditapplication.application.usecases;
+
+import com.coopcredit.creditapplication.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetPagerTest {
+
+    private final KeysetPager pager = new KeysetPager(3, 5);
+
+    private static List<Integer> rows(int available, int requested) {
+        return IntStream.rangeClosed(1, Math.min(available, requested)).boxed().toList();
+    }
+
+    @Test
+    @DisplayName("Should read one row past the page and point the cursor at the last row returned")
+    void shouldDetectNextPage() {
+        KeysetPager.Slice<Integer> page = pager.fetch(null, requested -> rows(10, requested));
+
+        assertEquals(List.of(1, 2, 3), page.items());
+        assertTrue(page.hasNext());
+        assertEquals(Integer.valueOf(3), page.<Integer>next(last -> last));
+    }
+
+    @Test
+    @DisplayName("Should have no cursor on the last page")
+    void shouldEndOnLastPage() {
+        KeysetPager.Slice<Integer> page = pager.fetch(null, requested -> rows(3, requested));
+
+        assertEquals(List.of(1, 2, 3), page.items());
+        assertFalse(page.hasNext());
+        assertNull(page.next(last -> last));
+    }
+
+    @Test
+    @DisplayName("Should keep the requested page size between one and the maximum")
+    void shouldBoundPageSize() {
+        AtomicInteger fetched = new AtomicInteger();
+
+        pager.fetch(50, requested -> rows(fetched.getAndSet(requested), 0));
+        assertEquals(6, fetched.get());
+
+        pager.fetch(0, requested -> rows(fetched.getAndSet(requested), 0));
+        assertEquals(2, fetched.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a date range that ends before it starts")
+    void shouldRejectReversedDateRange() {
+        LocalDate today = LocalDate.now();
+
+        KeysetPager.checkDateRange(today, today);
+        KeysetPager.checkDateRange(null, today);
+        assertThrows(ValidationException.class, () -> KeysetPager.checkDateRange(today, today.minusDays(1)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.coopcredit.creditapplication.application.usecases.evaluation;
+
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.CreditRuleDefinition;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.CreditRuleType;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compiled rule chain with the inline rules it replaced.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.coopcredit.creditapplication.application.usecases.evaluation.CreditRuleEngineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreditRuleEngineBenchmark {
+
+    private static final int MIN_SENIORITY_MONTHS = 6;
+    private static final BigDecimal MAX_PAYMENT_TO_INCOME_RATIO = new BigDecimal("0.40");
+
+    @Param({"approved", "rejected"})
+    private String scenario;
+
+    private CompiledCreditRules rules;
+    private CreditApplication application;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        rules = CompiledCreditRules.compile(List.of(
+                rule(CreditRuleType.MIN_SENIORITY_MONTHS, "6"),
+                rule(CreditRuleType.MAX_AMOUNT_SALARY_MULTIPLE, "4"),
+                rule(CreditRuleType.MAX_PAYMENT_TO_INCOME_RATIO, "0.40"),
+                rule(CreditRuleType.REJECTED_RISK_LEVELS, "HIGH")), 1);
+
+        boolean approved = "approved".equals(scenario);
+        member = Member.builder()
+                .document("1234567890")
+                .name("Benchmark Member")
+                .salary(new BigDecimal("3000000"))
+                .affiliationDate(LocalDate.now().minusMonths(approved ? 24 : 2))
+                .status(MemberStatus.ACTIVE)
+                .build();
+        application = CreditApplication.builder()
+                .id(1L)
+                .memberId(1L)
+                .requestedAmount(new BigDecimal(approved ? "5000000" : "20000000"))
+                .termMonths(24)
+                .proposedRate(new BigDecimal("0.015"))
+                .build();
+    }
+
+    @Benchmark
+    public void inline(Blackhole blackhole) {
+        blackhole.consume(inlineRules(application, member, RiskLevel.MEDIUM));
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        CompiledCreditRules.LocalRuleCheck check = rules.checkLocalRules(application, member);
+        blackhole.consume(check);
+        blackhole.consume(rules.riskLevelRejection(RiskLevel.MEDIUM));
+    }
+
+    // The rules as they were hardcoded before the engine
+    private static List<String> inlineRules(CreditApplication application, Member member, RiskLevel riskLevel) {
+        BigDecimal monthlyPayment = application.calculateMonthlyPayment();
+        BigDecimal paymentToIncomeRatio = monthlyPayment.divide(member.getSalary(), 4, RoundingMode.HALF_UP);
+
+        boolean meetsSeniority = member.getSeniorityInMonths() >= MIN_SENIORITY_MONTHS;
+        boolean meetsMaxAmount = application.getRequestedAmount().compareTo(member.getMaxCreditAmount()) <= 0;
+        boolean meetsPaymentRatio = paymentToIncomeRatio.compareTo(MAX_PAYMENT_TO_INCOME_RATIO) <= 0;
+
+        List<String> rejectionReasons = new ArrayList<>();
+        if (!meetsSeniority) {
+            rejectionReasons.add("Insufficient seniority (minimum 6 months required)");
+        }
+        if (!meetsMaxAmount) {
+            rejectionReasons.add("Requested amount exceeds maximum allowed (4x salary)");
+        }
+        if (!meetsPaymentRatio) {
+            rejectionReasons.add("Payment to income ratio exceeds 40%");
+        }
+        if (RiskLevel.HIGH.equals(riskLevel)) {
+            rejectionReasons.add("High risk score from central risk service");
+        }
+        return rejectionReasons;
+    }
+
+    private static CreditRuleDefinition rule(CreditRuleType ruleType, String threshold) {
+        return CreditRuleDefinition.builder().ruleType(ruleType).threshold(threshold).build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CreditRuleEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingMemberRepositoryAdapterTest {
+
+    private final InMemoryMembers delegate = new InMemoryMembers();
+    private final MemberCache cache = new MemberCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), 100);
+    private final CachingMemberRepositoryAdapter adapter = new CachingMemberRepositoryAdapter(delegate, cache, null);
+
+    private static Member member(String document, String name) {
+        return Member.builder()
+                .document(document)
+                .name(name)
+                .salary(BigDecimal.valueOf(4000))
+                .affiliationDate(LocalDate.now().minusYears(1))
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer repeated lookups by id and document from the cache")
+    void shouldServeRepeatedReadsFromCache() {
+        Long id = adapter.save(member("A", "First")).getId();
+
+        adapter.findById(id);
+        adapter.findById(id);
+        adapter.findByDocument("A");
+
+        // The read by id cached the member under both keys
+        assertEquals(1, delegate.reads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict a member on save, including under its previous document")
+    void shouldEvictOnSave() {
+        Long id = adapter.save(member("A", "First")).getId();
+        Member cached = adapter.findById(id).orElseThrow();
+
+        cached.setName("Renamed");
+        cached.setDocument("B");
+        adapter.save(cached);
+
+        assertEquals("Renamed", adapter.findById(id).orElseThrow().getName());
+        assertTrue(adapter.findByDocument("A").isEmpty());
+        assertEquals(id, adapter.findByDocument("B").orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("Should evict every member of a saveAll")
+    void shouldEvictOnSaveAll() {
+        Long first = adapter.save(member("A", "First")).getId();
+        Long second = adapter.save(member("B", "Second")).getId();
+        List<Member> changed = new ArrayList<>();
+        for (Long id : List.of(first, second)) {
+            Member member = adapter.findById(id).orElseThrow();
+            member.setName("Changed " + id);
+            changed.add(member);
+        }
+
+        adapter.saveAll(changed);
+
+        assertEquals("Changed " + first, adapter.findByDocument("A").orElseThrow().getName());
+        assertEquals("Changed " + second, adapter.findByDocument("B").orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Should evict a deleted member by id and by document")
+    void shouldEvictOnDelete() {
+        Long id = adapter.save(member("A", "First")).getId();
+        adapter.findById(id);
+        assertTrue(cache.getByDocument("A").isPresent());
+
+        adapter.deleteById(id);
+
+        assertTrue(cache.getById(id).isEmpty());
+        assertTrue(cache.getByDocument("A").isEmpty());
+        assertTrue(adapter.findByDocument("A").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not cache a member read before a concurrent save invalidated it")
+    void shouldNotCacheReadOverlappingSave() {
+        Long id = adapter.save(member("A", "First")).getId();
+        // The save lands after the reader loaded the old row but before it caches it
+        delegate.afterRead = () -> {
+            Member renamed = member("A", "Renamed");
+            renamed.setId(id);
+            adapter.save(renamed);
+        };
+
+        assertEquals("First", adapter.findById(id).orElseThrow().getName());
+
+        assertTrue(cache.getById(id).isEmpty());
+        assertEquals("Renamed", adapter.findById(id).orElseThrow().getName());
+        assertEquals("Renamed", adapter.findByDocument("A").orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Should not cache a member read by document before a concurrent delete by id")
+    void shouldNotCacheReadOverlappingDelete() {
+        Long id = adapter.save(member("A", "First")).getId();
+        // The delete only knows the id, which the reader by document has not seen yet
+        delegate.afterRead = () -> adapter.deleteById(id);
+
+        assertTrue(adapter.findByDocument("A").isPresent());
+
+        assertTrue(cache.getByDocument("A").isEmpty());
+        assertTrue(adapter.findById(id).isEmpty());
+    }
+
+    /**
+     * Stands in for the JPA adapter, counting the single-member reads that reach it.
+     * {@code afterRead} runs once, after the next single-member read has loaded its result.
+     */
+    private static final class InMemoryMembers implements MemberRepositoryPort {
+
+        private final Map<Long, Member> members = new ConcurrentHashMap<>();
+        private final AtomicLong ids = new AtomicLong();
+        private final AtomicInteger reads = new AtomicInteger();
+        private Runnable afterRead;
+
+        @Override
+        public Member save(Member member) {
+            if (member.getId() == null) {
+                member.setId(ids.incrementAndGet());
+            }
+            members.put(member.getId(), member);
+            return member;
+        }
+
+        @Override
+        public List<Member> saveAll(List<Member> members) {
+            return members.stream().map(this::save).toList();
+        }
+
+        @Override
+        public Optional<Member> findById(Long id) {
+            reads.incrementAndGet();
+            return loaded(Optional.ofNullable(members.get(id)));
+        }
+
+        @Override
+        public List<Member> findAllById(Collection<Long> ids) {
+            return ids.stream().map(members::get).filter(member -> member != null).toList();
+        }
+
+        @Override
+        public Optional<Member> findByDocument(String document) {
+            reads.incrementAndGet();
+            return loaded(members.values().stream().filter(member -> document.equals(member.getDocument())).findFirst());
+        }
+
+        @Override
+        public Optional<Member> findByUserId(Long userId) {
+            return members.values().stream().filter(member -> userId.equals(member.getUserId())).findFirst();
+        }
+
+        @Override
+        public List<Member> findAll() {
+            return List.copyOf(members.values());
+        }
+
+        @Override
+        public List<Member> findByStatus(MemberStatus status) {
+            return members.values().stream().filter(member -> status == member.getStatus()).toList();
+        }
+
+        @Override
+        public boolean existsByDocument(String document) {
+            return members.values().stream().anyMatch(member -> document.equals(member.getDocument()));
+        }
+
+        @Override
+        public Set<String> findExistingDocuments(Collection<String> documents) {
+            return members.values().stream().map(Member::getDocument).filter(documents::contains)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            members.remove(id);
+        }
+
+        private Optional<Member> loaded(Optional<Member> member) {
+            Runnable hook = afterRead;
+            afterRead = null;
+            if (hook != null) {
+                hook.run();
+            }
+            return member;
+        }
+    }
+}
\ No newline at end of file
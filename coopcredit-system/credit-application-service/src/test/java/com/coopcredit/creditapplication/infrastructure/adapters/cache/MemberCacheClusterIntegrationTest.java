@@ -0,0 +1,131 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.async.MemberCacheInvalidationPoller;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs the member cache in clustered mode. The other node is simulated by changing the
+ * member and writing its invalidation row with plain SQL, and polls are driven by hand.
+ */
+@SpringBootTest
+@Testcontainers
+class MemberCacheClusterIntegrationTest {
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("coopcredit_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("members.cache.cluster.enabled", () -> "true");
+        registry.add("members.cache.cluster.poll-interval", () -> "PT1H");
+        registry.add("credit-evaluation.jobs.enabled", () -> "false");
+    }
+
+    @Autowired
+    private MemberRepositoryPort memberRepository;
+
+    @Autowired
+    private MemberCacheInvalidationPoller poller;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        // The first poll only marks where this node starts reading the log
+        poller.poll();
+        member = memberRepository.save(Member.builder()
+                .document("CL" + System.nanoTime() % 1_000_000_000_000L)
+                .name("Cluster Member")
+                .salary(BigDecimal.valueOf(4000))
+                .affiliationDate(LocalDate.now().minusYears(1))
+                .status(MemberStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should use the caching repository and log changes to existing members only")
+    void shouldLogChangesToExistingMembers() {
+        assertInstanceOf(CachingMemberRepositoryAdapter.class, memberRepository);
+        assertEquals(0, invalidationsOf(member.getId()).size());
+
+        member.setName("Renamed");
+        memberRepository.save(member);
+        List<Map<String, Object>> afterSave = invalidationsOf(member.getId());
+        assertEquals(1, afterSave.size());
+        assertEquals(member.getDocument(), afterSave.get(0).get("document"));
+
+        memberRepository.deleteById(member.getId());
+        List<Map<String, Object>> afterDelete = invalidationsOf(member.getId());
+        assertEquals(2, afterDelete.size());
+        assertNull(afterDelete.get(1).get("document"));
+    }
+
+    @Test
+    @DisplayName("Should evict a member changed on another node at the next poll, once")
+    void shouldEvictMemberChangedElsewhere() {
+        double appliedBefore = appliedInvalidations();
+        assertEquals("Cluster Member", memberRepository.findById(member.getId()).orElseThrow().getName());
+
+        jdbcTemplate.update("UPDATE members SET name = 'Changed Elsewhere' WHERE id = ?", member.getId());
+        jdbcTemplate.update("INSERT INTO member_cache_invalidations (id, member_id, document, created_at) "
+                + "VALUES (?, ?, NULL, NOW(6))", 900_000_000L + member.getId(), member.getId());
+
+        // Still served from this node's cache until the log is polled
+        assertEquals("Cluster Member", memberRepository.findById(member.getId()).orElseThrow().getName());
+
+        poller.poll();
+
+        assertEquals("Changed Elsewhere", memberRepository.findByDocument(member.getDocument()).orElseThrow().getName());
+        assertEquals("Changed Elsewhere", memberRepository.findById(member.getId()).orElseThrow().getName());
+        assertEquals(appliedBefore + 1, appliedInvalidations());
+
+        poller.poll();
+        assertEquals(appliedBefore + 1, appliedInvalidations());
+    }
+
+    private List<Map<String, Object>> invalidationsOf(Long memberId) {
+        return jdbcTemplate.queryForList(
+                "SELECT document FROM member_cache_invalidations WHERE member_id = ? ORDER BY created_at, id", memberId);
+    }
+
+    private double appliedInvalidations() {
+        return meterRegistry.counter("members.cache.cluster.invalidations").count();
+    }
+}
\ No newline at end of file
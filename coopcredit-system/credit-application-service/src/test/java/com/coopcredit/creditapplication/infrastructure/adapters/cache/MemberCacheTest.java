@@ -0,0 +1,110 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemberCacheTest {
+
+    private static MemberCache cache(long maxSize) {
+        return new MemberCache(new SimpleMeterRegistry(), Duration.ofMinutes(10), maxSize);
+    }
+
+    private static Member member(long id, String document) {
+        return Member.builder()
+                .id(id)
+                .document(document)
+                .name("Member " + document)
+                .salary(BigDecimal.valueOf(4000))
+                .affiliationDate(LocalDate.now().minusYears(1))
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer by id and by document with copies of the cached member")
+    void shouldReturnCopies() {
+        MemberCache cache = cache(100);
+        Member member = member(1, "A");
+        cache.put(member);
+
+        Member byId = cache.getById(1L).orElseThrow();
+        assertEquals("A", byId.getDocument());
+        assertNotSame(member, byId);
+        byId.setName("Changed by the caller");
+        assertEquals("Member A", cache.getByDocument("A").orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Should drop the entry by document when invalidated by id alone")
+    void shouldInvalidateDocumentThroughId() {
+        MemberCache cache = cache(100);
+        cache.put(member(1, "A"));
+        cache.put(member(2, "B"));
+
+        cache.invalidate(1L, null);
+
+        assertTrue(cache.getById(1L).isEmpty());
+        assertTrue(cache.getByDocument("A").isEmpty());
+        assertTrue(cache.getByDocument("B").isPresent());
+    }
+
+    @Test
+    @DisplayName("Should drop the old document when a member is invalidated under its new document")
+    void shouldInvalidatePreviousDocument() {
+        MemberCache cache = cache(100);
+        cache.put(member(1, "OLD"));
+
+        cache.invalidate(1L, "NEW");
+
+        assertTrue(cache.getById(1L).isEmpty());
+        assertTrue(cache.getByDocument("OLD").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep a newer entry for the same document when an older member is invalidated")
+    void shouldKeepNewerEntryForDocument() {
+        MemberCache cache = cache(100);
+        cache.put(member(1, "A"));
+        // Document moved to another member, which was cached since
+        cache.put(member(2, "A"));
+
+        cache.invalidate(1L, null);
+
+        assertEquals(2L, cache.getByDocument("A").orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("Should drop the entry by document when the member is evicted by id")
+    void shouldEvictDocumentWithId() throws InterruptedException {
+        MemberCache cache = cache(10);
+        for (long id = 1; id <= 30; id++) {
+            cache.put(member(id, "D" + id));
+        }
+
+        // Eviction runs on Caffeine's maintenance executor, shortly after the writes
+        long cachedById = 30;
+        for (int i = 0; i < 100 && cachedById > 10; i++) {
+            Thread.sleep(20);
+            cachedById = LongStream.rangeClosed(1, 30).filter(id -> cache.getById(id).isPresent()).count();
+        }
+
+        assertTrue(cachedById <= 10);
+        for (long id = 1; id <= 30; id++) {
+            if (cache.getById(id).isEmpty()) {
+                assertTrue(cache.getByDocument("D" + id).isEmpty(), "document of evicted member " + id);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.cache;
+
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import com.coopcredit.creditapplication.infrastructure.adapters.http.RiskCentralRequestKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RiskScoreCacheTest {
+
+    private static final RiskCentralPort.RiskCentralResponse LOW_RISK =
+            new RiskCentralPort.RiskCentralResponse(800, RiskLevel.LOW, "ok");
+
+    private static RiskScoreCache cache(Duration ttl, long maxSize) {
+        return new RiskScoreCache(new SimpleMeterRegistry(), ttl, maxSize, BigDecimal.valueOf(10000));
+    }
+
+    private static RiskCentralRequestKey key(RiskScoreCache cache, String document, long amount) {
+        return cache.keyFor(new RiskCentralPort.RiskCentralRequest(document, BigDecimal.valueOf(amount)));
+    }
+
+    @Test
+    @DisplayName("Should share an entry within an amount bucket and not across buckets or documents")
+    void shouldKeyByDocumentAndAmountBucket() {
+        RiskScoreCache cache = cache(Duration.ofMinutes(10), 100);
+
+        assertEquals(key(cache, "A", 12000), key(cache, "A", 19999));
+        assertNotEquals(key(cache, "A", 19999), key(cache, "A", 20000));
+        assertNotEquals(key(cache, "A", 12000), key(cache, "B", 12000));
+
+        cache.put(key(cache, "A", 12000), LOW_RISK);
+        assertEquals(LOW_RISK, cache.get(key(cache, "A", 19999)).orElseThrow());
+        assertTrue(cache.get(key(cache, "A", 20000)).isEmpty());
+        assertTrue(cache.get(key(cache, "B", 12000)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not store degraded fallback answers")
+    void shouldNotCacheDegradedResponses() {
+        RiskScoreCache cache = cache(Duration.ofMinutes(10), 100);
+
+        cache.put(key(cache, "A", 1000),
+                new RiskCentralPort.RiskCentralResponse(600, RiskLevel.MEDIUM, "fallback", true));
+
+        assertTrue(cache.get(key(cache, "A", 1000)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the TTL")
+    void shouldExpireAfterTtl() throws InterruptedException {
+        RiskScoreCache cache = cache(Duration.ofMillis(100), 100);
+        cache.put(key(cache, "A", 1000), LOW_RISK);
+        assertTrue(cache.get(key(cache, "A", 1000)).isPresent());
+
+        Thread.sleep(250);
+
+        assertTrue(cache.get(key(cache, "A", 1000)).isEmpty());
+        assertEquals(0, cache.invalidateAll());
+    }
+
+    @Test
+    @DisplayName("Should evict down to the maximum size")
+    void shouldEvictBeyondMaxSize() throws InterruptedException {
+        RiskScoreCache cache = cache(Duration.ofMinutes(10), 2);
+        List<RiskCentralRequestKey> keys = List.of(key(cache, "A", 1000), key(cache, "B", 1000), key(cache, "C", 1000));
+        keys.forEach(key -> cache.put(key, LOW_RISK));
+
+        // Eviction runs on Caffeine's maintenance executor, shortly after the write
+        long present = keys.size();
+        for (int i = 0; i < 100 && present > 2; i++) {
+            Thread.sleep(20);
+            present = keys.stream().filter(key -> cache.get(key).isPresent()).count();
+        }
+
+        assertEquals(2, present);
+    }
+
+    @Test
+    @DisplayName("Should report the number of entries actually invalidated")
+    void shouldCountInvalidatedEntries() {
+        RiskScoreCache cache = cache(Duration.ofMinutes(10), 100);
+        cache.put(key(cache, "A", 1000), LOW_RISK);
+        cache.put(key(cache, "A", 25000), LOW_RISK);
+        cache.put(key(cache, "B", 1000), LOW_RISK);
+
+        assertEquals(2, cache.invalidateDocument("A"));
+        assertEquals(0, cache.invalidateDocument("A"));
+        assertFalse(cache.get(key(cache, "A", 1000)).isPresent());
+        assertTrue(cache.get(key(cache, "B", 1000)).isPresent());
+
+        assertEquals(1, cache.invalidateAll());
+        assertTrue(cache.get(key(cache, "B", 1000)).isEmpty());
+    }
+}
\ No newline at end of file
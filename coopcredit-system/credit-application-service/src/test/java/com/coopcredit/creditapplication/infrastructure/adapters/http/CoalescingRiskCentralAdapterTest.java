@@ -0,0 +1,150 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.http;
+
+import com.coopcredit.creditapplication.domain.model.enums.RiskLevel;
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoalescingRiskCentralAdapterTest {
+
+    private static final int CALLERS = 8;
+    private static final BigDecimal BUCKET_SIZE = BigDecimal.valueOf(10000);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should let concurrent callers with the same key share one delegate call")
+    void shouldShareOneCallPerKey() throws Exception {
+        BlockingRiskCentral delegate = new BlockingRiskCentral();
+        CoalescingRiskCentralAdapter adapter = new CoalescingRiskCentralAdapter(delegate, BUCKET_SIZE, meterRegistry);
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<RiskCentralPort.RiskCentralResponse>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                // Same document, amounts within one bucket
+                BigDecimal amount = BigDecimal.valueOf(12000 + i);
+                results.add(callers.submit(() -> adapter.evaluateRisk(new RiskCentralPort.RiskCentralRequest("A", amount))));
+            }
+            awaitFollowers(CALLERS - 1);
+            delegate.release.countDown();
+
+            RiskCentralPort.RiskCentralResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<RiskCentralPort.RiskCentralResponse> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, delegate.calls.get());
+        assertEquals(1, meterRegistry.get("risk.central.calls").counter().count());
+        assertEquals(CALLERS - 1, meterRegistry.get("risk.central.coalesced").counter().count());
+        assertEquals(CALLERS - 1, meterRegistry.get("risk.central.coalesced.followers").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should share async calls with the same key and start a new call for another key")
+    void shouldShareAsyncCallsPerKey() {
+        BlockingRiskCentral delegate = new BlockingRiskCentral();
+        CoalescingRiskCentralAdapter adapter = new CoalescingRiskCentralAdapter(delegate, BUCKET_SIZE, meterRegistry);
+
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> leader =
+                adapter.evaluateRiskAsync(new RiskCentralPort.RiskCentralRequest("A", BigDecimal.valueOf(1000)));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> follower =
+                adapter.evaluateRiskAsync(new RiskCentralPort.RiskCentralRequest("A", BigDecimal.valueOf(9000)));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> otherBucket =
+                adapter.evaluateRiskAsync(new RiskCentralPort.RiskCentralRequest("A", BigDecimal.valueOf(10000)));
+        assertEquals(2, delegate.calls.get());
+
+        delegate.release.countDown();
+
+        assertSame(leader.join(), follower.join());
+        assertNotNull(otherBucket.join());
+    }
+
+    @Test
+    @DisplayName("Should fail every caller that joined a failed call, then start afresh")
+    void shouldPropagateFailureToFollowers() {
+        BlockingRiskCentral delegate = new BlockingRiskCentral();
+        delegate.failure = new IllegalStateException("risk central down");
+        CoalescingRiskCentralAdapter adapter = new CoalescingRiskCentralAdapter(delegate, BUCKET_SIZE, meterRegistry);
+        RiskCentralPort.RiskCentralRequest request = new RiskCentralPort.RiskCentralRequest("A", BigDecimal.valueOf(1000));
+
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> leader = adapter.evaluateRiskAsync(request);
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> follower = adapter.evaluateRiskAsync(request);
+        delegate.release.countDown();
+
+        assertThrows(Exception.class, leader::join);
+        assertThrows(Exception.class, follower::join);
+
+        delegate.failure = null;
+        assertNotNull(adapter.evaluateRiskAsync(request).join());
+        assertEquals(2, delegate.calls.get());
+    }
+
+    private void awaitFollowers(int expected) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("risk.central.coalesced").counter().count() < expected; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, meterRegistry.get("risk.central.coalesced").counter().count());
+    }
+
+    /**
+     * Holds every call until {@link #release} opens, so callers pile up on the in-flight one.
+     */
+    private static final class BlockingRiskCentral implements RiskCentralPort {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile RuntimeException failure;
+
+        @Override
+        public RiskCentralResponse evaluateRisk(RiskCentralRequest request) {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return answer(request);
+        }
+
+        @Override
+        public CompletableFuture<RiskCentralResponse> evaluateRiskAsync(RiskCentralRequest request) {
+            calls.incrementAndGet();
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }).thenApply(ignored -> answer(request));
+        }
+
+        private RiskCentralResponse answer(RiskCentralRequest request) {
+            if (failure != null) {
+                throw failure;
+            }
+            return new RiskCentralResponse(700, RiskLevel.LOW, "score for " + request.document());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.http;
+
+import com.coopcredit.creditapplication.domain.ports.out.RiskCentralPort;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Drives the micro-batching client against a bulk endpoint served from this JVM. The
+ * endpoint scores each request by the length of its document, so every caller can tell
+ * whether it received its own answer.
+ */
+class RiskCentralHttpAdapterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private volatile UnaryOperator<ArrayNode> answerBatch = UnaryOperator.identity();
+    private volatile int batchStatus = 200;
+    private volatile long batchDelayMillis;
+
+    private HttpServer riskCentral;
+    private RiskCentralHttpAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        riskCentral = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        riskCentral.createContext("/api/risk/evaluate/batch", this::handleBatch);
+        riskCentral.setExecutor(Executors.newCachedThreadPool());
+        riskCentral.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (adapter != null) {
+            adapter.shutdown();
+        }
+        riskCentral.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should send calls within the window as one bulk request and route each answer to its caller")
+    void shouldBatchAndRouteAnswersById() {
+        adapter = adapter(50, Duration.ofMillis(200), Duration.ofSeconds(5));
+        // Answers come back in reverse order; only the request id ties them to their caller
+        answerBatch = answers -> {
+            List<JsonNode> reversed = new ArrayList<>();
+            answers.forEach(reversed::add);
+            Collections.reverse(reversed);
+            return objectMapper.createArrayNode().addAll(reversed);
+        };
+
+        List<CompletableFuture<RiskCentralPort.RiskCentralResponse>> results = new ArrayList<>();
+        for (int length = 1; length <= 5; length++) {
+            results.add(adapter.evaluateRiskAsync(request("x".repeat(length))));
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i + 1, results.get(i).join().score());
+        }
+        assertEquals(List.of(5), batchSizes);
+    }
+
+    @Test
+    @DisplayName("Should send a batch as soon as it reaches the maximum size")
+    void shouldFlushAtMaxSize() {
+        adapter = adapter(2, Duration.ofMinutes(1), Duration.ofSeconds(5));
+
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> first = adapter.evaluateRiskAsync(request("a"));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> second = adapter.evaluateRiskAsync(request("bb"));
+
+        assertEquals(1, first.join().score());
+        assertEquals(2, second.join().score());
+        assertEquals(List.of(2), batchSizes);
+    }
+
+    @Test
+    @DisplayName("Should fail only the caller whose request id is missing from the answer")
+    void shouldFailCallerMissingFromAnswer() {
+        adapter = adapter(3, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        answerBatch = answers -> {
+            answers.remove(1);
+            return answers;
+        };
+
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> first = adapter.evaluateRiskAsync(request("a"));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> missing = adapter.evaluateRiskAsync(request("bb"));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> third = adapter.evaluateRiskAsync(request("ccc"));
+
+        assertEquals(1, first.join().score());
+        assertEquals(3, third.join().score());
+        CompletionException error = assertThrows(CompletionException.class, missing::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+
+    @Test
+    @DisplayName("Should fail every caller of a batch the risk central rejects")
+    void shouldFailWholeBatchOnError() {
+        adapter = adapter(2, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        batchStatus = 500;
+
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> first = adapter.evaluateRiskAsync(request("a"));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> second = adapter.evaluateRiskAsync(request("bb"));
+
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    @Test
+    @DisplayName("Should fail every caller of a batch that gets no answer within the timeout")
+    void shouldFailWholeBatchOnTimeout() {
+        adapter = adapter(2, Duration.ofMinutes(1), Duration.ofMillis(200));
+        batchDelayMillis = 2000;
+
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> first = adapter.evaluateRiskAsync(request("a"));
+        CompletableFuture<RiskCentralPort.RiskCentralResponse> second = adapter.evaluateRiskAsync(request("bb"));
+
+        CompletionException error = assertThrows(CompletionException.class, first::join);
+        assertInstanceOf(TimeoutException.class, error.getCause());
+        assertThrows(CompletionException.class, second::join);
+    }
+
+    @Test
+    @DisplayName("Should return the caller's own answer on the blocking path")
+    void shouldAnswerBlockingCallers() {
+        adapter = adapter(50, Duration.ofMillis(20), Duration.ofSeconds(5));
+
+        assertEquals(4, adapter.evaluateRisk(request("dddd")).score());
+    }
+
+    private RiskCentralHttpAdapter adapter(int maxSize, Duration window, Duration timeout) {
+        return new RiskCentralHttpAdapter(WebClient.builder(),
+                "http://localhost:" + riskCentral.getAddress().getPort(), true, maxSize, window, timeout);
+    }
+
+    private static RiskCentralPort.RiskCentralRequest request(String document) {
+        return new RiskCentralPort.RiskCentralRequest(document, BigDecimal.valueOf(1000));
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        JsonNode requests = objectMapper.readTree(exchange.getRequestBody());
+        batchSizes.add(requests.size());
+        if (batchDelayMillis > 0) {
+            try {
+                Thread.sleep(batchDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (batchStatus != 200) {
+            exchange.sendResponseHeaders(batchStatus, -1);
+            exchange.close();
+            return;
+        }
+
+        ArrayNode answers = objectMapper.createArrayNode();
+        for (JsonNode request : requests) {
+            answers.addObject()
+                    .put("requestId", request.get("requestId").asText())
+                    .put("score", request.get("document").asText().length())
+                    .put("riskLevel", "LOW")
+                    .put("detail", "scored " + request.get("document").asText());
+        }
+        byte[] body = objectMapper.writeValueAsBytes(answerBatch.apply(answers));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.CreditApplicationServiceApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts 100k credit applications through the repository port, 1,000 per transaction.
+ * A batch size of 1 sends one statement per row, as IDENTITY ids used to force.
+ * Needs Docker for the MySQL container.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.coopcredit.creditapplication.infrastructure.adapters.persistence.BatchInsertBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private MySQLContainer<?> mysql;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transaction;
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+    private Long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withDatabaseName("coopcredit_bench")
+                .withUsername("test")
+                .withPassword("test")
+                .withUrlParam("rewriteBatchedStatements", "true");
+        mysql.start();
+        context = new SpringApplicationBuilder(CreditApplicationServiceApplication.class)
+                .properties(
+                        "spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "spring.datasource.username=" + mysql.getUsername(),
+                        "spring.datasource.password=" + mysql.getPassword(),
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0")
+                .run();
+
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        creditApplicationRepository = context.getBean(CreditApplicationRepositoryPort.class);
+        memberId = context.getBean(MemberRepositoryPort.class).save(Member.builder()
+                .document("BENCH" + System.nanoTime())
+                .name("Benchmark Member")
+                .salary(new BigDecimal("3000000"))
+                .affiliationDate(LocalDate.now().minusYears(2))
+                .status(MemberStatus.ACTIVE)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int insert100k() {
+        int inserted = 0;
+        while (inserted < ROWS) {
+            List<CreditApplication> chunk = new ArrayList<>(ROWS_PER_TRANSACTION);
+            for (int i = 0; i < ROWS_PER_TRANSACTION; i++) {
+                chunk.add(CreditApplication.builder()
+                        .memberId(memberId)
+                        .requestedAmount(new BigDecimal(1_000_000 + inserted + i))
+                        .termMonths(24)
+                        .proposedRate(new BigDecimal("0.015"))
+                        .applicationDate(LocalDate.now())
+                        .build());
+            }
+            inserted += transaction.execute(status -> creditApplicationRepository.saveAll(chunk).size());
+        }
+        return inserted;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BatchInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
\ No newline at end of file
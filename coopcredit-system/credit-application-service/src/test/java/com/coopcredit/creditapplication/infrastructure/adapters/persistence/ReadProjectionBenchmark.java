@@ -0,0 +1,155 @@
+package com.coopcredit.creditapplication.infrastructure.adapters.persistence;
+
+import com.coopcredit.creditapplication.CreditApplicationServiceApplication;
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationQueryPort.SummaryFilter;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.MemberQueryPort;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the read paths before and after the projection queries: managed entity plus
+ * mapper versus a constructor expression straight into the summary record. Both run in a
+ * read-only transaction, as the use cases do. Needs Docker for the MySQL container.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.coopcredit.creditapplication.infrastructure.adapters.persistence.ReadProjectionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadProjectionBenchmark {
+
+    private static final int APPLICATIONS = 2_000;
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private MySQLContainer<?> mysql;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+    private CreditApplicationQueryPort creditApplicationQuery;
+    private MemberRepositoryPort memberRepository;
+    private MemberQueryPort memberQuery;
+    private Long memberId;
+    private Long applicationId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withDatabaseName("coopcredit_bench")
+                .withUsername("test")
+                .withPassword("test");
+        mysql.start();
+        context = new SpringApplicationBuilder(CreditApplicationServiceApplication.class)
+                .properties(
+                        "spring.datasource.url=" + mysql.getJdbcUrl(),
+                        "spring.datasource.username=" + mysql.getUsername(),
+                        "spring.datasource.password=" + mysql.getPassword(),
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0")
+                .run();
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        creditApplicationRepository = context.getBean(CreditApplicationRepositoryPort.class);
+        creditApplicationQuery = context.getBean(CreditApplicationQueryPort.class);
+        // The JPA adapter itself: the primary port may answer from the member cache
+        memberRepository = context.getBean(MemberRepositoryAdapter.class);
+        memberQuery = context.getBean(MemberQueryPort.class);
+
+        Member member = memberRepository.save(Member.builder()
+                .document("BENCH" + System.nanoTime())
+                .name("Benchmark Member")
+                .salary(new BigDecimal("3000000"))
+                .affiliationDate(LocalDate.now().minusYears(2))
+                .status(MemberStatus.ACTIVE)
+                .build());
+        memberId = member.getId();
+
+        List<CreditApplication> applications = new ArrayList<>(APPLICATIONS);
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applications.add(CreditApplication.builder()
+                    .memberId(memberId)
+                    .requestedAmount(new BigDecimal(1_000_000 + i))
+                    .termMonths(24)
+                    .proposedRate(new BigDecimal("0.015"))
+                    .applicationDate(LocalDate.now().minusDays(i % 365))
+                    .build());
+        }
+        applicationId = creditApplicationRepository.saveAll(applications).get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public void getApplicationEntity(Blackhole blackhole) {
+        blackhole.consume(readOnly.execute(status -> creditApplicationRepository.findById(applicationId)));
+    }
+
+    @Benchmark
+    public void getApplicationProjection(Blackhole blackhole) {
+        blackhole.consume(readOnly.execute(status -> creditApplicationQuery.findSummaryById(applicationId)));
+    }
+
+    @Benchmark
+    public void getMemberEntity(Blackhole blackhole) {
+        blackhole.consume(readOnly.execute(status -> memberRepository.findById(memberId)));
+    }
+
+    @Benchmark
+    public void getMemberProjection(Blackhole blackhole) {
+        blackhole.consume(readOnly.execute(status -> memberQuery.findSummaryById(memberId)));
+    }
+
+    // Same filter and order on both sides: pending applications, oldest first
+    @Benchmark
+    public void listApplicationsEntity(Blackhole blackhole) {
+        blackhole.consume(readOnly.execute(status ->
+                creditApplicationRepository.findByStatus(ApplicationStatus.PENDING, pageSize)));
+    }
+
+    @Benchmark
+    public void listApplicationsProjection(Blackhole blackhole) {
+        blackhole.consume(readOnly.execute(status ->
+                creditApplicationQuery.findSummaryPage(
+                        new SummaryFilter(null, ApplicationStatus.PENDING, null, null), null, null, pageSize)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReadProjectionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
\ No newline at end of file
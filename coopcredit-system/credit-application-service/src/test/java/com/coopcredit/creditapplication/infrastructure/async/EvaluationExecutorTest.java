@@ -0,0 +1,140 @@
+package com.coopcredit.creditapplication.infrastructure.async;
+
+import com.coopcredit.creditapplication.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * One thread and one queue slot per pool: a blocked task and a queued one fill a pool.
+ */
+class EvaluationExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EvaluationExecutor executor = new EvaluationExecutor(meterRegistry, 1, 1, 1, 1, false);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger started = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should refuse a task once the running and queued tasks fill the pool")
+    void shouldRefuseWhenFull() throws Exception {
+        CompletableFuture<Integer> running = executor.supplyAsync(blocked());
+        CompletableFuture<Integer> queued = executor.supplyAsync(blocked());
+
+        assertThrows(ServiceOverloadedException.class, () -> executor.supplyAsync(blocked()));
+        assertEquals(1, meterRegistry.get("credit.evaluation.executor.rejected").counter().count());
+
+        release.countDown();
+        running.join();
+        queued.join();
+        assertEquals(2, started.get());
+        assertEquals(3, whenAdmitted(() -> executor.supplyAsync(() -> 3)).join());
+    }
+
+    @Test
+    @DisplayName("Should start none of a group of tasks that does not fit as a whole")
+    void shouldRefuseWholeGroup() throws Exception {
+        CompletableFuture<Integer> running = executor.supplyAsync(blocked());
+        List<Supplier<Integer>> group = List.of(blocked(), blocked());
+
+        assertThrows(ServiceOverloadedException.class, () -> executor.supplyAllAsync(group));
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertEquals(1, started.get());
+        whenAdmitted(() -> executor.supplyAllAsync(group)).forEach(CompletableFuture::join);
+        assertEquals(3, started.get());
+    }
+
+    @Test
+    @DisplayName("Should run writes while the remote call pool is full")
+    void shouldRunWritesBesideRemoteCalls() throws Exception {
+        executor.supplyAsync(blocked());
+        executor.supplyAsync(blocked());
+
+        CompletableFuture<String> write = executor.callThenWrite(
+                () -> CompletableFuture.completedFuture("answer"), answer -> answer + " written");
+
+        assertEquals("answer written", write.get(5, TimeUnit.SECONDS));
+        assertEquals(0, meterRegistry.get("credit.evaluation.executor.rejected").tag("pool", "evaluation-write")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Should refuse an evaluation before its remote call when the write pool is full")
+    void shouldRefuseWriteBeforeRemoteCall() throws Exception {
+        CompletableFuture<String> answer = new CompletableFuture<>();
+        AtomicInteger remoteCalls = new AtomicInteger();
+        // One evaluation writing, one still awaiting its answer
+        executor.callThenWrite(() -> CompletableFuture.completedFuture("first"), first -> blocked().get());
+        CompletableFuture<Integer> awaiting = executor.callThenWrite(() -> answer, second -> 2);
+
+        assertThrows(ServiceOverloadedException.class, () -> executor.callThenWrite(() -> {
+            remoteCalls.incrementAndGet();
+            return CompletableFuture.completedFuture("third");
+        }, third -> 3));
+        assertEquals(0, remoteCalls.get());
+
+        release.countDown();
+        answer.complete("second");
+        assertEquals(2, awaiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should give the write place back when the remote call fails")
+    void shouldReleaseWriteWhenRemoteCallFails() throws Exception {
+        CompletableFuture<Integer> failed = executor.callThenWrite(
+                () -> CompletableFuture.failedFuture(new IllegalStateException("down")), answer -> 1);
+        assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class,
+                () -> executor.callThenWrite(() -> { throw new IllegalStateException("down"); }, answer -> 1));
+
+        // Both places are free again: one evaluation writes, one awaits its answer
+        executor.callThenWrite(() -> CompletableFuture.completedFuture("first"), first -> blocked().get());
+        executor.callThenWrite(CompletableFuture::new, second -> 2);
+        assertEquals(0, meterRegistry.get("credit.evaluation.executor.rejected").tag("pool", "evaluation-write")
+                .counter().count());
+    }
+
+    // A finished task gives its slot back just after completing its future
+    private static <T> T whenAdmitted(Supplier<T> submit) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            try {
+                return submit.get();
+            } catch (ServiceOverloadedException e) {
+                Thread.sleep(10);
+            }
+        }
+        return submit.get();
+    }
+
+    private Supplier<Integer> blocked() {
+        return () -> {
+            started.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.coopcredit.creditapplication.infrastructure.async;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+class VirtualThreadModeIntegrationTest {
+
+    private static final int MAX_CONCURRENCY = 2;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("coopcredit_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("spring.threads.virtual.enabled", () -> "true");
+        registry.add("credit-evaluation.batch.max-concurrency", () -> String.valueOf(MAX_CONCURRENCY));
+    }
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private EvaluationExecutor evaluationExecutor;
+
+    @Autowired(required = false)
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Test
+    @DisplayName("Should serve requests and run evaluations on virtual threads when enabled")
+    void shouldWireVirtualThreads() {
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        assertInstanceOf(VirtualThreadExecutor.class,
+                webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+
+        assertTrue(evaluationExecutor.supplyAsync(() -> Thread.currentThread().isVirtual()).join());
+
+        assertNotNull(pinningMonitor);
+    }
+
+    @Test
+    @DisplayName("Should keep the evaluation concurrency limit with virtual threads")
+    void shouldBoundVirtualThreadConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        List<CompletableFuture<Void>> tasks = IntStream.range(0, 10)
+                .mapToObj(i -> evaluationExecutor.supplyAsync(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return (Void) null;
+                }))
+                .toList();
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        assertTrue(peak.get() <= MAX_CONCURRENCY, "peak concurrency " + peak.get());
+    }
+}
\ No newline at end of file
@@ -1,12 +1,21 @@
 package com.coopcredit.creditapplication.infrastructure.controllers;
 
+import com.coopcredit.creditapplication.domain.ports.in.AuthenticateUserUseCase;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -14,8 +23,19 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import javax.sql.DataSource;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -37,6 +57,53 @@ class AuthControllerIntegrationTest {
         registry.add("spring.datasource.password", mysql::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
         registry.add("spring.flyway.enabled", () -> "false");
+        // One hashing thread and one queue slot, so a full queue is easy to reach
+        registry.add("auth.password.hashing.threads", () -> "1");
+        registry.add("auth.password.hashing.max-queued", () -> "1");
+        // No background work touching the pool, so its active count is the request's alone
+        registry.add("credit-evaluation.jobs.enabled", () -> "false");
+        registry.add("credit-evaluation.rules.reload-interval", () -> "PT1H");
+        registry.add("jwt.revocation.refresh-interval", () -> "PT1H");
+    }
+
+    /**
+     * Records the pool's active connections whenever a password is hashed, and can hold
+     * hashing until released.
+     */
+    @TestConfiguration
+    static class RecordingPasswordEncoderConfig {
+
+        static final List<Integer> activeConnectionsWhileHashing = new CopyOnWriteArrayList<>();
+        static volatile CountDownLatch hashingGate = new CountDownLatch(0);
+
+        @Bean
+        @Primary
+        PasswordEncoder recordingPasswordEncoder(DataSource dataSource) {
+            BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+            return new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    hashing();
+                    return bcrypt.encode(rawPassword);
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    hashing();
+                    return bcrypt.matches(rawPassword, encodedPassword);
+                }
+
+                private void hashing() {
+                    try {
+                        activeConnectionsWhileHashing.add(
+                                dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections());
+                        hashingGate.await(30, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+        }
     }
 
     @Autowired
@@ -45,6 +112,17 @@ class AuthControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private AuthenticateUserUseCase authenticateUserUseCase;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void openHashingGate() {
+        RecordingPasswordEncoderConfig.hashingGate.countDown();
+    }
+
     @Test
     @DisplayName("Should register a new user successfully")
     void shouldRegisterUser() throws Exception {
@@ -104,4 +182,103 @@ class AuthControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("Should refuse a token after logout while a new login still works")
+    void shouldRefuseTokenAfterLogout() throws Exception {
+        Map<String, Object> registerRequest = Map.of(
+                "username", "logoutuser",
+                "password", "password123",
+                "role", "ROLE_ANALYST"
+        );
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk());
+
+        String token = login("logoutuser", "password123");
+        mockMvc.perform(get("/api/members")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/members")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+
+        String newToken = login("logoutuser", "password123");
+        mockMvc.perform(get("/api/members")
+                        .header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should hand the database connection back before hashing the password")
+    void shouldReleaseConnectionBeforeHashing() throws Exception {
+        RecordingPasswordEncoderConfig.activeConnectionsWhileHashing.clear();
+
+        // Registration encodes, login matches
+        register("hashuser", "ROLE_ANALYST");
+        login("hashuser", "password123");
+
+        assertEquals(List.of(0, 0), RecordingPasswordEncoderConfig.activeConnectionsWhileHashing);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while the password hashing queue is full")
+    void shouldRefuseLoginWhenHashingQueueIsFull() throws Exception {
+        register("busyuser", "ROLE_ANALYST");
+        RecordingPasswordEncoderConfig.activeConnectionsWhileHashing.clear();
+        RecordingPasswordEncoderConfig.hashingGate = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // One login hashing, one waiting in the queue
+            Future<?> hashing = executor.submit(() -> authenticateUserUseCase.authenticate(
+                    new AuthenticateUserUseCase.AuthRequest("busyuser", "password123")));
+            for (int i = 0; i < 500 && RecordingPasswordEncoderConfig.activeConnectionsWhileHashing.isEmpty(); i++) {
+                Thread.sleep(10);
+            }
+            Future<?> queued = executor.submit(() -> authenticateUserUseCase.authenticate(
+                    new AuthenticateUserUseCase.AuthRequest("busyuser", "password123")));
+            for (int i = 0; i < 500 && meterRegistry.get("password.hashing.queued").gauge().value() < 1; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, meterRegistry.get("password.hashing.queued").gauge().value());
+
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    Map.of("username", "busyuser", "password", "password123"))))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.code").value("SERVICE_OVERLOADED"));
+
+            RecordingPasswordEncoderConfig.hashingGate.countDown();
+            hashing.get(30, TimeUnit.SECONDS);
+            queued.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void register(String username, String role) throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                Map.of("username", username, "password", "password123", "role", role))))
+                .andExpect(status().isOk());
+    }
+
+    private String login(String username, String password) throws Exception {
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("username", username, "password", password))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("token").asText();
+    }
 }
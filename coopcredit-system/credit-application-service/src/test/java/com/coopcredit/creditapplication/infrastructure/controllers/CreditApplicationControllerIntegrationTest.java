@@ -1,20 +1,31 @@
 package com.coopcredit.creditapplication.infrastructure.controllers;
 
+import com.coopcredit.creditapplication.domain.model.CreditApplication;
 import com.coopcredit.creditapplication.domain.model.Member;
 import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.ApplicationStatus;
 import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
 import com.coopcredit.creditapplication.domain.model.enums.UserRole;
+import com.coopcredit.creditapplication.domain.ports.out.CreditApplicationRepositoryPort;
 import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
 import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
 import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -25,8 +36,14 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -50,6 +67,24 @@ class CreditApplicationControllerIntegrationTest {
         registry.add("spring.flyway.enabled", () -> "false");
     }
 
+    /**
+     * Records the SQL Hibernate sends, so that query plans are checked on the real statements.
+     */
+    @TestConfiguration
+    static class RecordingStatementInspectorConfig {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Bean
+        HibernatePropertiesCustomizer recordingStatementInspector() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -62,6 +97,12 @@ class CreditApplicationControllerIntegrationTest {
     @Autowired
     private MemberRepositoryPort memberRepository;
 
+    @Autowired
+    private CreditApplicationRepositoryPort creditApplicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -123,6 +164,175 @@ class CreditApplicationControllerIntegrationTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("Should page credit applications with an opaque cursor")
+    void shouldPageCreditApplicationsWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> createRequest = Map.of(
+                    "memberId", memberId,
+                    "requestedAmount", 1000 + i,
+                    "termMonths", 12,
+                    "proposedRate", 0.01
+            );
+            mockMvc.perform(post("/api/credit-applications")
+                            .header("Authorization", "Bearer " + analystToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isOk());
+        }
+
+        String nextCursor = mockMvc.perform(get("/api/credit-applications")
+                        .param("memberId", memberId.toString())
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].requestedAmount").value(1000))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andExpect(header().exists("Link"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/credit-applications")
+                        .param("memberId", memberId.toString())
+                        .param("limit", "2")
+                        .param("cursor", nextCursor)
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].requestedAmount").value(1002))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        mockMvc.perform(get("/api/credit-applications")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should combine member, status and date filters and use the composite index")
+    void shouldFilterByMemberStatusAndDate() throws Exception {
+        LocalDate today = LocalDate.now();
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        List<CreditApplication> applications = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            applications.add(CreditApplication.builder()
+                    .memberId(memberId)
+                    .requestedAmount(BigDecimal.valueOf(1000 + i))
+                    .termMonths(12)
+                    .proposedRate(new BigDecimal("0.0100"))
+                    .applicationDate(today.minusDays(i % 30))
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+        creditApplicationRepository.saveAll(applications);
+
+        String body = mockMvc.perform(get("/api/credit-applications")
+                        .param("memberId", memberId.toString())
+                        .param("status", "APPROVED")
+                        .param("from", today.minusDays(6).toString())
+                        .param("to", today.toString())
+                        .param("limit", "500")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode rows = objectMapper.readTree(body);
+        long expected = applications.stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.APPROVED)
+                .filter(a -> !a.getApplicationDate().isBefore(today.minusDays(6)))
+                .count();
+        assertEquals(expected, rows.size());
+        for (JsonNode row : rows) {
+            assertEquals(memberId, row.get("memberId").asLong());
+            assertEquals("APPROVED", row.get("status").asText());
+        }
+
+        // Plan of the statement Hibernate actually sends for a page after a cursor
+        MockHttpServletResponse firstPage = mockMvc.perform(get("/api/credit-applications")
+                        .param("memberId", memberId.toString())
+                        .param("status", "APPROVED")
+                        .param("from", today.minusDays(6).toString())
+                        .param("to", today.toString())
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        JsonNode last = objectMapper.readTree(firstPage.getContentAsString()).get(1);
+        String cursor = firstPage.getHeader("X-Next-Cursor");
+        RecordingStatementInspectorConfig.statements.clear();
+        mockMvc.perform(get("/api/credit-applications")
+                        .param("memberId", memberId.toString())
+                        .param("status", "APPROVED")
+                        .param("from", today.minusDays(6).toString())
+                        .param("to", today.toString())
+                        .param("limit", "2")
+                        .param("cursor", cursor)
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk());
+        String sql = RecordingStatementInspectorConfig.statements.stream()
+                .filter(statement -> statement.contains("from credit_applications") && statement.contains("order by"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+        // member, status, from, to, the seek predicate's date, date and id, then the limit
+        assertEquals(8, sql.chars().filter(c -> c == '?').count(), sql);
+
+        jdbcTemplate.execute("ANALYZE TABLE credit_applications");
+        LocalDate afterDate = LocalDate.parse(last.get("applicationDate").asText());
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql,
+                memberId, "APPROVED", today.minusDays(6), today, afterDate, afterDate, last.get("id").asLong(), 3);
+        assertEquals("idx_credit_applications_member_status_date_id", plan.get(0).get("key"), sql);
+
+        mockMvc.perform(get("/api/credit-applications")
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString())
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should export credit applications as NDJSON filtered by status and date")
+    void shouldExportCreditApplicationsAsNdjson() throws Exception {
+        Map<String, Object> createRequest = Map.of(
+                "memberId", memberId,
+                "requestedAmount", 7000,
+                "termMonths", 12,
+                "proposedRate", 0.01
+        );
+        String created = mockMvc.perform(post("/api/credit-applications")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long applicationId = objectMapper.readTree(created).get("id").asLong();
+
+        String body = mockMvc.perform(get("/api/credit-applications/export")
+                        .param("status", "PENDING")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().toString())
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        boolean exported = false;
+        for (String line : body.lines().toList()) {
+            JsonNode row = objectMapper.readTree(line);
+            if (row.get("id").asLong() == applicationId) {
+                assertEquals("PENDING", row.get("status").asText());
+                assertTrue(row.get("finalDecision").isNull());
+                exported = true;
+            }
+        }
+        assertTrue(exported);
+
+        mockMvc.perform(get("/api/credit-applications/export")
+                        .param("from", LocalDate.now().toString())
+                        .param("to", LocalDate.now().minusDays(1).toString())
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should get credit application by ID")
     void shouldGetCreditApplicationById() throws Exception {
@@ -149,4 +359,204 @@ class CreditApplicationControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.requestedAmount").value(8000));
     }
+
+    @Test
+    @DisplayName("Should evaluate a batch of credit applications and report a result per id")
+    void shouldEvaluateBatch() throws Exception {
+        Map<String, Object> createRequest = Map.of(
+                "memberId", memberId,
+                "requestedAmount", 4000,
+                "termMonths", 12,
+                "proposedRate", 0.01
+        );
+
+        String response = mockMvc.perform(post("/api/credit-applications")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Long applicationId = objectMapper.readTree(response).get("id").asLong();
+
+        Map<String, Object> batchRequest = Map.of("creditApplicationIds", List.of(applicationId, 999999L));
+
+        mockMvc.perform(post("/api/credit-applications/evaluate/batch")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.evaluated").value(1))
+                .andExpect(jsonPath("$.results[0].creditApplicationId").value(applicationId))
+                .andExpect(jsonPath("$.results[0].outcome").value("EVALUATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].errorCode").value("NOT_FOUND"));
+
+        mockMvc.perform(get("/api/credit-applications/" + applicationId)
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(not("PENDING")));
+    }
+
+    @Test
+    @DisplayName("Should keep the application view up to date on create, evaluation and member update")
+    void shouldMaintainApplicationView() throws Exception {
+        Map<String, Object> createRequest = Map.of(
+                "memberId", memberId,
+                "requestedAmount", 3000,
+                "termMonths", 12,
+                "proposedRate", 0.01
+        );
+
+        String response = mockMvc.perform(post("/api/credit-applications")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Long applicationId = objectMapper.readTree(response).get("id").asLong();
+
+        mockMvc.perform(get("/api/credit-applications/views/" + applicationId)
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberName").value("Credit Test Member"))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.finalDecision").isEmpty());
+
+        mockMvc.perform(post("/api/credit-applications/evaluate/batch")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("creditApplicationIds", List.of(applicationId)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.evaluated").value(1));
+
+        mockMvc.perform(put("/api/members/" + memberId)
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Renamed Member"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/credit-applications/views")
+                        .param("memberId", memberId.toString())
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(applicationId))
+                .andExpect(jsonPath("$[0].memberName").value("Renamed Member"))
+                .andExpect(jsonPath("$[0].status").value(not("PENDING")))
+                .andExpect(jsonPath("$[0].finalDecision").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("Should queue an evaluation job and expose its result once processed")
+    void shouldProcessEvaluationJob() throws Exception {
+        Map<String, Object> createRequest = Map.of(
+                "memberId", memberId,
+                "requestedAmount", 4000,
+                "termMonths", 12,
+                "proposedRate", 0.01
+        );
+
+        String response = mockMvc.perform(post("/api/credit-applications")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Long applicationId = objectMapper.readTree(response).get("id").asLong();
+
+        String jobResponse = mockMvc.perform(post("/api/credit-applications/" + applicationId + "/evaluate/async")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.creditApplicationId").value(applicationId))
+                .andReturn().getResponse().getContentAsString();
+
+        long jobId = objectMapper.readTree(jobResponse).get("jobId").asLong();
+
+        // The worker polls the jobs table; wait for it to finish the job
+        String status = "QUEUED";
+        for (int i = 0; i < 60 && !status.equals("COMPLETED") && !status.equals("FAILED"); i++) {
+            Thread.sleep(500);
+            String poll = mockMvc.perform(get("/api/credit-applications/evaluation-jobs/" + jobId)
+                            .header("Authorization", "Bearer " + analystToken))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            status = objectMapper.readTree(poll).get("status").asText();
+        }
+
+        mockMvc.perform(get("/api/credit-applications/evaluation-jobs/" + jobId)
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.evaluation.creditApplicationId").value(applicationId));
+    }
+
+    @Test
+    @DisplayName("Should serve the signed-in member's profile and applications from the token claims")
+    void shouldServeMyApplicationsFromClaims() throws Exception {
+        String username = "member_" + System.currentTimeMillis();
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .password(passwordEncoder.encode("member123"))
+                .role(UserRole.ROLE_MEMBER)
+                .enabled(true)
+                .build());
+        Member own = memberRepository.save(Member.builder()
+                .document("ME" + System.currentTimeMillis())
+                .name("Portal Member")
+                .salary(BigDecimal.valueOf(4000))
+                .affiliationDate(LocalDate.now().minusMonths(24))
+                .status(MemberStatus.ACTIVE)
+                .userId(user.getId())
+                .build());
+        List<CreditApplication> saved = creditApplicationRepository.saveAll(List.of(
+                CreditApplication.builder()
+                        .memberId(own.getId())
+                        .requestedAmount(BigDecimal.valueOf(2000))
+                        .termMonths(12)
+                        .proposedRate(new BigDecimal("0.0100"))
+                        .applicationDate(LocalDate.now())
+                        .status(ApplicationStatus.PENDING)
+                        .build(),
+                CreditApplication.builder()
+                        .memberId(memberId)
+                        .requestedAmount(BigDecimal.valueOf(3000))
+                        .termMonths(12)
+                        .proposedRate(new BigDecimal("0.0100"))
+                        .applicationDate(LocalDate.now())
+                        .status(ApplicationStatus.PENDING)
+                        .build()));
+
+        String login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("username", username, "password", "member123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberId").value(own.getId()))
+                .andReturn().getResponse().getContentAsString();
+        String memberToken = objectMapper.readTree(login).get("token").asText();
+
+        mockMvc.perform(get("/api/members/me")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(own.getId()))
+                .andExpect(jsonPath("$.name").value("Portal Member"));
+
+        mockMvc.perform(get("/api/credit-applications/me")
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(saved.get(0).getId()));
+
+        mockMvc.perform(get("/api/credit-applications/me/" + saved.get(1).getId())
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/credit-applications/me")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -0,0 +1,515 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.exception.BusinessRuleException;
+import com.coopcredit.creditapplication.domain.model.Member;
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.MemberStatus;
+import com.coopcredit.creditapplication.domain.model.enums.UserRole;
+import com.coopcredit.creditapplication.domain.ports.in.BatchEvaluateCreditApplicationsUseCase;
+import com.coopcredit.creditapplication.domain.ports.in.BatchEvaluateCreditApplicationsUseCase.BatchEvaluationCommand;
+import com.coopcredit.creditapplication.domain.ports.in.BatchEvaluateCreditApplicationsUseCase.BatchEvaluationItem;
+import com.coopcredit.creditapplication.domain.ports.in.EvaluateCreditApplicationUseCase;
+import com.coopcredit.creditapplication.domain.ports.in.ProcessEvaluationJobsUseCase;
+import com.coopcredit.creditapplication.domain.ports.in.SubmitEvaluationJobUseCase;
+import com.coopcredit.creditapplication.domain.ports.out.MemberRepositoryPort;
+import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Evaluates against a stand-in risk central served from this JVM, so the test controls
+ * what the remote answers and can count the calls that actually reached it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class CreditEvaluationIntegrationTest {
+
+    private static final int RISK_CENTRAL_SCORE = 812;
+    private static final int FALLBACK_SCORE = 600;
+
+    private static final AtomicInteger riskCentralCalls = new AtomicInteger();
+    private static final AtomicInteger riskCentralFailures = new AtomicInteger();
+    private static volatile Runnable onRiskCentralCall = () -> {};
+
+    private static final HttpServer riskCentral = startRiskCentral();
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("coopcredit_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("risk-central.base-url", () -> "http://localhost:" + riskCentral.getAddress().getPort());
+        registry.add("risk-central.cache.enabled", () -> "false");
+        registry.add("resilience4j.retry.instances.riskCentral.waitDuration", () -> "10ms");
+        // No background work touching the pool, so its active count is the evaluation's alone
+        registry.add("credit-evaluation.jobs.enabled", () -> "false");
+        registry.add("credit-evaluation.rules.reload-interval", () -> "PT1H");
+        registry.add("jwt.revocation.refresh-interval", () -> "PT1H");
+    }
+
+    @AfterAll
+    static void stopRiskCentral() {
+        riskCentral.stop(0);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private MemberRepositoryPort memberRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private EvaluateCreditApplicationUseCase evaluateCreditApplicationUseCase;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SubmitEvaluationJobUseCase submitEvaluationJobUseCase;
+
+    @Autowired
+    private ProcessEvaluationJobsUseCase processEvaluationJobsUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BatchEvaluateCreditApplicationsUseCase batchEvaluateCreditApplicationsUseCase;
+
+    private String analystToken;
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        riskCentralCalls.set(0);
+        riskCentralFailures.set(0);
+        onRiskCentralCall = () -> {};
+        circuitBreakerRegistry.circuitBreaker("riskCentral").reset();
+
+        User analyst = userRepository.save(User.builder()
+                .username("evaluator_" + System.nanoTime())
+                .password(passwordEncoder.encode("analyst123"))
+                .role(UserRole.ROLE_ANALYST)
+                .enabled(true)
+                .build());
+        analystToken = jwtTokenProvider.generateToken(analyst);
+
+        Member member = memberRepository.save(Member.builder()
+                .document("EVAL" + System.nanoTime())
+                .name("Evaluation Test Member")
+                .salary(BigDecimal.valueOf(5000))
+                .affiliationDate(LocalDate.now().minusMonths(12))
+                .status(MemberStatus.ACTIVE)
+                .userId(analyst.getId())
+                .build());
+        memberId = member.getId();
+    }
+
+    @Test
+    @DisplayName("Should retry and then fall back on the async evaluate path, and skip the call while the circuit is open")
+    void shouldApplyRetryAndCircuitBreakerOnAsyncEvaluate() throws Exception {
+        // Two failures, then an answer: the retry gets through on the third attempt
+        riskCentralFailures.set(2);
+        evaluate(createApplication(4000))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value(RISK_CENTRAL_SCORE))
+                .andExpect(jsonPath("$.riskCentralSkipped").value(false));
+        assertEquals(3, riskCentralCalls.get());
+
+        // Every attempt fails: the fallback answers only after the last one
+        riskCentralCalls.set(0);
+        riskCentralFailures.set(3);
+        evaluate(createApplication(4000))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value(FALLBACK_SCORE));
+        assertEquals(3, riskCentralCalls.get());
+
+        // An open circuit answers with the fallback without reaching the risk central
+        riskCentralCalls.set(0);
+        circuitBreakerRegistry.circuitBreaker("riskCentral").transitionToOpenState();
+        evaluate(createApplication(4000))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value(FALLBACK_SCORE));
+        assertEquals(0, riskCentralCalls.get());
+    }
+
+    @Test
+    @DisplayName("Should not hold a database connection while the risk central is called")
+    void shouldReleaseConnectionDuringRemoteCall() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        List<Integer> activeDuringCall = new CopyOnWriteArrayList<>();
+        onRiskCentralCall = () -> activeDuringCall.add(pool.getActiveConnections());
+
+        // Blocking path, then the async endpoint
+        evaluateCreditApplicationUseCase.execute(createApplication(4000));
+        evaluate(createApplication(4000))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value(RISK_CENTRAL_SCORE));
+
+        assertEquals(List.of(0, 0), activeDuringCall);
+    }
+
+    @Test
+    @DisplayName("Should not call the risk central when local rules already reject, and record the skip")
+    void shouldSkipRiskCentralWhenLocalRulesReject() throws Exception {
+        double skippedBefore = meterRegistry.counter("credit.evaluation.risk.central.skipped").count();
+        // Five times the salary: over the maximum amount rule
+        long applicationId = createApplication(25000);
+
+        evaluate(applicationId)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.riskCentralSkipped").value(true))
+                .andExpect(jsonPath("$.meetsMaxAmount").value(false))
+                .andExpect(jsonPath("$.finalDecision").value("REJECTED"))
+                .andExpect(jsonPath("$.score").isEmpty());
+
+        assertEquals(0, riskCentralCalls.get());
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT risk_central_skipped FROM risk_evaluations WHERE credit_application_id = ?",
+                Boolean.class, applicationId));
+        assertEquals(skippedBefore + 1, meterRegistry.counter("credit.evaluation.risk.central.skipped").count());
+    }
+
+    @Test
+    @DisplayName("Should keep a single active job when the same application is queued concurrently")
+    void shouldQueueOneJobPerApplicationUnderConcurrency() throws Exception {
+        long applicationId = createApplication(4000);
+        int submitters = 8;
+        CyclicBarrier start = new CyclicBarrier(submitters);
+        ExecutorService executor = Executors.newFixedThreadPool(submitters);
+        try {
+            List<Future<Long>> jobIds = new ArrayList<>();
+            for (int i = 0; i < submitters; i++) {
+                jobIds.add(executor.submit(() -> {
+                    start.await();
+                    return submitEvaluationJobUseCase.execute(applicationId).getId();
+                }));
+            }
+            Set<Long> distinct = new HashSet<>();
+            for (Future<Long> jobId : jobIds) {
+                distinct.add(jobId.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(1, distinct.size());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM evaluation_jobs WHERE credit_application_id = ?", Integer.class, applicationId));
+    }
+
+    @Test
+    @DisplayName("Should fail a stale job that has used up its attempts instead of re-queuing it")
+    void shouldFailStaleJobAfterMaxAttempts() throws Exception {
+        long exhaustedJob = submitEvaluationJobUseCase.execute(createApplication(4000)).getId();
+        long retriedJob = submitEvaluationJobUseCase.execute(createApplication(4000)).getId();
+        jdbcTemplate.update("UPDATE evaluation_jobs SET status = 'RUNNING', attempts = ?, started_at = ? WHERE id = ?",
+                3, LocalDateTime.now().minusHours(1), exhaustedJob);
+        jdbcTemplate.update("UPDATE evaluation_jobs SET status = 'RUNNING', attempts = ?, started_at = ? WHERE id = ?",
+                1, LocalDateTime.now().minusHours(1), retriedJob);
+
+        processEvaluationJobsUseCase.requeueStale(Duration.ofMinutes(5));
+
+        Map<String, Object> exhausted = jdbcTemplate.queryForMap(
+                "SELECT status, error_code, active_credit_application_id FROM evaluation_jobs WHERE id = ?", exhaustedJob);
+        assertEquals("FAILED", exhausted.get("status"));
+        assertEquals("ATTEMPTS_EXHAUSTED", exhausted.get("error_code"));
+        assertNull(exhausted.get("active_credit_application_id"));
+        assertEquals("QUEUED", jdbcTemplate.queryForObject(
+                "SELECT status FROM evaluation_jobs WHERE id = ?", String.class, retriedJob));
+    }
+
+    @Test
+    @DisplayName("Should complete a re-run job with the evaluation its previous run already stored")
+    void shouldCompleteRerunJobWithStoredEvaluation() throws Exception {
+        long applicationId = createApplication(4000);
+        long jobId = submitEvaluationJobUseCase.execute(applicationId).getId();
+        // The previous run committed the evaluation, then died before marking the job completed
+        long evaluationId = evaluateCreditApplicationUseCase.execute(applicationId).getId();
+        jdbcTemplate.update("UPDATE evaluation_jobs SET status = 'RUNNING', attempts = 1, started_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(1), jobId);
+        processEvaluationJobsUseCase.requeueStale(Duration.ofMinutes(5));
+        assertTrue(processEvaluationJobsUseCase.claimQueued(100).contains(jobId));
+
+        processEvaluationJobsUseCase.process(jobId);
+
+        Map<String, Object> job = jdbcTemplate.queryForMap(
+                "SELECT status, risk_evaluation_id, error_code FROM evaluation_jobs WHERE id = ?", jobId);
+        assertEquals("COMPLETED", job.get("status"));
+        assertEquals(evaluationId, ((Number) job.get("risk_evaluation_id")).longValue());
+        assertNull(job.get("error_code"));
+        assertEquals(1, evaluationCount(applicationId));
+    }
+
+    @Test
+    @DisplayName("Should store exactly one evaluation when the same application is evaluated concurrently")
+    void shouldEvaluateOnceUnderConcurrentSingleEvaluations() throws Exception {
+        long applicationId = createApplication(4000);
+        int evaluators = 8;
+        CyclicBarrier start = new CyclicBarrier(evaluators);
+        ExecutorService executor = Executors.newFixedThreadPool(evaluators);
+        int succeeded = 0;
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < evaluators; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return evaluateCreditApplicationUseCase.execute(applicationId);
+                }));
+            }
+            for (Future<?> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    BusinessRuleException rejected = assertInstanceOf(BusinessRuleException.class, e.getCause());
+                    assertTrue(Set.of("ALREADY_EVALUATED", "NOT_PENDING").contains(rejected.getCode()));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, succeeded);
+        assertEquals(1, evaluationCount(applicationId));
+        assertEquals("APPROVED", applicationStatus(applicationId));
+    }
+
+    @Test
+    @DisplayName("Should report an application evaluated meanwhile as already evaluated and store the rest of the batch")
+    void shouldSkipApplicationEvaluatedDuringBatch() throws Exception {
+        // Rejected by local rules, so the single evaluation below never waits on the risk central
+        long contested = createApplication(25000);
+        long other = createApplication(4000);
+        CountDownLatch release = new CountDownLatch(1);
+        onRiskCentralCall = () -> {
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The batch holds at its risk central call while the single evaluation commits
+            Future<List<BatchEvaluationItem>> batch = executor.submit(() -> batchEvaluateCreditApplicationsUseCase
+                    .execute(new BatchEvaluationCommand(List.of(contested, other), null)));
+            for (int i = 0; i < 500 && riskCentralCalls.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, riskCentralCalls.get());
+            evaluateCreditApplicationUseCase.execute(contested);
+            release.countDown();
+
+            Map<Long, BatchEvaluationItem> items = batch.get(30, TimeUnit.SECONDS).stream()
+                    .collect(Collectors.toMap(BatchEvaluationItem::creditApplicationId, Function.identity()));
+            assertEquals("ALREADY_EVALUATED", items.get(contested).errorCode());
+            assertTrue(items.get(other).isEvaluated());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, evaluationCount(contested));
+        assertEquals(1, evaluationCount(other));
+        assertEquals("REJECTED", applicationStatus(contested));
+        assertEquals("APPROVED", applicationStatus(other));
+    }
+
+    @Test
+    @DisplayName("Should evaluate each application once when overlapping batches and single evaluations race")
+    void shouldEvaluateOnceUnderConcurrentBatches() throws Exception {
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            applicationIds.add(createApplication(4000));
+        }
+        List<Long> reversed = new ArrayList<>(applicationIds.reversed());
+        int racers = 4;
+        CyclicBarrier start = new CyclicBarrier(racers);
+        ExecutorService executor = Executors.newFixedThreadPool(racers);
+        List<BatchEvaluationItem> items = new CopyOnWriteArrayList<>();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            results.add(executor.submit(() -> {
+                start.await();
+                return items.addAll(batchEvaluateCreditApplicationsUseCase
+                        .execute(new BatchEvaluationCommand(applicationIds, null)));
+            }));
+            results.add(executor.submit(() -> {
+                start.await();
+                return items.addAll(batchEvaluateCreditApplicationsUseCase
+                        .execute(new BatchEvaluationCommand(reversed, null)));
+            }));
+            for (Long applicationId : List.of(applicationIds.get(0), applicationIds.get(5))) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        evaluateCreditApplicationUseCase.execute(applicationId);
+                    } catch (BusinessRuleException e) {
+                        // Lost the race to a batch
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // No batch rolled back on a duplicate evaluation; the losers report it per item
+        for (BatchEvaluationItem item : items) {
+            assertTrue(item.isEvaluated() || Set.of("ALREADY_EVALUATED", "NOT_PENDING").contains(item.errorCode()),
+                    () -> "Unexpected outcome " + item.errorCode() + " for " + item.creditApplicationId());
+        }
+        for (Long applicationId : applicationIds) {
+            assertEquals(1, evaluationCount(applicationId));
+            assertEquals("APPROVED", applicationStatus(applicationId));
+        }
+    }
+
+    private long createApplication(int requestedAmount) throws Exception {
+        Map<String, Object> request = Map.of(
+                "memberId", memberId,
+                "requestedAmount", requestedAmount,
+                "termMonths", 12,
+                "proposedRate", 0.01
+        );
+        String response = mockMvc.perform(post("/api/credit-applications")
+                        .header("Authorization", "Bearer " + analystToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private int evaluationCount(long applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM risk_evaluations WHERE credit_application_id = ?", Integer.class, applicationId);
+    }
+
+    private String applicationStatus(long applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM credit_applications WHERE id = ?", String.class, applicationId);
+    }
+
+    private ResultActions evaluate(long applicationId) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/credit-applications/" + applicationId + "/evaluate")
+                        .header("Authorization", "Bearer " + analystToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private static HttpServer startRiskCentral() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/risk/evaluate", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                riskCentralCalls.incrementAndGet();
+                onRiskCentralCall.run();
+                if (riskCentralFailures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                    exchange.sendResponseHeaders(500, -1);
+                } else {
+                    byte[] body = ("{\"score\":" + RISK_CENTRAL_SCORE + ",\"riskLevel\":\"LOW\",\"detail\":\"Test risk central\"}")
+                            .getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                exchange.close();
+            });
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class LocalRateLimitIntegrationTest extends RateLimitIntegrationTestSupport {
+
+    @DynamicPropertySource
+    static void configureStore(DynamicPropertyRegistry registry) {
+        registry.add("rate-limit.store", () -> "local");
+    }
+}
\ No newline at end of file
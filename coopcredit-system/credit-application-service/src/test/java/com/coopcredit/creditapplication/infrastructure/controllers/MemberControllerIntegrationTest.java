@@ -3,6 +3,7 @@ package com.coopcredit.creditapplication.infrastructure.controllers;
 import com.coopcredit.creditapplication.domain.model.User;
 import com.coopcredit.creditapplication.domain.model.enums.UserRole;
 import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.adapters.persistence.IdSequenceSeeder;
 import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -22,6 +24,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -60,6 +64,12 @@ class MemberControllerIntegrationTest {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdSequenceSeeder idSequenceSeeder;
+
     private String adminToken;
 
     @BeforeEach
@@ -135,4 +145,105 @@ class MemberControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.name").value("Jane Doe"));
     }
-}
+
+    @Test
+    @DisplayName("Should page members with a cursor")
+    void shouldPageMembersWithCursor() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            Map<String, Object> createRequest = Map.of(
+                    "document", "PAGE" + i + System.currentTimeMillis(),
+                    "name", "Page Member " + i,
+                    "salary", 4000,
+                    "affiliationDate", "2024-03-01"
+            );
+            mockMvc.perform(post("/api/members")
+                            .header("Authorization", "Bearer " + adminToken)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest)))
+                    .andExpect(status().isOk());
+        }
+
+        var firstPage = mockMvc.perform(get("/api/members")
+                        .param("limit", "1")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn().getResponse();
+
+        long firstId = objectMapper.readTree(firstPage.getContentAsString()).get(0).get("id").asLong();
+
+        String secondPage = mockMvc.perform(get("/api/members")
+                        .param("limit", "1")
+                        .param("cursor", firstPage.getHeader("X-Next-Cursor"))
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(objectMapper.readTree(secondPage).get(0).get("id").asLong() > firstId);
+    }
+
+    @Test
+    @DisplayName("Should import members from CSV and report rejected rows")
+    void shouldImportMembersFromCsv() throws Exception {
+        long suffix = System.currentTimeMillis();
+        String csv = String.join("\n",
+                "document,name,salary,affiliationDate",
+                "IMPA" + suffix + ",Import One,4000,2024-01-01",
+                "IMPB" + suffix + ",Import Two,abc,2024-01-01",
+                "IMPA" + suffix + ",Import Repeated,4000,2024-01-01",
+                "IMPC" + suffix + ",\"Three, Import\",4500,");
+
+        mockMvc.perform(post("/api/members/import")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(4))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].errorCode").value("INVALID_ROW"))
+                .andExpect(jsonPath("$.errors[1].line").value(4))
+                .andExpect(jsonPath("$.errors[1].errorCode").value("DUPLICATE_DOCUMENT"));
+
+        mockMvc.perform(get("/api/members/document/IMPC" + suffix)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Three, Import"));
+    }
+
+    @Test
+    @DisplayName("Should forbid member imports to the MEMBER role")
+    void shouldForbidImportForMemberRole() throws Exception {
+        User member = userRepository.save(User.builder()
+                .username("member_" + System.nanoTime())
+                .password(passwordEncoder.encode("member123"))
+                .role(UserRole.ROLE_MEMBER)
+                .enabled(true)
+                .build());
+
+        mockMvc.perform(post("/api/members/import")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.generateToken(member))
+                        .contentType("text/csv")
+                        .content("document,name,salary\nIMPM" + System.currentTimeMillis() + ",Forbidden,4000"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should move the member id sequence past rows inserted outside the service, and never back")
+    void shouldSeedIdSequencePastExistingIds() throws Exception {
+        long existingId = 1_000_000L + System.nanoTime() % 1_000_000L;
+        jdbcTemplate.update("INSERT INTO members (id, document, name, salary, affiliation_date, status, created_at, updated_at) "
+                        + "VALUES (?, ?, 'Legacy Member', 3000, CURRENT_DATE, 'ACTIVE', NOW(), NOW())",
+                existingId, "SEQ" + existingId);
+
+        idSequenceSeeder.seed();
+        assertEquals(existingId + 1, jdbcTemplate.queryForObject("SELECT next_val FROM members_seq", Long.class));
+
+        jdbcTemplate.update("DELETE FROM members WHERE id = ?", existingId);
+        idSequenceSeeder.seed();
+        assertEquals(existingId + 1, jdbcTemplate.queryForObject("SELECT next_val FROM members_seq", Long.class));
+    }
+}
\ No newline at end of file
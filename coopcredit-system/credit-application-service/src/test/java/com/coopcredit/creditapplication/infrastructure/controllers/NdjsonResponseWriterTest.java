@@ -0,0 +1,33 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NdjsonResponseWriterTest {
+
+    @Test
+    @DisplayName("Should gzip when gzip is accepted with a non-zero q-value")
+    void shouldAcceptGzip() {
+        assertTrue(NdjsonResponseWriter.acceptsGzip("gzip"));
+        assertTrue(NdjsonResponseWriter.acceptsGzip("deflate, gzip;q=0.5"));
+        assertTrue(NdjsonResponseWriter.acceptsGzip("GZIP; Q=1.0"));
+        assertTrue(NdjsonResponseWriter.acceptsGzip("x-gzip"));
+        assertTrue(NdjsonResponseWriter.acceptsGzip("br, *;q=0.1"));
+    }
+
+    @Test
+    @DisplayName("Should not gzip when gzip is refused, absent or only excluded")
+    void shouldRefuseGzip() {
+        assertFalse(NdjsonResponseWriter.acceptsGzip(null));
+        assertFalse(NdjsonResponseWriter.acceptsGzip("identity"));
+        assertFalse(NdjsonResponseWriter.acceptsGzip("gzip;q=0"));
+        assertFalse(NdjsonResponseWriter.acceptsGzip("gzip;q=0.000, deflate"));
+        assertFalse(NdjsonResponseWriter.acceptsGzip("*;q=0"));
+        // The explicit entry wins over the wildcard
+        assertFalse(NdjsonResponseWriter.acceptsGzip("gzip;q=0, *"));
+        assertFalse(NdjsonResponseWriter.acceptsGzip("gzip;q=oops"));
+    }
+}
\ No newline at end of file
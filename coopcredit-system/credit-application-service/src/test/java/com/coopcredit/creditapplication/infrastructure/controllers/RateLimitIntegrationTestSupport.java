@@ -0,0 +1,121 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.UserRole;
+import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Rate limit behaviour shared by both bucket stores: the member listing gets two tokens
+ * every two seconds, one per second, per user. Each test uses a fresh user, so a fresh bucket.
+ */
+abstract class RateLimitIntegrationTestSupport {
+
+    // A quote in the rule name shows the 429 body is built as JSON, not by concatenation
+    static final String RULE_NAME = "list \"members\"";
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("coopcredit_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("rate-limit.enabled", () -> "true");
+        registry.add("rate-limit.rules[0].name", () -> RULE_NAME);
+        registry.add("rate-limit.rules[0].method", () -> "GET");
+        registry.add("rate-limit.rules[0].path", () -> "/api/members");
+        registry.add("rate-limit.rules[0].capacity", () -> "2");
+        registry.add("rate-limit.rules[0].period", () -> "2s");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        User analyst = userRepository.save(User.builder()
+                .username("limited_" + System.nanoTime())
+                .password(passwordEncoder.encode("analyst123"))
+                .role(UserRole.ROLE_ANALYST)
+                .enabled(true)
+                .build());
+        token = jwtTokenProvider.generateToken(analyst);
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After and a JSON body once the bucket is empty")
+    void shouldThrottleWhenBucketIsEmpty() throws Exception {
+        double throttledBefore = throttled();
+
+        listMembers().andExpect(status().isOk());
+        listMembers().andExpect(status().isOk());
+
+        listMembers()
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.message").value("Rate limit '" + RULE_NAME + "' exceeded, retry in 1 seconds"));
+        assertEquals(throttledBefore + 1, throttled());
+    }
+
+    @Test
+    @DisplayName("Should hand out a new token once the Retry-After time has passed")
+    void shouldRefillBucketOverTime() throws Exception {
+        listMembers().andExpect(status().isOk());
+        listMembers().andExpect(status().isOk());
+        String retryAfter = listMembers()
+                .andExpect(status().isTooManyRequests())
+                .andReturn().getResponse().getHeader("Retry-After");
+
+        Thread.sleep(Long.parseLong(retryAfter) * 1000 + 100);
+
+        listMembers().andExpect(status().isOk());
+        // One interval refills one token only
+        listMembers().andExpect(status().isTooManyRequests());
+    }
+
+    private ResultActions listMembers() throws Exception {
+        return mockMvc.perform(get("/api/members").header("Authorization", "Bearer " + token));
+    }
+
+    private double throttled() {
+        return meterRegistry.counter("rate.limit.requests", "rule", RULE_NAME, "outcome", "throttled").count();
+    }
+}
\ No newline at end of file
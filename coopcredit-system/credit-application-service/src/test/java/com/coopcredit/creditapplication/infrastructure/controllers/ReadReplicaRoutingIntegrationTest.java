@@ -0,0 +1,211 @@
+package com.coopcredit.creditapplication.infrastructure.controllers;
+
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.UserRole;
+import com.coopcredit.creditapplication.domain.ports.out.UserRepositoryPort;
+import com.coopcredit.creditapplication.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs against two independent databases (no replication between them), so where a row
+ * is found shows which one served the request: the replica only has the seed data,
+ * the primary only what the test writes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+class ReadReplicaRoutingIntegrationTest {
+
+    @Container
+    static MySQLContainer<?> primary = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("coopcredit_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static MySQLContainer<?> replica = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("coopcredit_replica")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        registry.add("datasource-routing.enabled", () -> "true");
+        registry.add("datasource-routing.replica.url", replica::getJdbcUrl);
+        registry.add("datasource-routing.replica.username", replica::getUsername);
+        registry.add("datasource-routing.replica.password", replica::getPassword);
+        registry.add("datasource-routing.replica.lag-check-enabled", () -> "false");
+        registry.add("credit-evaluation.jobs.enabled", () -> "false");
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepositoryPort userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        User admin = User.builder()
+                .username("admin_" + System.currentTimeMillis())
+                .password(passwordEncoder.encode("admin123"))
+                .role(UserRole.ROLE_ADMIN)
+                .enabled(true)
+                .build();
+        admin = userRepository.save(admin);
+        adminToken = jwtTokenProvider.generateToken(admin);
+    }
+
+    @Test
+    @DisplayName("Should write to the primary and read from the replica")
+    void shouldRouteReadOnlyTransactionsToReplica() throws Exception {
+        Map<String, Object> request = Map.of(
+                "document", "RW" + System.currentTimeMillis(),
+                "name", "Primary Only",
+                "salary", 5000,
+                "affiliationDate", "2024-01-01"
+        );
+
+        String response = mockMvc.perform(post("/api/members")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Long memberId = objectMapper.readTree(response).get("id").asLong();
+
+        mockMvc.perform(get("/api/members/" + memberId)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/members/document/1234567890")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Juan Carlos Pérez"));
+    }
+
+    @Test
+    @DisplayName("Should evaluate, queue and poll an application just written, reading it from the primary")
+    void shouldKeepEvaluationReadsOnPrimary() throws Exception {
+        Long memberId = createMember();
+        double pinnedBefore = meterRegistry.get("datasource.routing.connections")
+                .tag("reason", "read-only-pinned").counter().count();
+
+        // Five times the salary: rejected by local rules, so no risk central call is made
+        mockMvc.perform(post("/api/credit-applications/" + createApplication(memberId) + "/evaluate")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.finalDecision").value("REJECTED"));
+
+        String job = mockMvc.perform(post("/api/credit-applications/" + createApplication(memberId) + "/evaluate/async")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/credit-applications/evaluation-jobs/" + objectMapper.readTree(job).get("jobId").asLong())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        assertTrue(meterRegistry.get("datasource.routing.connections")
+                .tag("reason", "read-only-pinned").counter().count() > pinnedBefore);
+    }
+
+    @Test
+    @DisplayName("Should count routing decisions and publish the replica lag gauge")
+    void shouldPublishRoutingMeters() throws Exception {
+        double toReplicaBefore = meterRegistry.get("datasource.routing.connections")
+                .tag("target", "replica").counter().count();
+
+        mockMvc.perform(get("/api/members/document/1234567890")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        assertTrue(meterRegistry.get("datasource.routing.connections")
+                .tag("target", "replica").counter().count() > toReplicaBefore);
+        assertNotNull(meterRegistry.get("datasource.replica.lag").gauge());
+    }
+
+    private Long createMember() throws Exception {
+        Map<String, Object> request = Map.of(
+                "document", "EV" + System.nanoTime(),
+                "name", "Primary Only",
+                "salary", 5000,
+                "affiliationDate", "2024-01-01"
+        );
+        String response = mockMvc.perform(post("/api/members")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private Long createApplication(Long memberId) throws Exception {
+        Map<String, Object> request = Map.of(
+                "memberId", memberId,
+                "requestedAmount", 25000,
+                "termMonths", 12,
+                "proposedRate", 0.01
+        );
+        String response = mockMvc.perform(post("/api/credit-applications")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+}
\ No newline at end of file
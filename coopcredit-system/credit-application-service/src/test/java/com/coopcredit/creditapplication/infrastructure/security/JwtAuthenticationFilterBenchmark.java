@@ -0,0 +1,101 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request in {@link JwtAuthenticationFilter}: the previous
+ * path (a parser built and the signature verified three times per request) against the
+ * single parse, with and without the verified-token cache.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.coopcredit.creditapplication.infrastructure.security.JwtAuthenticationFilterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "coopcredit-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+    @Param({"false", "true"})
+    private boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private SecretKey secretKey;
+    private String token;
+    private String authorization;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 86_400_000L, cacheEnabled, 10_000,
+                new SimpleMeterRegistry());
+        // Empty and never refreshed: this benchmark is about token parsing
+        TokenRevocationList noRevocations = new TokenRevocationList(null, new SimpleMeterRegistry(), 86_400_000L, 0.01);
+        filter = new JwtAuthenticationFilter(provider, noRevocations);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = provider.generateToken(User.builder()
+                .id(42L)
+                .username("benchmark")
+                .role(UserRole.ROLE_ANALYST)
+                .enabled(true)
+                .build());
+        authorization = "Bearer " + token;
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        // OncePerRequestFilter marks the request as filtered, so each call needs its own
+        MockHttpServletRequest perCall = new MockHttpServletRequest("GET", "/api/credit-applications");
+        perCall.addHeader("Authorization", authorization);
+        filter.doFilter(perCall, new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public void threeParses(Blackhole blackhole) {
+        // What the filter did before: validate, then read the username, then the role
+        blackhole.consume(claims());
+        blackhole.consume(claims().getSubject());
+        blackhole.consume(claims().get("role", String.class));
+    }
+
+    private Claims claims() {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+import com.coopcredit.creditapplication.domain.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BlockingEncoder encoder = new BlockingEncoder();
+    // One thread and one queue slot: a second call waits, a third is refused
+    private final PasswordHasher hasher = new PasswordHasher(encoder, meterRegistry, 1, 1);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        encoder.release.countDown();
+        callers.shutdownNow();
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should refuse with 503 semantics once the pool and its queue are full")
+    void shouldRefuseWhenQueueIsFull() throws Exception {
+        Future<String> running = callers.submit(() -> hasher.encode("first"));
+        assertTrue(encoder.entered.await(5, TimeUnit.SECONDS));
+        Future<String> queued = callers.submit(() -> hasher.encode("second"));
+        awaitQueued(1);
+
+        assertThrows(ServiceOverloadedException.class, () -> hasher.encode("third"));
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        encoder.release.countDown();
+        assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should answer an interrupted wait as overloaded and keep the interrupt flag")
+    void shouldMapInterruptToOverloaded() throws Exception {
+        callers.submit(() -> hasher.encode("first"));
+        assertTrue(encoder.entered.await(5, TimeUnit.SECONDS));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean interruptedAfter = new AtomicBoolean();
+        Thread waiting = new Thread(() -> {
+            try {
+                hasher.matches("second", "hashed:second");
+            } catch (RuntimeException e) {
+                failure.set(e);
+                interruptedAfter.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        waiting.start();
+        awaitQueued(1);
+        waiting.interrupt();
+        waiting.join(5000);
+
+        assertInstanceOf(ServiceOverloadedException.class, failure.get());
+        assertTrue(interruptedAfter.get());
+    }
+
+    private void awaitQueued(double expected) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.get("password.hashing.queued").gauge().value() < expected; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, meterRegistry.get("password.hashing.queued").gauge().value());
+    }
+
+    /**
+     * Holds every hash until {@link #release} opens, so calls pile up on the pool.
+     */
+    private static final class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hold();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            hold();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void hold() {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
\ No newline at end of file
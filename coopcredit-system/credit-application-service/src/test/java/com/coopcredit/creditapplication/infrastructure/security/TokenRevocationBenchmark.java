@@ -0,0 +1,121 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+import com.coopcredit.creditapplication.domain.model.User;
+import com.coopcredit.creditapplication.domain.model.enums.UserRole;
+import com.coopcredit.creditapplication.infrastructure.entities.RevokedTokenEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the revocation check adds to a request in {@link JwtAuthenticationFilter}, with
+ * nothing revoked and with many revoked tokens in memory: the check alone for a valid
+ * token (the common case, answered by the Bloom filter), for a revoked one, and the whole
+ * filter (token cache enabled) with and without the check.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.coopcredit.creditapplication.infrastructure.security.TokenRevocationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenRevocationBenchmark {
+
+    private static final String SECRET = "coopcredit-secret-key-must-be-at-least-256-bits-long-for-hs256";
+    private static final long EXPIRATION = 86_400_000L;
+
+    @Param({"0", "10000", "1000000"})
+    private int revokedTokens;
+
+    private TokenRevocationList revocationList;
+    private JwtAuthenticationFilter filterWithRevocations;
+    private JwtAuthenticationFilter filterWithoutRevocations;
+    private JwtPrincipal validPrincipal;
+    private JwtPrincipal revokedPrincipal;
+    private String authorization;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, EXPIRATION, true, 10_000, registry);
+        String token = provider.generateToken(User.builder()
+                .id(42L)
+                .username("benchmark")
+                .role(UserRole.ROLE_ANALYST)
+                .enabled(true)
+                .build());
+        authorization = "Bearer " + token;
+        validPrincipal = provider.authenticate(token).orElseThrow();
+
+        // Loaded directly, never refreshed from a database
+        revocationList = new TokenRevocationList(null, registry, EXPIRATION, 0.01);
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedTokenEntity> rows = new ArrayList<>(revokedTokens);
+        for (int i = 0; i < revokedTokens; i++) {
+            rows.add(new RevokedTokenEntity(UUID.randomUUID().toString(), 1_000L + i % 5_000,
+                    now, now.plusDays(1), "LOGOUT"));
+        }
+        String revokedId = revokedTokens > 0 ? rows.get(0).getTokenId() : UUID.randomUUID().toString();
+        revocationList.load(rows);
+        revokedPrincipal = new JwtPrincipal("revoked", 1_000L, null, "ROLE_ANALYST", revokedId,
+                validPrincipal.issuedAt(), validPrincipal.expiresAt());
+
+        filterWithRevocations = new JwtAuthenticationFilter(provider, revocationList);
+        filterWithoutRevocations = new JwtAuthenticationFilter(provider,
+                new TokenRevocationList(null, registry, EXPIRATION, 0.01));
+        chain = (req, res) -> { };
+    }
+
+    @Benchmark
+    public boolean checkValidToken() {
+        return revocationList.isRevoked(validPrincipal);
+    }
+
+    @Benchmark
+    public boolean checkRevokedToken() {
+        return revocationList.isRevoked(revokedPrincipal);
+    }
+
+    @Benchmark
+    public Object filterWithRevocations() throws Exception {
+        return filter(filterWithRevocations);
+    }
+
+    @Benchmark
+    public Object filterWithoutRevocations() throws Exception {
+        return filter(filterWithoutRevocations);
+    }
+
+    private Object filter(JwtAuthenticationFilter filter) throws Exception {
+        // OncePerRequestFilter marks the request as filtered, so each call needs its own
+        MockHttpServletRequest perCall = new MockHttpServletRequest("GET", "/api/credit-applications");
+        perCall.addHeader("Authorization", authorization);
+        filter.doFilter(perCall, new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TokenRevocationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
\ No newline at end of file
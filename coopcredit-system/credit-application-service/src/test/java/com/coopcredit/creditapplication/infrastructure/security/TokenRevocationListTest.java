@@ -0,0 +1,100 @@
+package com.coopcredit.creditapplication.infrastructure.security;
+
+import com.coopcredit.creditapplication.infrastructure.entities.RevokedTokenEntity;
+import com.coopcredit.creditapplication.infrastructure.repositories.JpaRevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTest {
+
+    private static final long EXPIRATION = 86_400_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<RevokedTokenEntity> saved = new ArrayList<>();
+    private int reads;
+
+    @Test
+    @DisplayName("Should not count a user cut-off that does not cover the token as a false positive")
+    void shouldNotCountCoveredUserAsFalsePositive() {
+        TokenRevocationList revocationList = revocationList(null);
+        Instant cutoff = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(60);
+        revocationList.load(List.of(new RevokedTokenEntity(null, 1L,
+                LocalDateTime.ofInstant(cutoff, ZoneId.systemDefault()), LocalDateTime.now().plusDays(1), "logout")));
+
+        assertTrue(revocationList.isRevoked(principal(1L, "before", cutoff.minusSeconds(1))));
+        assertFalse(revocationList.isRevoked(principal(1L, "after", cutoff.plusSeconds(1))));
+
+        assertEquals(1, meterRegistry.get("jwt.revocation.rejected").counter().count());
+        assertEquals(0, meterRegistry.get("jwt.revocation.bloom.false.positives").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should enforce a revocation made on this node without reading the table")
+    void shouldRevokeInPlace() {
+        TokenRevocationList revocationList = revocationList(fakeRepository());
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).minusSeconds(60);
+        JwtPrincipal token = principal(1L, "token-1", issuedAt);
+        JwtPrincipal otherToken = principal(2L, "token-2", issuedAt);
+        JwtPrincipal userToken = principal(3L, "token-3", issuedAt);
+
+        revocationList.revoke(token, "logout");
+        revocationList.revokeAllOf(3L, "password change");
+
+        assertTrue(revocationList.isRevoked(token));
+        assertTrue(revocationList.isRevoked(userToken));
+        assertFalse(revocationList.isRevoked(otherToken));
+        assertEquals(2, saved.size());
+        assertEquals(0, reads);
+    }
+
+    @Test
+    @DisplayName("Should publish the number of revocations held once constructed as a bean")
+    void shouldRegisterGaugeAfterConstruction() {
+        TokenRevocationList revocationList = revocationList(null);
+        assertTrue(meterRegistry.find("jwt.revocation.entries").gauges().isEmpty());
+
+        revocationList.registerGauge();
+        revocationList.load(List.of(new RevokedTokenEntity("token-1", 1L,
+                LocalDateTime.now(), LocalDateTime.now().plusDays(1), "logout")));
+
+        assertEquals(1, meterRegistry.get("jwt.revocation.entries").gauge().value());
+    }
+
+    private TokenRevocationList revocationList(JpaRevokedTokenRepository repository) {
+        return new TokenRevocationList(repository, meterRegistry, EXPIRATION, 0.01);
+    }
+
+    // Records saves and counts reads; no other repository method is expected
+    private JpaRevokedTokenRepository fakeRepository() {
+        return (JpaRevokedTokenRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{JpaRevokedTokenRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> {
+                        saved.add((RevokedTokenEntity) args[0]);
+                        yield args[0];
+                    }
+                    case "findByExpiresAtAfter" -> {
+                        reads++;
+                        yield List.of();
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static JwtPrincipal principal(Long userId, String tokenId, Instant issuedAt) {
+        return new JwtPrincipal("user" + userId, userId, null, "ROLE_MEMBER", tokenId, issuedAt,
+                issuedAt.plusMillis(EXPIRATION));
+    }
+}
\ No newline at end of file
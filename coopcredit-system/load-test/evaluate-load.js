@@ -0,0 +1,72 @@
+// k6 load test for the evaluation flow.
+//
+// Run the risk central mock with artificial latency, then run this script once with
+// VIRTUAL_THREADS_ENABLED=false and once with VIRTUAL_THREADS_ENABLED=true on the
+// credit service and compare http_reqs/s and http_req_duration p(95). Start the credit
+// service with --rate-limit.enabled=false, or the evaluate rule throttles the run.
+// Recorded runs are in RESULTS.md.
+//
+//   k6 run -e APPLICATIONS=4000 -e VUS=400 load-test/evaluate-load.js
+
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const APPLICATIONS = parseInt(__ENV.APPLICATIONS || '2000');
+const VUS = parseInt(__ENV.VUS || '400');
+const RUN_ID = Date.now();
+
+export const options = {
+    setupTimeout: '10m',
+    scenarios: {
+        evaluate: {
+            executor: 'shared-iterations',
+            vus: VUS,
+            iterations: APPLICATIONS,
+            maxDuration: '10m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+function json(token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+    }
+    return { headers };
+}
+
+export function setup() {
+    const credentials = { username: `loadtest${RUN_ID}`, password: 'loadtest123' };
+    http.post(`${BASE_URL}/api/auth/register`,
+        JSON.stringify({ ...credentials, role: 'ROLE_ANALYST' }), json());
+    const token = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify(credentials), json()).json('token');
+
+    const ids = [];
+    for (let i = 0; i < APPLICATIONS; i++) {
+        const member = http.post(`${BASE_URL}/api/members`, JSON.stringify({
+            document: `LT${RUN_ID}${i}`,
+            name: `Load Test ${i}`,
+            salary: 5000,
+            affiliationDate: '2020-01-01',
+        }), json(token));
+        const application = http.post(`${BASE_URL}/api/credit-applications`, JSON.stringify({
+            memberId: member.json('id'),
+            requestedAmount: 10000,
+            termMonths: 12,
+            proposedRate: 1.5,
+        }), json(token));
+        ids.push(application.json('id'));
+    }
+    return { token, ids };
+}
+
+export default function (data) {
+    const id = data.ids[exec.scenario.iterationInTest];
+    const response = http.post(`${BASE_URL}/api/credit-applications/${id}/evaluate`, null, json(data.token));
+    check(response, { 'evaluated': (r) => r.status === 200 });
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+// Node.js (18+) port of evaluate-load.js for machines without k6: same setup, same
+// shared-iterations scenario, and a summary of the evaluate requests only.
+//
+//   node load-test/evaluate-load.mjs
+//   APPLICATIONS=4000 VUS=400 node load-test/evaluate-load.mjs
+
+const BASE_URL = process.env.BASE_URL || 'http://localhost:8080';
+const APPLICATIONS = parseInt(process.env.APPLICATIONS || '2000');
+const VUS = parseInt(process.env.VUS || '400');
+const RUN_ID = Date.now();
+
+function json(token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+    }
+    return headers;
+}
+
+async function post(path, body, token) {
+    const response = await fetch(`${BASE_URL}${path}`, {
+        method: 'POST',
+        headers: json(token),
+        body: body === undefined ? undefined : JSON.stringify(body),
+    });
+    const text = await response.text();
+    return { status: response.status, body: text ? JSON.parse(text) : null };
+}
+
+async function setup() {
+    const credentials = { username: `loadtest${RUN_ID}`, password: 'loadtest123' };
+    await post('/api/auth/register', { ...credentials, role: 'ROLE_ANALYST' });
+    const token = (await post('/api/auth/login', credentials)).body.token;
+
+    const ids = [];
+    for (let i = 0; i < APPLICATIONS; i++) {
+        const member = await post('/api/members', {
+            document: `LT${RUN_ID}${i}`,
+            name: `Load Test ${i}`,
+            salary: 5000,
+            affiliationDate: '2020-01-01',
+        }, token);
+        const application = await post('/api/credit-applications', {
+            memberId: member.body.id,
+            requestedAmount: 10000,
+            termMonths: 12,
+            proposedRate: 1.5,
+        }, token);
+        ids.push(application.body.id);
+    }
+    return { token, ids };
+}
+
+function percentile(sorted, p) {
+    return sorted[Math.min(sorted.length - 1, Math.ceil(p / 100 * sorted.length) - 1)];
+}
+
+const data = await setup();
+const durations = [];
+const statuses = {};
+let failed = 0;
+let next = 0;
+
+async function vu() {
+    while (next < data.ids.length) {
+        const id = data.ids[next++];
+        const start = performance.now();
+        try {
+            const response = await fetch(`${BASE_URL}/api/credit-applications/${id}/evaluate`, {
+                method: 'POST',
+                headers: json(data.token),
+            });
+            await response.arrayBuffer();
+            statuses[response.status] = (statuses[response.status] || 0) + 1;
+            if (response.status !== 200) {
+                failed++;
+            }
+        } catch (e) {
+            statuses[e.cause?.code || e.name] = (statuses[e.cause?.code || e.name] || 0) + 1;
+            failed++;
+        }
+        durations.push(performance.now() - start);
+    }
+}
+
+const started = performance.now();
+await Promise.all(Array.from({ length: VUS }, vu));
+const elapsed = (performance.now() - started) / 1000;
+
+durations.sort((a, b) => a - b);
+const average = durations.reduce((sum, d) => sum + d, 0) / durations.length;
+console.log(`evaluate requests: ${durations.length} in ${elapsed.toFixed(2)} s, ${failed} failed`
+    + ` (statuses ${JSON.stringify(statuses)})`);
+console.log(`http_reqs/s: ${(durations.length / elapsed).toFixed(1)}`);
+console.log(`http_req_duration: avg=${average.toFixed(0)}ms p(50)=${percentile(durations, 50).toFixed(0)}ms `
+    + `p(95)=${percentile(durations, 95).toFixed(0)}ms max=${durations[durations.length - 1].toFixed(0)}ms`);
\ No newline at end of file
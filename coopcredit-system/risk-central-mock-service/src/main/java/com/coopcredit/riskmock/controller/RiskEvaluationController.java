@@ -3,20 +3,35 @@ package com.coopcredit.riskmock.controller;
 import com.coopcredit.riskmock.dto.RiskEvaluationRequest;
 import com.coopcredit.riskmock.dto.RiskEvaluationResponse;
 import com.coopcredit.riskmock.service.RiskScoreService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/risk")
 @Tag(name = "Risk Evaluation", description = "External risk central service mock")
 public class RiskEvaluationController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    
     private final RiskScoreService riskScoreService;
+    private final ObjectMapper objectMapper;
     
-    public RiskEvaluationController(RiskScoreService riskScoreService) {
+    public RiskEvaluationController(RiskScoreService riskScoreService, ObjectMapper objectMapper) {
         this.riskScoreService = riskScoreService;
+        this.objectMapper = objectMapper;
     }
     
     @PostMapping("/evaluate")
@@ -26,6 +41,45 @@ public class RiskEvaluationController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping(value = "/evaluate/batch", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Evaluate credit risk for many requests; responses keep the request order and echo each requestId")
+    public ResponseEntity<List<RiskEvaluationResponse>> evaluateRiskBatch(@RequestBody List<RiskEvaluationRequest> requests) {
+        return ResponseEntity.ok(riskScoreService.evaluateRiskBatch(requests));
+    }
+    
+    @PostMapping(value = "/evaluate/batch", consumes = NDJSON, produces = NDJSON)
+    @Operation(summary = "Evaluate credit risk for a newline-delimited JSON stream of requests")
+    public ResponseEntity<StreamingResponseBody> evaluateRiskStream(HttpServletRequest request) throws IOException {
+        BufferedReader reader = request.getReader();
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(out)) {
+                riskScoreService.evaluateRiskStream(readLines(reader), response -> {
+                    try {
+                        writer.write(response);
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+    
+    private Iterator<RiskEvaluationRequest> readLines(BufferedReader reader) {
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> {
+                    try {
+                        return objectMapper.readValue(line, RiskEvaluationRequest.class);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .iterator();
+    }
+    
     @GetMapping("/health")
     @Operation(summary = "Health check endpoint")
     public ResponseEntity<String> health() {
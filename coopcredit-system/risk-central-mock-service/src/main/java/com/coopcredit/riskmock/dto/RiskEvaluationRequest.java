@@ -2,7 +2,11 @@ package com.coopcredit.riskmock.dto;
 
 import java.math.BigDecimal;
 
+/**
+ * {@code requestId} is optional; the bulk endpoint echoes it so callers can match answers.
+ */
 public record RiskEvaluationRequest(
         String document,
-        BigDecimal requestedAmount
+        BigDecimal requestedAmount,
+        String requestId
 ) {}
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.coopcredit.riskmock.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record RiskEvaluationResponse(
         Integer score,
         String riskLevel,
-        String detail
+        String detail,
+        String requestId
 ) {}
\ No newline at end of file
@@ -4,13 +4,27 @@ import com.coopcredit.riskmock.dto.RiskEvaluationRequest;
 import com.coopcredit.riskmock.dto.RiskEvaluationResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
 @Service
 public class RiskScoreService {
     
     private static final Logger log = LoggerFactory.getLogger(RiskScoreService.class);
     
+    private final long latencyMs;
+    
+    /**
+     * @param latencyMs artificial delay per evaluation, used to emulate a slow bureau in load tests
+     */
+    public RiskScoreService(@Value("${risk-central.mock.latency-ms:0}") long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+    
     /**
      * Simulates a risk score calculation based on document and amount.
      * In a real scenario, this would call external credit bureaus and scoring systems.
@@ -19,6 +33,36 @@ public class RiskScoreService {
         log.info("Evaluating risk for document: {}, amount: {}", 
                 request.document(), request.requestedAmount());
         
+        simulateLatency();
+        
+        return score(request);
+    }
+    
+    /**
+     * Scores several requests in one round trip; responses keep the order of the requests.
+     * The simulated latency is paid once per batch, as with a bureau's bulk endpoint.
+     */
+    public List<RiskEvaluationResponse> evaluateRiskBatch(List<RiskEvaluationRequest> requests) {
+        log.info("Evaluating risk for a batch of {} requests", requests.size());
+        
+        simulateLatency();
+        
+        return requests.stream().map(this::score).toList();
+    }
+    
+    /**
+     * Streaming variant of {@link #evaluateRiskBatch}: each response is handed to the sink
+     * as soon as its request has been read.
+     */
+    public void evaluateRiskStream(Iterator<RiskEvaluationRequest> requests, Consumer<RiskEvaluationResponse> sink) {
+        simulateLatency();
+        
+        while (requests.hasNext()) {
+            sink.accept(score(requests.next()));
+        }
+    }
+    
+    private RiskEvaluationResponse score(RiskEvaluationRequest request) {
         // Generate a score based on document characteristics (simulation)
         int score = calculateScore(request.document(), request.requestedAmount());
         String riskLevel = determineRiskLevel(score);
@@ -26,7 +70,18 @@ public class RiskScoreService {
         
         log.info("Risk evaluation complete - Score: {}, Level: {}", score, riskLevel);
         
-        return new RiskEvaluationResponse(score, riskLevel, detail);
+        return new RiskEvaluationResponse(score, riskLevel, detail, request.requestId());
+    }
+    
+    private void simulateLatency() {
+        if (latencyMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
     
     private int calculateScore(String document, java.math.BigDecimal amount) {